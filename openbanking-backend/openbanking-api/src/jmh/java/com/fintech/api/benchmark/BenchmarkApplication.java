@@ -0,0 +1,61 @@
+package com.fintech.api.benchmark;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fintech.api.repository.NotificationOutboxRepository;
+import com.fintech.api.service.AccountService;
+import com.fintech.api.service.AccountStripeService;
+import com.fintech.api.service.NotificationService;
+import com.fintech.api.service.NotificationStreamHub;
+import com.fintech.api.service.NotificationUnreadCounter;
+import com.fintech.api.service.TransferAuthService;
+
+// 벤치마크 전용 스프링 컨텍스트
+// 전체 애플리케이션(JWT 키 파일, redis, 웹 서버, 스케줄러)을 띄우지 않고 이체 경로에 필요한 빈만 등록
+// db 는 내장 H2 (MySQL 모드), 스키마는 엔티티 기준으로 생성 (Flyway 마이그레이션은 MySQL 전용 문법)
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+    RedisAutoConfiguration.class,
+    RedisRepositoriesAutoConfiguration.class,
+    SecurityAutoConfiguration.class,
+    UserDetailsServiceAutoConfiguration.class
+})
+@EntityScan("com.fintech.api.domain")
+@EnableJpaRepositories("com.fintech.api.repository")
+@Import({AccountService.class, AccountStripeService.class, NotificationService.class, NotificationOutboxRepository.class})
+public class BenchmarkApplication {
+
+    // 비밀번호 검증 비용이 락 전략 차이를 가리지 않도록 최소 cost 로 (운영은 기본 cost 10)
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(4);
+    }
+
+    // 벤치마크는 계좌 비밀번호로만 이체 -> 토큰 형태가 아니면 jwt / redis 를 사용하지 않음
+    @Bean
+    TransferAuthService transferAuthService() {
+        return new TransferAuthService(null, null, null, null, 0, 0);
+    }
+
+    // 이체 경로는 알림을 outbox 에만 기록 -> 안 읽은 알림 카운터 / SSE 허브(redis)는 사용하지 않음
+    @Bean
+    NotificationUnreadCounter notificationUnreadCounter() {
+        return new NotificationUnreadCounter(null, null, 1, 1);
+    }
+
+    @Bean
+    NotificationStreamHub notificationStreamHub() {
+        return new NotificationStreamHub(null, null, 1, 1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.fintech.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.fintech.api.domain.Account;
+
+// 이체 핫패스 벤치마크
+// 낙관락(transfer) / 비관락(transferWithPessimisticlock) / 예약이체(transferForSystem) 를
+// 단일 스레드, 다중 스레드(4) x 경합 없음 / 경합(같은 계좌) 조합으로 측정
+// 실행: gradle jmh -> build/reports/jmh/results.json
+
+// 낙관락 경로는 경합시 재시도 없이 충돌 예외가 나므로 실패 건수도 처리량에 포함됨 (재시도 정책은 OptimisticTransferRetrier 몫)
+// 비관락 / 예약이체 경로는 경합시 행 락 대기열에서 순서대로 처리되므로 예외를 잡지 않음
+// -> 여기서 충돌 예외가 나면 그 조합은 점수 없이 중단되고, 그 자체가 회귀 (PessimisticTransferConcurrencyTest 와 같은 조건)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransferBenchmark {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int threadIndex;
+        long seq;
+        Account from;
+        Account to;
+
+        @Setup
+        public void setUp(TransferBenchmarkState shared) {
+            threadIndex = THREAD_SEQ.getAndIncrement() % TransferBenchmarkState.MAX_THREADS;
+            from = shared.from(threadIndex);
+            to = shared.to(threadIndex);
+        }
+
+        // 호출마다 새 멱등키 (중복 요청으로 처리되지 않도록)
+        String nextRequestId() {
+            return "bench-" + threadIndex + "-" + System.nanoTime() + "-" + (seq++);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void optimistic_1thread(TransferBenchmarkState shared, ThreadState t, Blackhole bh) {
+        optimistic(shared, t, bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void optimistic_4threads(TransferBenchmarkState shared, ThreadState t, Blackhole bh) {
+        optimistic(shared, t, bh);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void pessimistic_1thread(TransferBenchmarkState shared, ThreadState t) {
+        pessimistic(shared, t);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void pessimistic_4threads(TransferBenchmarkState shared, ThreadState t) {
+        pessimistic(shared, t);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void system_1thread(TransferBenchmarkState shared, ThreadState t) {
+        system(shared, t);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void system_4threads(TransferBenchmarkState shared, ThreadState t) {
+        system(shared, t);
+    }
+
+    private static void optimistic(TransferBenchmarkState shared, ThreadState t, Blackhole bh) {
+        try {
+            shared.accountService.transfer(TransferBenchmarkState.EMAIL, shared.bankId, shared.bankId,
+                t.from.getAccountNumber(), t.to.getAccountNumber(), 1L, TransferBenchmarkState.PASSWORD, null, t.nextRequestId());
+        } catch (OptimisticLockingFailureException e) {
+            bh.consume(e); // 경합 충돌
+        }
+    }
+
+    private static void pessimistic(TransferBenchmarkState shared, ThreadState t) {
+        shared.accountService.transferWithPessimisticlock(TransferBenchmarkState.EMAIL, shared.bankId, shared.bankId,
+            t.from.getAccountNumber(), t.to.getAccountNumber(), 1L, TransferBenchmarkState.PASSWORD, null, t.nextRequestId());
+    }
+
+    private static void system(TransferBenchmarkState shared, ThreadState t) {
+        shared.accountService.transferForSystem(t.from.getId(), t.to.getId(), 1L, t.nextRequestId());
+    }
+}
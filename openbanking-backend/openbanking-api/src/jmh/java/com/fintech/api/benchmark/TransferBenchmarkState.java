@@ -0,0 +1,98 @@
+package com.fintech.api.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.User;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.UserRepository;
+import com.fintech.api.service.AccountService;
+
+// 벤치마크 공용 상태 (trial 마다 H2 + 스프링 컨텍스트 1개)
+// UNCONTENDED: 스레드마다 자기 계좌 쌍에서만 이체 -> 락 경합 없음
+// CONTENDED: 모든 스레드가 같은 계좌 쌍에서 이체 -> 핫 계좌
+// LOCK_TIMEOUT: 비관락 경합시 H2 기본 락 대기(1초)를 넘겨 실패하지 않도록
+@State(Scope.Benchmark)
+public class TransferBenchmarkState {
+
+    static final String EMAIL = "bench@test.com";
+    static final String PASSWORD = "1234";
+    static final int MAX_THREADS = 64;
+
+    @Param({"UNCONTENDED", "CONTENDED"})
+    public String scenario;
+
+    ConfigurableApplicationContext context;
+    AccountService accountService;
+    Long bankId;
+    final List<Account> accounts = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE;LOCK_TIMEOUT=10000",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(MAX_THREADS + 4),
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.jpa.open-in-view", "false",
+                "spring.flyway.enabled", "false",
+                "logging.level.root", "WARN"))
+            .run();
+        accountService = context.getBean(AccountService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BankRepository bankRepository = context.getBean(BankRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+
+        User user = userRepository.save(User.builder().name("bench").email(EMAIL).password("x").phone("010-0000-0000").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("999").bankName("벤치은행").build());
+        bankId = bank.getId();
+
+        String encoded = passwordEncoder.encode(PASSWORD);
+        for (int i = 0; i < MAX_THREADS * 2; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                .accountNumber("999-" + (10000000 + i))
+                .accountPassword(encoded)
+                .accountType(AccountType.CHECKING)
+                .balance(Long.MAX_VALUE / 4) // 측정 중 잔액 부족이 나지 않도록
+                .user(user)
+                .bank(bank)
+                .build()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 스레드 번호에 따른 출금 / 입금 계좌
+    Account from(int threadIndex) {
+        return "CONTENDED".equals(scenario) ? accounts.get(0) : accounts.get(2 * threadIndex);
+    }
+
+    Account to(int threadIndex) {
+        return "CONTENDED".equals(scenario) ? accounts.get(1) : accounts.get(2 * threadIndex + 1);
+    }
+}
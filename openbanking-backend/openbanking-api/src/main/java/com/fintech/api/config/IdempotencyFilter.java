@@ -0,0 +1,185 @@
+package com.fintech.api.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.api.dto.ErrorResponseDto;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Idempotency-Key 헤더가 있는 POST 요청의 중복 처리를 redis 에서 먼저 걸러내는 필터 (JWT 필터 다음에 실행)
+// 지금까지는 db 트랜잭션 안에서 (request_id, type) 유니크 제약으로만 중복을 감지 -> 락, BCrypt 비용을 이미 낸 뒤
+// 1. SETNX 로 키 선점 (처리 중 표시, 짧은 TTL)
+// 2. 성공(2xx) 응답이면 상태코드 + 본문을 저장 (긴 TTL) -> 같은 키로 재요청하면 컨트롤러/db 까지 가지 않고 그대로 재전송
+// 3. 실패 응답이면 키 삭제 -> 클라이언트가 같은 키로 다시 시도 가능
+// 처리 중인 키로 다시 들어오면 409
+// redis 장애시에는 그냥 통과 (최종 중복 방지는 여전히 db 유니크 제약)
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY_PREFIX = "idem:";
+    private static final String PROCESSING = "PROCESSING";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration lockTtl;
+    private final Duration responseTtl;
+
+    public IdempotencyFilter(RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.enabled:true}") boolean enabled,
+                             @Value("${idempotency.lock-ttl-seconds:60}") long lockTtlSeconds,
+                             @Value("${idempotency.response-ttl-hours:24}") long responseTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.responseTtl = Duration.ofHours(responseTtlHours);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !"POST".equals(request.getMethod())
+            || request.getHeader(HEADER) == null
+            || request.getHeader(HEADER).isBlank();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        // 키는 사용자 + 경로 단위 (다른 사용자 / 다른 api 의 같은 키와 섞이지 않도록)
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = KEY_PREFIX + auth.getName() + ":" + request.getServletPath() + ":" + request.getHeader(HEADER);
+
+        Boolean claimed;
+        try {
+            claimed = redisTemplate.opsForValue().setIfAbsent(key, PROCESSING, lockTtl);
+        } catch (RuntimeException e) {
+            log.warn("멱등키 redis 확인 실패, db 중복 검사로 처리", e);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(claimed)) {
+            replayOrReject(key, request, response, filterChain);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            stored = store(key, wrapper);
+        } finally {
+            if (!stored) {
+                release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // 이미 선점된 키 -> 저장된 응답이 있으면 재전송, 처리 중이면 409
+    private void replayOrReject(String key, HttpServletRequest request, HttpServletResponse response,
+                                FilterChain filterChain) throws ServletException, IOException {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (value == null) {
+            // 그 사이 실패로 키가 풀림 -> 새 요청처럼 db 까지 (db 유니크 제약이 최종 보장)
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (PROCESSING.equals(value)) {
+            writeJson(response, HttpStatus.CONFLICT.value(), objectMapper.writeValueAsString(ErrorResponseDto.builder()
+                .code("IDEMPOTENCY_IN_PROGRESS")
+                .message("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.")
+                .build()));
+            return;
+        }
+
+        StoredResponse stored = objectMapper.readValue(value, StoredResponse.class);
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setStatus(stored.getStatus());
+        response.getOutputStream().write(stored.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean store(String key, ContentCachingResponseWrapper wrapper) {
+        int status = wrapper.getStatus();
+        if (status < 200 || status >= 300) {
+            return false;
+        }
+        try {
+            StoredResponse stored = new StoredResponse(status, wrapper.getContentType(),
+                new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(stored), responseTtl);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("멱등 응답 저장 실패: {}", key, e);
+            return false;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("멱등키 해제 실패 (TTL 만료 후 해제됨): {}", key, e);
+        }
+    }
+
+    private static void writeJson(HttpServletResponse response, int status, String body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(body);
+    }
+
+    // redis 에 저장하는 응답 (상태코드, Content-Type, 본문)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StoredResponse {
+        private int status;
+        private String contentType;
+        private String body;
+    }
+}
@@ -72,7 +72,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             //추출한 문자열을 토큰 검증해서,
             // 유효한 토큰이라면?
 
-            if (jwtUtil.validateToken(token)) {
+            // 로그인 토큰만 통과 (같은 키로 서명된 이체 인증 토큰 / refresh 토큰은 거절)
+            if (jwtUtil.validateAccessToken(token)) {
 
                 //redis blacklist 조회 확인추가!!!
 
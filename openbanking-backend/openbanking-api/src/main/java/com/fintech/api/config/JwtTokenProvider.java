@@ -10,6 +10,7 @@ import java.security.PublicKey;
 import java.security.spec.*;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
@@ -27,6 +28,9 @@ public class JwtTokenProvider {
    
     private final PrivateKey privateKey;
     private final PublicKey publicKey;
+
+    private static final String TRANSFER_TOKEN_TYPE = "transfer"; // 이체 인증 토큰 구분용 (로그인 토큰으로 이체 인증 X)
+    private static final String ACCESS_TOKEN_TYPE = "access"; // 로그인 토큰 구분용 (이체 인증/refresh 토큰으로 로그인 X)
     // 개인키 불러오기
 
     public JwtTokenProvider() throws Exception {
@@ -60,6 +64,7 @@ public class JwtTokenProvider {
     public String createToken(String username, String role) {
         return Jwts.builder().setSubject(username)
         .claim("role", role)
+        .claim("typ", ACCESS_TOKEN_TYPE)
         .setIssuedAt(new Date()).setExpiration(new Date(System.currentTimeMillis()+ 1800000)) //30분
         .signWith(privateKey, SignatureAlgorithm.RS256).compact();
     }
@@ -76,6 +81,17 @@ public class JwtTokenProvider {
     }
 
 
+    // 로그인(access) 토큰 검증 -> 서명이 유효해도 typ 가 access 가 아니면 false
+    // 이체 인증 토큰, refresh 토큰도 같은 키로 서명되므로 Bearer 인증에는 반드시 이 함수를 사용
+    public boolean validateAccessToken(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder().setSigningKey(publicKey).build().parseClaimsJws(token).getBody();
+            return ACCESS_TOKEN_TYPE.equals(claims.get("typ", String.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     // 토큰에서 현재 사용자 이름을 추출하는 함수
     // 공개키를 사용
     public String getUsername(String token) {
@@ -105,6 +121,29 @@ public class JwtTokenProvider {
     
     }
 
+    // 이체 인증 토큰 발급 (계좌 비밀번호를 한 번 확인한 뒤 짧은 시간 / 정해진 횟수만큼 비밀번호 대신 사용)
+    // 계좌 id 에 묶여 있어 다른 계좌 이체에는 사용 불가, jti 로 redis 에서 사용 횟수를 센다
+    public String createTransferToken(String email, Long accountId, int maxUses, long ttlMillis) {
+        return Jwts.builder().setSubject(email)
+        .setId(UUID.randomUUID().toString())
+        .claim("typ", TRANSFER_TOKEN_TYPE)
+        .claim("acc", accountId)
+        .claim("uses", maxUses)
+        .setIssuedAt(new Date())
+        .setExpiration(new Date(System.currentTimeMillis() + ttlMillis))
+        .signWith(privateKey, SignatureAlgorithm.RS256).compact();
+    }
+
+    // 이체 인증 토큰 검증 -> 서명/만료/타입이 맞으면 claims, 아니면 null
+    public Claims parseTransferToken(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder().setSigningKey(publicKey).build().parseClaimsJws(token).getBody();
+            return TRANSFER_TOKEN_TYPE.equals(claims.get("typ", String.class)) ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // 만료시간 30분자리 토큰이 있는데, 로그아웃을 5분만에 하면?
     // 이 토큰은 25분동안 메모리 차지... -> 이 경우의 토큰을 블랙리스트로 !
 
@@ -6,8 +6,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fintech.api.service.NotificationStreamHub;
+
 @Configuration
 public class RedisConfig {
     
@@ -23,4 +27,14 @@ public class RedisConfig {
         return template;
 
     }
+
+    // 알림 SSE 허브가 다른 서버에서 발행한 알림도 받을 수 있도록 채널 구독
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                NotificationStreamHub notificationStreamHub) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(notificationStreamHub, new ChannelTopic(NotificationStreamHub.CHANNEL));
+        return container;
+    }
 }
@@ -20,6 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 // JWT ->TOKEN 기반 -> STATELESS (세션을 만들지 X), 매 요청마다 토큰으로 인증
@@ -30,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity // @PreAuthorize 동작하기 위해
 public class SecurityConfig { 
     private final JwtAuthenticationFilter JwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter; // Idempotency-Key 중복 요청을 redis 에서 먼저 처리
 
     @Bean
     // 모든 인증/ 인가 규칙 정해지는
@@ -45,6 +47,9 @@ public class SecurityConfig {
         .csrf(AbstractHttpConfigurer::disable) // csrf 보안 비활성화 
         .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))// 세션 저장 x
         .authorizeHttpRequests(auth -> auth // 경로별 접근 권한 설정
+            // 비동기 응답(SSE 알림, 거래내역 내보내기)의 재디스패치 / 오류 페이지 디스패치는 최초 요청에서 이미 인가됨
+            // jwt 필터는 이 디스패치에서 다시 실행되지 않으므로 허용하지 않으면 응답 도중 403 으로 끊김
+            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
              .requestMatchers("/", "/hello").permitAll() 
              .requestMatchers("/redis/**").permitAll()
             .requestMatchers("/api/auth/**").permitAll()
@@ -71,10 +76,12 @@ public class SecurityConfig {
      
             .anyRequest().authenticated()
         )
-        .addFilterBefore(JwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(JwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
         // jwt 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 삽입
         //UsernamePasswordAuthenticationFilter는 spring  이 기본적으로 제공하는 로그인 처리 필터
         // 이 필터앞에 JwtAuthenticationFilter를 삽입하여 컨트롤러 진입  전 사용자 인증 정보를 setting
+        // 멱등키 필터는 인증 이후에 (키를 사용자 단위로 나누기 위해)
        return http.build();
     }
     // 패스워드 인코더 등록
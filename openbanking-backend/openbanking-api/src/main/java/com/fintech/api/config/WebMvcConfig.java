@@ -0,0 +1,23 @@
+package com.fintech.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 비동기 응답 (거래내역 내보내기 StreamingResponseBody) 의 기본 제한 시간
+// 컨테이너 기본값 (30초) 으로는 큰 계좌의 내보내기가 중간에 끊김, SSE 는 SseEmitter 에 자체 제한 시간이 있어 영향 X
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final long asyncTimeoutMillis;
+
+    public WebMvcConfig(@Value("${transaction.export.timeout-ms:1800000}") long asyncTimeoutMillis) {
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
+}
@@ -5,6 +5,7 @@ package com.fintech.api.controller;
 // DTO 설계로 무한 순환 참조 가능성 방지 및 프론트엔드단에서 과하게 많은 정보 받는것 방지
 // 출력 포맷 커스터마이징 어려움 방지
 import org.springframework.web.bind.annotation.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,15 +13,29 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.fintech.api.domain.Account;
 import com.fintech.api.service.AccountService;
+import com.fintech.api.service.AccountStripeService;
+import com.fintech.api.service.AdaptiveTransferRouter;
+import com.fintech.api.service.BatchTransferService;
+import com.fintech.api.service.ShardedTransferExecutor;
+import com.fintech.api.service.TransferAuthService;
+import com.fintech.api.service.TransferIntentService;
+import com.fintech.api.service.TransferShardBusyException;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import com.fintech.api.dto.AccountDto;
 import com.fintech.api.dto.AccountRequestDto;
+import com.fintech.api.dto.BatchTransferRequestDto;
+import com.fintech.api.dto.BatchTransferResponseDto;
+import com.fintech.api.dto.ErrorResponseDto;
 import com.fintech.api.dto.MessageResponse;
+import com.fintech.api.dto.TransferAuthRequestDto;
+import com.fintech.api.dto.TransferAuthResponseDto;
+import com.fintech.api.dto.TransferIntentResponseDto;
 import com.fintech.api.dto.TransferRequestDto;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,6 +47,12 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final ShardedTransferExecutor shardedTransferExecutor; // transfer.shard.count > 0 인 경우 출금계좌 샤드 스레드에서 이체 실행
+    private final AdaptiveTransferRouter adaptiveTransferRouter; // 콜드 계좌는 낙관락(+재시도), 충돌 잦은 계좌는 비관락
+    private final AccountStripeService accountStripeService; // 핫 계좌 입금 분산 (stripe)
+    private final BatchTransferService batchTransferService; // 대량 이체 (한 트랜잭션 + JDBC batch)
+    private final TransferIntentService transferIntentService; // 비동기 이체 (202 + 상태 조회)
+    private final TransferAuthService transferAuthService; // 이체 인증 토큰 발급
 
     // 해당 사용자의 계좌를 생성
     @SecurityRequirement(name = "bearerAuth")
@@ -58,7 +79,7 @@ public class AccountController {
         String email = userDetails.getUsername();
         System.out.println("인증된 사용자 이메일" +  email);
         List<Account> accounts = accountService.getAccountsByEmail(email);
-        List<AccountDto> dtos = accounts.stream().map(AccountDto::from).toList();
+        List<AccountDto> dtos = accounts.stream().map(this::toDto).toList();
         return ResponseEntity.ok(dtos);
     }
 
@@ -77,12 +98,18 @@ public class AccountController {
                 userDetails.getAuthorities().stream()
                     .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))
             )
-            .map(AccountDto::from)
+            .map(this::toDto)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.status(403).build());
     }
 
 
+    // 응답 잔액은 stripe 합계까지 포함한 실제 잔액 (/balance 와 같은 값)
+    private AccountDto toDto(Account account) {
+        return AccountDto.from(account, accountStripeService.totalBalance(account));
+    }
+
+
     // 계좌 삭제!
     
     @SecurityRequirement(name = "bearerAuth")
@@ -112,7 +139,7 @@ public class AccountController {
             .filter(account ->
                 account.getUser().getEmail().equals(userDetails.getUsername()) || userDetails.getAuthorities().stream()
                     .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))
-            ) .map(AccountDto::from) .map(ResponseEntity::ok) .orElse(ResponseEntity.status(403).build());
+            ) .map(this::toDto) .map(ResponseEntity::ok) .orElse(ResponseEntity.status(403).build());
     }
 
 
@@ -121,7 +148,7 @@ public class AccountController {
     // POST 방식 /accounts/transfer
     // 권한 인증 방식 Bearer {token}
     // fromAccountId 하고 toAccountId로?
-    // 낙관락 기반
+    // 낙관락 기반 (AdaptiveTransferRouter: 최근 충돌이 잦은 계좌가 끼면 비관락으로 자동 전환)
 
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/transfer")
@@ -131,7 +158,7 @@ public class AccountController {
         @RequestHeader("Idempotency-Key") String requestId // 프론트에서 받은 멱등키
     ) {
    
-        accountService.transfer(
+        shardedTransferExecutor.execute(requestDto.getFromBankId(), requestDto.getFromAccountNumber(), () -> adaptiveTransferRouter.transfer(
 
             userDetails.getUsername(),
             requestDto.getFromBankId(),
@@ -140,8 +167,9 @@ public class AccountController {
             requestDto.getToAccountNumber(),
             requestDto.getAmount(),
             requestDto.getPassword(),
+            requestDto.getTransferToken(),
             requestId
-        );
+        ));
         return ResponseEntity.ok(new MessageResponse("이체 완료"));
     }
 
@@ -153,19 +181,92 @@ public class AccountController {
         @RequestBody TransferRequestDto requestDto,
         @RequestHeader("Idempotency-Key") String requestId
     ) {
-        accountService.transferWithPessimisticlock(
+        shardedTransferExecutor.execute(requestDto.getFromBankId(), requestDto.getFromAccountNumber(), () -> accountService.transferWithPessimisticlock(
             userDetails.getUsername(),
             requestDto.getFromBankId(),
             requestDto.getToBankId(),
             requestDto.getFromAccountNumber(),
             requestDto.getToAccountNumber(),
             requestDto.getAmount(),
-             requestDto.getPassword(),
+            requestDto.getPassword(),
+            requestDto.getTransferToken(),
             requestId
-        );
+        ));
         return ResponseEntity.ok(new MessageResponse("이체 완료(pessimistic)"));
     }
 
+    // 조건부 UPDATE api (엔티티 로딩 없이 UPDATE ... WHERE balance >= ? 로 차감)
+    // 낙관락 / 비관락과 같은 요청 형식이라 그대로 벤치마크 비교 가능
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/transfer-atomic")
+    public ResponseEntity<MessageResponse> transferAtomic(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestBody TransferRequestDto requestDto,
+        @RequestHeader("Idempotency-Key") String requestId
+    ) {
+        shardedTransferExecutor.execute(requestDto.getFromBankId(), requestDto.getFromAccountNumber(), () -> accountService.transferWithConditionalUpdate(
+            userDetails.getUsername(),
+            requestDto.getFromBankId(),
+            requestDto.getToBankId(),
+            requestDto.getFromAccountNumber(),
+            requestDto.getToAccountNumber(),
+            requestDto.getAmount(),
+            requestDto.getPassword(),
+            requestDto.getTransferToken(),
+            requestId
+        ));
+        return ResponseEntity.ok(new MessageResponse("이체 완료(atomic)"));
+    }
+
+    // 이체 인증 토큰 발급 api
+    // 계좌 비밀번호를 한 번 확인하고, 이후 이체 요청의 transferToken 으로 비밀번호를 대신함 (유효시간 / 사용 횟수 제한)
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/transfer-auth")
+    public ResponseEntity<TransferAuthResponseDto> issueTransferToken(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @Valid @RequestBody TransferAuthRequestDto requestDto
+    ) {
+        return ResponseEntity.ok(transferAuthService.issue(userDetails.getUsername(), requestDto));
+    }
+
+    // 비동기 이체 api
+    // 검증 후 PENDING 으로 접수만 하고 202 + 상태 조회 URL 반환, 실제 이체는 워커가 실행
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/transfer-async")
+    public ResponseEntity<TransferIntentResponseDto> transferAsync(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestBody TransferRequestDto requestDto,
+        @RequestHeader("Idempotency-Key") String requestId
+    ) {
+        TransferIntentResponseDto intent = TransferIntentResponseDto.from(
+            transferIntentService.submit(userDetails.getUsername(), requestDto, requestId));
+        return ResponseEntity.accepted().location(URI.create(intent.getStatusUrl())).body(intent);
+    }
+
+    // 비동기 이체 상태 조회 (PENDING / PROCESSING / COMPLETED / FAILED)
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/transfer-async/{requestId}")
+    public ResponseEntity<TransferIntentResponseDto> getTransferStatus(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @PathVariable String requestId
+    ) {
+        return ResponseEntity.ok(TransferIntentResponseDto.from(
+            transferIntentService.getIntent(userDetails.getUsername(), requestId)));
+    }
+
+    // 대량 이체 api (급여 지급 등)
+    // 건별 멱등키로 재요청 가능, 건별 결과(SUCCESS / DUPLICATE / FAILED) 반환
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<BatchTransferResponseDto> transferBatch(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @Valid @RequestBody BatchTransferRequestDto requestDto
+    ) {
+        BatchTransferResponseDto result = shardedTransferExecutor.execute(requestDto.getFromBankId(), requestDto.getFromAccountNumber(),
+            () -> batchTransferService.transferBatch(userDetails.getUsername(), requestDto));
+        return ResponseEntity.ok(result);
+    }
+
      @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/{accountId}/balance")
     public ResponseEntity<?> getAccountBalance(
@@ -180,11 +281,68 @@ public class AccountController {
             )
             .map(account -> ResponseEntity.ok(Map.of(
                 "accountNumber", account.getAccountNumber(),
-                "balance", account.getBalance() != null ? account.getBalance() : 0L,
+                "balance", accountStripeService.totalBalance(account), // stripe 계좌는 본 잔액 + stripe 합계
                 "bankName", account.getBank().getBankName()
             )))
             .orElse(ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of("message", "해당 계좌에 접근할 권한이 없습니다.")));
     }
-    
+
+    // 핫 계좌 입금 분산(stripe) 설정 - 관리자 전용
+    // POST /api/accounts/{accountId}/stripes?count=8
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{accountId}/stripes")
+    public ResponseEntity<?> enableStriping(
+        @PathVariable Long accountId,
+        @RequestParam int count,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "관리자만 설정할 수 있습니다."));
+        }
+        Account account = accountStripeService.enableStriping(accountId, count);
+        return ResponseEntity.ok(Map.of("accountId", account.getId(), "stripeCount", account.getStripeCount()));
+    }
+
+    // stripe 해제 (남은 stripe 잔액은 본 잔액으로 합쳐짐)
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{accountId}/stripes")
+    public ResponseEntity<?> disableStriping(
+        @PathVariable Long accountId,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "관리자만 설정할 수 있습니다."));
+        }
+        Account account = accountStripeService.disableStriping(accountId);
+        return ResponseEntity.ok(Map.of("accountId", account.getId(), "stripeCount", account.getStripeCount()));
+    }
+
+    private boolean isAdmin(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+            .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    // 재시도 한도까지 낙관락 충돌이 계속된 경우 -> 500 대신 409 로 응답 (클라이언트는 같은 멱등키로 재요청 가능)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticConflict(OptimisticLockingFailureException e) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .code("TRANSFER_CONFLICT")
+                .message("동시에 처리 중인 이체가 있어 실패하였습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // 샤드 대기열이 가득 찼거나 응답 대기 시간 초과 -> 503 (같은 멱등키로 재요청 가능)
+    @ExceptionHandler(TransferShardBusyException.class)
+    public ResponseEntity<ErrorResponseDto> handleShardBusy(TransferShardBusyException e) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .code("TRANSFER_BUSY")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
 }
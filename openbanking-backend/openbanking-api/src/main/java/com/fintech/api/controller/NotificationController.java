@@ -1,20 +1,26 @@
 package com.fintech.api.controller;
 
-import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fintech.api.dto.CreateNotificationRequestDto;
-import com.fintech.api.dto.NotificationResponseDto;
+import com.fintech.api.dto.ErrorResponseDto;
+import com.fintech.api.dto.NotificationPageResponseDto;
 import com.fintech.api.service.NotificationService;
+import com.fintech.api.service.NotificationStreamHub;
 import com.fintech.api.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,16 +33,36 @@ public class NotificationController {
     
     private final NotificationService  notificationService;
     private final UserService userService;
+    private final NotificationStreamHub notificationStreamHub;
 
+    // 내 알림 목록 (최신순 keyset 페이지), 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
     @GetMapping("/my")
-    public ResponseEntity<List<NotificationResponseDto>>getMy(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<NotificationPageResponseDto>getMy(@AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
         String email = userDetails.getUsername();
         Long userId = userService.getUserIdByEmail(email);
-        List<NotificationResponseDto> results = notificationService.getMyNotifications(userId);
+        NotificationPageResponseDto results = notificationService.getMyNotifications(userId, cursor, size);
         return ResponseEntity.ok(results);
     }
 
 
+    // 새 알림 실시간 수신 (SSE), 이벤트 이름 notification / 데이터는 알림 목록의 항목과 같은 형태
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = userService.getUserIdByEmail(userDetails.getUsername());
+        return notificationStreamHub.subscribe(userId);
+    }
+
+
+    // 안 읽은 알림 수 (대시보드 뱃지, redis 카운터 조회)
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal UserDetails userDetails) {
+        Long userId = userService.getUserIdByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
+    }
+
+
     @PostMapping("/read/{id}")
     public ResponseEntity<String> markAsRead (@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
         Long userId = userService.getUserIdByEmail(userDetails.getUsername());
@@ -46,6 +72,16 @@ public class NotificationController {
     }
 
 
+    // 알림 일괄 읽음 처리, cursor 를 주면 해당 알림까지만 (그 이후 도착한 알림은 그대로)
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(@AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor) {
+        Long userId = userService.getUserIdByEmail(userDetails.getUsername());
+        int updated = notificationService.markAllRead(userId, cursor);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+
     @PostMapping("") 
     public ResponseEntity<String> createNotification (@RequestBody CreateNotificationRequestDto dto, @AuthenticationPrincipal UserDetails userDetails) {
         boolean isAdmin = userDetails.getAuthorities().stream().anyMatch(r-> r.getAuthority().equals(
@@ -57,5 +93,15 @@ public class NotificationController {
         notificationService.createNotification(dto);
         return ResponseEntity.ok("알림을 생성하였습니다.");
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleBadRequest(IllegalArgumentException e) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .code("BAD_REQUEST")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.badRequest().body(error);
+    }
     
 }
@@ -1,12 +1,21 @@
 package com.fintech.api.controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,9 +23,16 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fintech.api.domain.Transaction;
+import com.fintech.api.dto.ErrorResponseDto;
+import com.fintech.api.dto.MonthlyStatementDto;
+import com.fintech.api.dto.TransactionPageResponseDto;
 import com.fintech.api.dto.TransactionWithAccountDto;
+import com.fintech.api.service.ExportLimitExceededException;
+import com.fintech.api.service.MonthlyRollupService;
+import com.fintech.api.service.TransactionExportService;
 import com.fintech.api.service.TransactionService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,6 +45,8 @@ import lombok.RequiredArgsConstructor;
 public class TransactionController {
     
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final MonthlyRollupService monthlyRollupService;
 
     // 거래내역 생성 
     @SecurityRequirement(name = "bearerAuth")
@@ -43,23 +61,77 @@ public class TransactionController {
     ) { 
         String email = userDetails.getUsername();
         String requestId = idempotencyKey;
-        Transaction created = transactionService.createTransaction(email,accountId, amount,requestId, type);
+        Transaction created = transactionService.createTransaction(email,accountId, amount, type, requestId);
         return ResponseEntity.ok(TransactionWithAccountDto.from(created));
     }
 
 
-    // 특정 계좌에 전체 거래내역가져오기
+    // 특정 계좌의 거래내역 (최신순 keyset 페이지), 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    // from / to 는 날짜 (yyyy-MM-dd), to 당일까지 포함
     @GetMapping("/account/{accountId}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @SecurityRequirement(name= "bearerAuth")
-    public ResponseEntity<List<TransactionWithAccountDto>>  getTransactionsByAccountId(
+    public ResponseEntity<TransactionPageResponseDto>  getTransactionsByAccountId(
     @AuthenticationPrincipal UserDetails userDetails,
-    @PathVariable("accountId") Long accountId) {
+    @PathVariable("accountId") Long accountId,
+    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") int size) {
         String email = userDetails.getUsername(); // 본인 인증단계
-        
-          var dtos = transactionService.getTransactionsByAccountId(email, accountId);
-         return ResponseEntity.ok(dtos);
-     
+
+        TransactionPageResponseDto page = transactionService.getTransactionsByAccountId(email, accountId,
+            from != null ? from.atStartOfDay() : null, to != null ? to.plusDays(1).atStartOfDay() : null, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+
+    // 특정 계좌의 거래내역 내보내기 (오래된 순서, csv / ndjson, gzip=true 면 .gz 파일)
+    // 전체 내역을 메모리에 올리지 않고 db 에서 읽는 대로 응답에 기록
+    @GetMapping("/account/{accountId}/export")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @SecurityRequirement(name= "bearerAuth")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+    @AuthenticationPrincipal UserDetails userDetails,
+    @PathVariable("accountId") Long accountId,
+    @RequestParam(defaultValue = "csv") String format,
+    @RequestParam(defaultValue = "false") boolean gzip,
+    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        TransactionExportService.Format exportFormat = TransactionExportService.Format.from(format);
+        transactionExportService.checkOwner(userDetails.getUsername(), accountId); // 스트리밍 시작 전에 검증
+
+        LocalDateTime rangeFrom = from != null ? from.atStartOfDay() : null;
+        LocalDateTime rangeTo = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        transactionExportService.acquireSlot(); // 동시 내보내기 수 제한 (초과하면 429)
+        StreamingResponseBody body = out -> {
+            try {
+                transactionExportService.export(accountId, rangeFrom, rangeTo, exportFormat, gzip, out);
+            } finally {
+                transactionExportService.releaseSlot();
+            }
+        };
+
+        String filename = "transactions-" + accountId + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+            .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+
+
+    // 특정 계좌의 월간 명세 (월별 입금/출금 합계, 건수, 기초/기말 잔액)
+    // from / to 는 yyyy-MM, 생략하면 최근 12개월
+    @GetMapping("/account/{accountId}/statements")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @SecurityRequirement(name= "bearerAuth")
+    public ResponseEntity<List<MonthlyStatementDto>> getMonthlyStatements(
+    @AuthenticationPrincipal UserDetails userDetails,
+    @PathVariable("accountId") Long accountId,
+    @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+    @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(monthlyRollupService.getStatements(userDetails.getUsername(), accountId, from, to));
     }
 
 
@@ -76,4 +148,26 @@ public class TransactionController {
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
+
+    // 잘못된 cursor / 기간, 본인 계좌가 아닌 경우 -> 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleBadRequest(IllegalArgumentException e) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .code("BAD_REQUEST")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    // 동시 내보내기 제한 초과 -> 429
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleExportLimit(ExportLimitExceededException e) {
+        ErrorResponseDto error = ErrorResponseDto.builder()
+                .code("TOO_MANY_REQUESTS")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
 }
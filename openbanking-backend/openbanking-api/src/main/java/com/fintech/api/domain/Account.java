@@ -61,6 +61,12 @@ public class Account {
     // 사용자와 계좌 -> 1:N  일대다 관계 
     // 계좌 입장에서 다대일 관계이므로
     private Long balance;
+
+    // 입금 분산 stripe 수 (0 = 일반 계좌)
+    // 0 보다 크면 입금은 account_balance_stripe 로 분산되고 실제 잔액 = balance + stripe 합계
+    @Column(name = "stripe_count", nullable = false)
+    private int stripeCount;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     @JsonBackReference("user-account")  
@@ -85,4 +91,8 @@ public class Account {
     //내 계좌로 가입된 예금상품 리스트를 보기위해
     @OneToMany(mappedBy = "account")
     private List<UserDeposit> deposits = new ArrayList<>();
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
 }
@@ -0,0 +1,47 @@
+package com.fintech.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 핫 계좌의 입금 분산용 부분 잔액 (stripe)
+// 입금이 몰리는 계좌는 account 행 하나에 락이 집중되므로
+// 입금을 K개의 stripe 행 중 하나(멱등키 해시로 선택)에 더하고, 실제 잔액은 본 잔액 + stripe 합계
+// 출금은 stripe 를 본 잔액으로 합친(consolidate) 뒤에만 가능
+@Entity
+@Table(
+    name = "account_balance_stripe",
+    uniqueConstraints = @UniqueConstraint(name = "uk_stripe_account_no", columnNames = {"account_id", "stripe_no"})
+)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "stripe_no", nullable = false)
+    private Integer stripeNo;
+
+    @Column(nullable = false)
+    private Long balance;
+}
@@ -3,15 +3,18 @@ package com.fintech.api.domain;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +26,10 @@ import lombok.Setter;
 // POST /api/notifications/read/{id}	특정 알림 읽음 처리
 // POST /api/notifications	(관리자 or 시스템) 알림 발송
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_notification_read_created", columnList = "is_read, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,7 +45,14 @@ public class Notification {
     private User user;
 
 
-    private String message;
+    private String message; // 관리자 알림 / 템플릿 도입 이전 알림만 사용
+
+    // 시스템 알림은 template + params 로 저장하고 조회시 문구 생성
+    @Convert(converter = NotificationTemplateConverter.class)
+    @Column(name = "template_code", columnDefinition = "TINYINT")
+    private NotificationTemplate template;
+
+    private String params;
 
   
     @Enumerated(jakarta.persistence.EnumType.STRING)
@@ -51,6 +65,11 @@ public class Notification {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 화면에 보여줄 문구
+    public String renderMessage() {
+        return template != null ? template.render(params) : message;
+    }
+
     @PrePersist
     public void setCreatedAt() {
         if (createdAt == null) 
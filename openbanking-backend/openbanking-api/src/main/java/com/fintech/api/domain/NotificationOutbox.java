@@ -0,0 +1,58 @@
+package com.fintech.api.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 아직 notification 으로 옮겨지지 않은 알림 (transactional outbox)
+// User 연관관계 없이 user_id 만 보관 -> 기록할 때 사용자 조회 X
+// 읽기/쓰기는 NotificationOutboxRepository (JDBC batch) 에서, 엔티티는 테이블 매핑용
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32, nullable = false)
+    private NotificationType type;
+
+    private String message;
+
+    @Convert(converter = NotificationTemplateConverter.class)
+    @Column(name = "template_code", columnDefinition = "TINYINT")
+    private NotificationTemplate template;
+
+    private String params;
+
+    // 화면에 보여줄 문구
+    public String renderMessage() {
+        return template != null ? template.render(params) : message;
+    }
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package com.fintech.api.domain;
+
+import java.util.Arrays;
+
+// 시스템 알림 문구 템플릿
+// notification 행에는 완성된 문구 대신 template code(TINYINT) + 파라미터만 저장하고 조회할 때 문구를 만든다
+// code 는 저장된 값이므로 한 번 정한 번호는 바꾸거나 재사용하지 말 것, 문구는 자유롭게 수정 가능 (과거 알림도 새 문구로 보임)
+public enum NotificationTemplate {
+
+    TRANSFER_SENT((byte) 1, "{0}원이 {1} 계좌로 이체 완료되었습니다."),
+    TRANSFER_RECEIVED((byte) 2, "{0} 계좌에서 {1}원이 입금되었습니다."),
+    HIGH_VALUE_SENT((byte) 3, "고액 거래 감지: {0} 원이 이체되었습니다."),
+    HIGH_VALUE_RECEIVED((byte) 4, "고액 거래 감지: {0} 원이 입금되었습니다."),
+    INSUFFICIENT_BALANCE((byte) 5, "잔액이 부족하여 이체가 실패하였습니다."),
+    BATCH_COMPLETED((byte) 6, "{0}건, 총 {1}원의 대량 이체가 완료되었습니다."),
+    BATCH_PARTIALLY_FAILED((byte) 7, "잔액이 부족하여 일부 이체가 실패하였습니다."),
+    ACCOUNT_CREATED((byte) 8, "새로운 계좌를 개설하였습니다: {0}"),
+    ACCOUNT_DELETED((byte) 9, "{0} 계좌가 삭제되었습니다."),
+    SCHEDULED_COMPLETED((byte) 10, "예약 이체 완료: {0}원"),
+    SCHEDULED_FAILED((byte) 11, "예약이체 실패: {0}"),
+    BURST_SUMMARY((byte) 12, "{1}부터 1분 동안 같은 종류의 알림 {0}건이 있었습니다."); // 보관 작업이 짧은 시간에 몰린 알림을 합친 요약
+
+    // 파라미터 구분자 (문구에 나올 일 없는 제어문자 US)
+    private static final char SEPARATOR = '\u001F';
+    private static final int MAX_PARAMS_LENGTH = 255;
+
+    private final byte code;
+    private final String pattern;
+    NotificationTemplate(byte code, String pattern) {
+        this.code = code;
+        this.pattern = pattern;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static NotificationTemplate fromCode(byte code) {
+        return Arrays.stream(values())
+            .filter(t -> t.code == code)
+            .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 알림 템플릿 코드: " + code));
+    }
+
+    // 저장용 파라미터 문자열 (params 컬럼 길이를 넘으면 잘라냄)
+    public static String params(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(values[i]);
+        }
+        return sb.length() > MAX_PARAMS_LENGTH ? sb.substring(0, MAX_PARAMS_LENGTH) : sb.toString();
+    }
+
+    // {0}, {1} ... 을 저장된 파라미터로 치환 (MessageFormat 은 숫자에 천 단위 구분자를 넣어서 기존 문구와 달라짐 -> 단순 치환)
+    public String render(String params) {
+        if (params == null || params.isEmpty()) {
+            return pattern;
+        }
+
+        String[] values = params.split(String.valueOf(SEPARATOR), -1);
+        String message = pattern;
+        for (int i = 0; i < values.length; i++) {
+            message = message.replace("{" + i + "}", values[i]);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fintech.api.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// NotificationTemplate <-> TINYINT code 변환 (TransactionTypeConverter 와 같은 방식)
+@Converter
+public class NotificationTemplateConverter implements AttributeConverter<NotificationTemplate, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(NotificationTemplate template) {
+        return template == null ? null : template.getCode();
+    }
+
+    @Override
+    public NotificationTemplate convertToEntityAttribute(Byte code) {
+        return code == null ? null : NotificationTemplate.fromCode(code);
+    }
+}
@@ -11,7 +11,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 @Table(
     name = "`transaction`",
     indexes = {
-        @Index(name = "uk_transaction_request_id", columnList = "request_id", unique = true)
+        @Index(name = "uk_tx_reqid_type", columnList = "request_id, type", unique = true),
+        @Index(name = "idx_tx_account_date_id", columnList = "account_id, transaction_date DESC, id DESC")
     }
 )
 @Getter @Setter
@@ -26,13 +27,14 @@ public class Transaction {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name ="request_id", length=64, unique = true)
-    private String requestId;
+    @Column(name ="request_id", length=64)
+    private String requestId; // 멱등키, 보존 기간이 지나면 보관 테이블로 옮기고 NULL (V10)
 
     private Long amount; // 거래 금액
 
-    @Column(name="type", length= 32, nullable= false)
-    private String type; // 거래 종류 -> 입금인지 출금인지 -> ENUM 으로 바꿀지 말지 고민중.
+    @Convert(converter = TransactionTypeConverter.class)
+    @Column(name="type", nullable= false, columnDefinition = "TINYINT")
+    private TransactionType type; // 거래 종류 -> db 에는 TINYINT code 로 저장 (V9)
     private String description; // 거래 내역 설명
 
 
@@ -0,0 +1,45 @@
+package com.fintech.api.domain;
+
+import java.util.Arrays;
+
+// 거래 종류 enum
+// db 에는 label(한글 문자열) 대신 1바이트 code(TINYINT) 로 저장 -> (request_id, type) 유니크 인덱스 크기 축소
+// code 는 저장된 값이므로 한 번 정한 번호는 바꾸거나 재사용하지 말 것
+public enum TransactionType {
+
+    WITHDRAW((byte) 1, "출금"),
+    DEPOSIT((byte) 2, "입금"),
+    SCHEDULED_WITHDRAW((byte) 3, "예약출금"),
+    SCHEDULED_DEPOSIT((byte) 4, "예약입금");
+
+
+    private final byte code;
+    private final String label;
+    TransactionType(byte code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static TransactionType fromCode(byte code) {
+        return Arrays.stream(values())
+            .filter(t -> t.code == code)
+            .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 거래 종류 코드: " + code));
+    }
+
+    // API 입력값 변환 -> 기존처럼 한글 label 을 받고, enum 이름(WITHDRAW 등)도 허용
+    public static TransactionType fromLabel(String label) {
+        return Arrays.stream(values())
+            .filter(t -> t.label.equals(label) || t.name().equalsIgnoreCase(label))
+            .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 거래입니다."));
+    }
+}
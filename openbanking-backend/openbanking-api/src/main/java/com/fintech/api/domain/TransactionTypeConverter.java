@@ -0,0 +1,20 @@
+package com.fintech.api.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// TransactionType <-> TINYINT code 변환
+// @Enumerated(ORDINAL) 은 선언 순서에 묶여서 enum 추가/정렬 변경시 기존 데이터가 깨짐 -> code 를 명시적으로 저장
+@Converter
+public class TransactionTypeConverter implements AttributeConverter<TransactionType, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(TransactionType type) {
+        return type == null ? null : type.getCode();
+    }
+
+    @Override
+    public TransactionType convertToEntityAttribute(Byte code) {
+        return code == null ? null : TransactionType.fromCode(code);
+    }
+}
@@ -0,0 +1,88 @@
+package com.fintech.api.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 비동기 이체 요청 (POST /api/accounts/transfer-async)
+// 본인확인/비밀번호 검증이 끝난 이체를 PENDING 으로 저장하고 202 응답 -> 워커가 실제 이체를 실행
+// 계좌는 id 로만 보관 (워커는 엔티티 연관관계 없이 TransferCommand 로 처리), 계좌번호는 알림 문구용
+@Entity
+@Table(name = "transfer_intent")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferIntent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "request_id", length = 64, nullable = false, unique = true)
+    private String requestId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "from_account_id", nullable = false)
+    private Long fromAccountId;
+
+    @Column(name = "from_account_number", nullable = false)
+    private String fromAccountNumber;
+
+    @Column(name = "to_account_id", nullable = false)
+    private Long toAccountId;
+
+    @Column(name = "to_account_number", nullable = false)
+    private String toAccountNumber;
+
+    @Column(name = "to_user_id", nullable = false)
+    private Long toUserId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private TransferIntentStatus status;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.fintech.api.domain;
+
+// 비동기 이체 요청 상태
+public enum TransferIntentStatus {
+    PENDING,    // 접수됨, 워커 대기
+    PROCESSING, // 워커가 처리 중
+    COMPLETED,  // 이체 완료 (커밋됨)
+    FAILED      // 잔액 부족 등으로 실패 (failureReason 참고)
+}
@@ -18,6 +18,11 @@ public class AccountDto {
 
     // 은행이름 -> getBank().getBankName() 으로 접근!!!
     public static AccountDto from (Account account) {
-        return new AccountDto(account.getId(), account.getAccountNumber(), account.getBank().getBankName(), account.getBalance(),account.getBank().getId());
+        return from(account, account.getBalance());
+    }
+
+    // stripe 계좌는 본 잔액만으로는 실제 잔액이 아님 -> AccountStripeService.totalBalance 로 구한 잔액을 넘김
+    public static AccountDto from (Account account, Long balance) {
+        return new AccountDto(account.getId(), account.getAccountNumber(), account.getBank().getBankName(), balance, account.getBank().getId());
     }
 }
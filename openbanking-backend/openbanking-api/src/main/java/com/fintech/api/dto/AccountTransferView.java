@@ -0,0 +1,12 @@
+package com.fintech.api.dto;
+
+// 조건부 UPDATE 이체 경로에서 사용하는 계좌 조회 projection
+// Account / User / Bank 엔티티를 통째로 로딩하지 않고 이체 검증에 필요한 컬럼만 한 번의 조회로 가져온다
+public interface AccountTransferView {
+    Long getId();
+    String getAccountNumber();
+    String getAccountPassword();
+    Integer getStripeCount();
+    Long getUserId();
+    String getUserEmail();
+}
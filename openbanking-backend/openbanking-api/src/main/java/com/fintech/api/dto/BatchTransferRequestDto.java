@@ -0,0 +1,39 @@
+package com.fintech.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+// 대량 이체 요청 (급여 지급처럼 한 출금 계좌에서 여러 계좌로)
+// 출금 계좌 / 비밀번호는 한 번만, 각 건(leg)은 입금 계좌 + 금액 + 건별 멱등키
+@Getter
+@Setter
+public class BatchTransferRequestDto {
+    private Long fromBankId;
+    private String fromAccountNumber;
+    private String password; // 계좌 비밀번호 또는 transferToken 중 하나는 필수
+    private String transferToken;
+
+    @NotEmpty(message = "이체 목록이 비어 있습니다.")
+    @Valid
+    private List<Leg> legs;
+
+    // 이체 인증 토큰이 있으면 토큰, 없으면 계좌 비밀번호
+    public String credential() {
+        return transferToken != null && !transferToken.isBlank() ? transferToken : password;
+    }
+
+    @Getter
+    @Setter
+    public static class Leg {
+        private Long toBankId;
+        private String toAccountNumber;
+        private Long amount;
+        @NotNull(message = "건별 멱등키는 필수")
+        private String requestId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.fintech.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 대량 이체 결과 (요청 순서대로 건별 결과)
+// SUCCESS: 이번 요청에서 처리됨, DUPLICATE: 이미 처리된 멱등키 (재요청시), FAILED: 해당 건만 실패 (message 참고)
+@Getter
+@Builder
+public class BatchTransferResponseDto {
+
+    private final int successCount;
+    private final int failedCount;
+    private final long totalAmount;
+    private final List<LegResult> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class LegResult {
+        private final String requestId;
+        private final String status;
+        private final String message;
+    }
+}
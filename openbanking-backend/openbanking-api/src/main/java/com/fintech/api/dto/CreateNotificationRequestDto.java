@@ -1,5 +1,6 @@
 package com.fintech.api.dto;
 
+import com.fintech.api.domain.NotificationTemplate;
 import com.fintech.api.domain.NotificationType;
 
 import lombok.AllArgsConstructor;
@@ -17,7 +18,11 @@ import lombok.Setter;
 public class CreateNotificationRequestDto {
     
     private Long userId;
-    private String message;
+    private String message; // 관리자 알림 (자유 문구)
     private NotificationType type;
 
+    // 시스템 알림 (문구 대신 템플릿 + 파라미터, NotificationTemplate.params 로 생성)
+    private NotificationTemplate template;
+    private String params;
+
 }
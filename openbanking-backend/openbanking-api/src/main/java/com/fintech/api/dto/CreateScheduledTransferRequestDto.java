@@ -21,10 +21,15 @@ public class CreateScheduledTransferRequestDto {
     private String toAccountNumber;
     private Long amount;
     private LocalDateTime scheduledAt;
-    @NotNull(message = "계좌 비밀번호는 필수")
     @Size(min =4, max= 4, message = "계좌 비밀번호는 정확히 4자리")
-    private String password;
+    private String password; // 계좌 비밀번호 또는 transferToken 중 하나는 필수
+    private String transferToken; // 이체 인증 토큰
 
      @NotNull(message = "입금 은행 ID는 필수")
-    private Long toBankId;    
+    private Long toBankId;
+
+    // 이체 인증 토큰이 있으면 토큰, 없으면 계좌 비밀번호
+    public String credential() {
+        return transferToken != null && !transferToken.isBlank() ? transferToken : password;
+    }
 }
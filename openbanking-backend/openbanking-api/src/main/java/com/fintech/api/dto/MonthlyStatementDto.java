@@ -0,0 +1,24 @@
+package com.fintech.api.dto;
+
+import java.time.YearMonth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 계좌 월간 명세 (account_monthly_rollup 1행)
+// 기초/기말 잔액은 거래 후 잔액이 기록되지 않은 거래만 있는 달, stripe 계좌(거래 후 잔액이 근사값)의 거래가 있는 달이면 null
+@Getter
+@AllArgsConstructor
+public class MonthlyStatementDto {
+    private YearMonth month;
+    private long depositTotal;
+    private int depositCount;
+    private long withdrawTotal;
+    private int withdrawCount;
+    private Long openingBalance;
+    private Long closingBalance;
+
+    public long getNetChange() {
+        return depositTotal - withdrawTotal;
+    }
+}
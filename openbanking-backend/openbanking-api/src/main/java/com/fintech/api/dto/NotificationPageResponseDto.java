@@ -0,0 +1,17 @@
+package com.fintech.api.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 알림 목록 keyset 페이지 응답
+// nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회 (마지막 페이지면 null)
+@Getter
+@Builder
+public class NotificationPageResponseDto {
+
+    private final List<NotificationResponseDto> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
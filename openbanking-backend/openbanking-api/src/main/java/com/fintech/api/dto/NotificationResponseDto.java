@@ -2,6 +2,7 @@ package com.fintech.api.dto;
 
 import java.time.LocalDateTime;
 
+import com.fintech.api.domain.NotificationTemplate;
 import com.fintech.api.domain.NotificationType;
 
 import lombok.AllArgsConstructor;
@@ -21,5 +22,10 @@ public class NotificationResponseDto {
     private NotificationType type;
     private Boolean isRead;
     private LocalDateTime createdAt;
-    
+
+    // JPQL constructor projection 용 (template 이 있으면 문구를 여기서 생성)
+    public NotificationResponseDto(Long id, String message, NotificationTemplate template, String params,
+                                   NotificationType type, Boolean isRead, LocalDateTime createdAt) {
+        this(id, template != null ? template.render(params) : message, type, isRead, createdAt);
+    }
 }
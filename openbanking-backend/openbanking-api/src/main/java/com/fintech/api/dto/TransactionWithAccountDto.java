@@ -3,6 +3,7 @@ package com.fintech.api.dto;
 import java.time.LocalDateTime;
 
 import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,15 +14,22 @@ import lombok.Getter;
 public class TransactionWithAccountDto {
     private Long id;
     private Long amount;
-    private String type;
+    private String type; // 응답은 기존처럼 한글 label (출금/입금/예약출금/예약입금)
     private String description;
     private LocalDateTime transactionDate;
     private Long balanceAfter;
 
     private String accountNumber; // 계좌번호까지 포함하고 싶어서
+
+    // 거래내역 목록 조회 projection (JPQL select new), 엔티티 로딩 없이 필요한 컬럼만
+    public TransactionWithAccountDto(Long id, Long amount, TransactionType type, String description,
+                                     LocalDateTime transactionDate, Long balanceAfter, String accountNumber) {
+        this(id, amount, type != null ? type.getLabel() : null, description, transactionDate, balanceAfter, accountNumber);
+    }
+
     public static TransactionWithAccountDto from (Transaction tx) {
         return new TransactionWithAccountDto(tx.getId(),
-         tx.getAmount(), tx.getType(),tx.getDescription(), tx.getTransactionDate(), tx.getBalanceAfter(),
+         tx.getAmount(), tx.getType() != null ? tx.getType().getLabel() : null,tx.getDescription(), tx.getTransactionDate(), tx.getBalanceAfter(),
          tx.getAccount() != null ? tx.getAccount().getAccountNumber(): null);
     }
 
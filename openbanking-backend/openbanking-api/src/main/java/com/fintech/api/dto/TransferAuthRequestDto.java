@@ -0,0 +1,15 @@
+package com.fintech.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+// 이체 인증 토큰 발급 요청 (계좌 비밀번호를 한 번만 확인)
+@Getter
+@Setter
+public class TransferAuthRequestDto {
+    private Long bankId;
+    private String accountNumber;
+    @NotNull(message = "계좌 비밀번호는 필수")
+    private String password;
+}
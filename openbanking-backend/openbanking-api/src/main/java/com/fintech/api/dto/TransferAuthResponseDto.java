@@ -0,0 +1,14 @@
+package com.fintech.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 이체 인증 토큰 응답
+// 이후 이체 요청의 transferToken 에 담아 보내면 계좌 비밀번호 검증(BCrypt)을 생략
+@Getter
+@AllArgsConstructor
+public class TransferAuthResponseDto {
+    private String transferToken;
+    private long expiresInSeconds;
+    private int maxUses;
+}
@@ -0,0 +1,38 @@
+package com.fintech.api.dto;
+
+import java.time.LocalDateTime;
+
+import com.fintech.api.domain.TransferIntent;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 비동기 이체 접수 / 상태 조회 응답
+@Getter
+@Builder
+public class TransferIntentResponseDto {
+
+    private final String requestId;
+    private final String status;
+    private final String failureReason;
+    private final Long amount;
+    private final String statusUrl;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static TransferIntentResponseDto from(TransferIntent intent) {
+        return TransferIntentResponseDto.builder()
+            .requestId(intent.getRequestId())
+            .status(intent.getStatus().name())
+            .failureReason(intent.getFailureReason())
+            .amount(intent.getAmount())
+            .statusUrl(statusUrl(intent.getRequestId()))
+            .createdAt(intent.getCreatedAt())
+            .updatedAt(intent.getUpdatedAt())
+            .build();
+    }
+
+    public static String statusUrl(String requestId) {
+        return "/api/accounts/transfer-async/" + requestId;
+    }
+}
@@ -1,6 +1,5 @@
 package com.fintech.api.dto;
 
-import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,9 +11,11 @@ public class TransferRequestDto {
     private Long amount;
     private Long fromBankId;
     private Long toBankId;
-    @NotNull(message = "계좌 비밀번호는 필수")
-    private String password;
-    
+    private String password; // 계좌 비밀번호 또는 transferToken 중 하나는 필수
+    private String transferToken; // POST /api/accounts/transfer-auth 로 발급받은 이체 인증 토큰
 
-    
+    // 이체 인증 토큰이 있으면 토큰, 없으면 계좌 비밀번호
+    public String credential() {
+        return transferToken != null && !transferToken.isBlank() ? transferToken : password;
+    }
 }
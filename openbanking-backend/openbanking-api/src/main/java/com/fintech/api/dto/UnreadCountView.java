@@ -0,0 +1,7 @@
+package com.fintech.api.dto;
+
+// 사용자별 안 읽은 알림 수 projection (읽지 않은 알림 카운터 보정용)
+public interface UnreadCountView {
+    Long getUserId();
+    Long getUnread();
+}
@@ -0,0 +1,40 @@
+package com.fintech.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fintech.api.domain.AccountBalanceStripe;
+
+import jakarta.persistence.LockModeType;
+
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    // 입금: 선택된 stripe 행 하나에만 더함 (본 계좌 행은 락을 잡지 않음)
+    @Modifying
+    @Query("update AccountBalanceStripe s set s.balance = s.balance + :amount where s.account.id = :accountId and s.stripeNo = :stripeNo")
+    int addToStripe(@Param("accountId") Long accountId, @Param("stripeNo") Integer stripeNo, @Param("amount") Long amount);
+
+    // 통합(consolidate) 시 모든 stripe 에 베타락 -> 통합 도중 들어오는 입금은 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceStripe s where s.account.id = :accountId order by s.stripeNo")
+    List<AccountBalanceStripe> findAllByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+    // 입금 전에 입금할 stripe 행 하나만 베타락 (계좌 id 순서 자리에서 잡기 위해)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceStripe s where s.account.id = :accountId and s.stripeNo = :stripeNo")
+    Optional<AccountBalanceStripe> findByAccountIdAndStripeNoForUpdate(@Param("accountId") Long accountId, @Param("stripeNo") Integer stripeNo);
+
+    @Modifying
+    @Query("update AccountBalanceStripe s set s.balance = 0 where s.account.id = :accountId")
+    int resetBalances(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from AccountBalanceStripe s where s.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
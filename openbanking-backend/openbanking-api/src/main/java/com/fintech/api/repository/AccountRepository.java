@@ -23,12 +23,14 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 
 import com.fintech.api.domain.Account;
 import com.fintech.api.domain.AccountType;
 import com.fintech.api.domain.User;
+import com.fintech.api.dto.AccountTransferView;
 
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
@@ -40,7 +42,10 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
   Optional <Account> findByAccountNumber(String accountNumber);
   List<Account> findByUserId(Long userId);
    // List<Account> findByEmail(String email);
-   Optional<Account> findByAccountNumberAndBankId(String accountNumber,Long bankId);
+   // 이체 경로에서 소유자 확인(이메일)/알림(사용자 id)에 쓰므로 소유자를 같이 조회 (사용자 지연 로딩 select X)
+   // 은행은 즉시 로딩이라 따로 select 되지 않도록 같이 fetch join
+   @Query("select a from Account a join fetch a.user join fetch a.bank where a.accountNumber = :accountNumber and a.bank.id = :bankId")
+   Optional<Account> findByAccountNumberAndBankId(@Param("accountNumber") String accountNumber, @Param("bankId") Long bankId);
 
    boolean existsByAccountNumber(String accountNumber);
    int countByuserId(Long id);
@@ -66,4 +71,46 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdForUpdate(@Param("id") Long id);
     Optional<Account> findByIdAndUserId(Long accountId, Long userId);
 
+    // 입출금 경로용, 계좌 + 소유자 확인을 한 번의 조회로 (user / bank 는 EAGER 라 fetch join 으로 추가 select 방지)
+    @Query("select a from Account a join fetch a.user u join fetch a.bank where a.id = :id and u.email = :email")
+    Optional<Account> findByIdAndUserEmail(@Param("id") Long accountId, @Param("email") String email);
+
+    // 본인 계좌인지 확인만 (거래내역 조회용, 계좌 엔티티 로딩 X)
+    boolean existsByIdAndUserEmail(Long accountId, String email);
+
+    // 조건부 UPDATE 이체 경로용
+    // 엔티티 로딩 없이 검증에 필요한 컬럼만 조회 (계좌번호 + 은행 -> id, 비밀번호 해시, 소유자)
+    @Query("""
+        select a.id as id, a.accountNumber as accountNumber, a.accountPassword as accountPassword,
+               a.stripeCount as stripeCount, u.id as userId, u.email as userEmail
+        from Account a join a.user u
+        where a.accountNumber = :accountNumber and a.bank.id = :bankId
+    """)
+    Optional<AccountTransferView> findTransferViewByAccountNumberAndBankId(@Param("accountNumber") String accountNumber, @Param("bankId") Long bankId);
+
+    // 잔액이 충분한 경우에만 차감 -> 영향받은 row 수가 0 이면 잔액 부족
+    // UPDATE 자체가 행 베타락을 잡으므로 조회-후-갱신 사이의 경쟁이 없음
+    // 낙관락 경로가 충돌을 감지할 수 있도록 version 도 함께 올린다
+    @Modifying
+    @Query("update Account a set a.balance = a.balance - :amount, a.version = a.version + 1 where a.id = :id and a.balance >= :amount")
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") Long amount);
+
+    @Modifying
+    @Query("update Account a set a.balance = a.balance + :amount, a.version = a.version + 1 where a.id = :id")
+    int credit(@Param("id") Long id, @Param("amount") Long amount);
+
+    @Query("select a.balance from Account a where a.id = :id")
+    Long findBalanceById(@Param("id") Long id);
+
+    // 본 잔액 + stripe 합계를 한 문장으로 (두 번 나눠 읽으면 사이에 consolidate 가 끼어들 수 있음)
+    @Query("select coalesce(a.balance, 0) + coalesce((select sum(s.balance) from AccountBalanceStripe s where s.account.id = a.id), 0) from Account a where a.id = :id")
+    Optional<Long> findTotalBalanceById(@Param("id") Long id);
+
+    // 입금 계좌가 stripe 계좌인지 엔티티 로딩 없이 확인 (stripe 계좌면 본 행 락을 잡지 않기 위해)
+    @Query("select a.stripeCount from Account a where a.id = :id")
+    Optional<Integer> findStripeCountById(@Param("id") Long id);
+
+    @Query("select a.id from Account a where a.stripeCount > 0")
+    List<Long> findStripedAccountIds();
+
 }
@@ -0,0 +1,181 @@
+package com.fintech.api.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.MonthlyStatementDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 계좌 월간 집계 (account_monthly_rollup) JDBC 리포지토리
+// 거래는 PK(id) 범위로만 읽고, 집계 반영은 upsert 로 누적
+@Repository
+@RequiredArgsConstructor
+public class MonthlyRollupRepository {
+
+    private static final String WATERMARK = "account_monthly";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 마지막으로 반영한 거래 id, 행 락을 잡아서 여러 서버의 집계 작업이 동시에 같은 구간을 반영하지 않도록
+    // 반드시 호출하는 쪽 트랜잭션 안에서
+    public long lockWatermark() {
+        Long last = jdbcTemplate.queryForObject(
+            "select last_transaction_id from rollup_watermark where name = ? for update", Long.class, WATERMARK);
+        return last == null ? 0L : last;
+    }
+
+    public void saveWatermark(long lastTransactionId, LocalDateTime at) {
+        jdbcTemplate.update("update rollup_watermark set last_transaction_id = ?, updated_at = ? where name = ?",
+            lastTransactionId, Timestamp.valueOf(at), WATERMARK);
+    }
+
+    // afterId 이후 거래를 id 순서로 최대 limit 건 (계좌가 stripe 계좌인지도 같이, 계좌는 PK 조인)
+    public List<RollupRow> findTransactionsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+            "select t.id, t.account_id, t.type, t.amount, t.balance_after, t.transaction_date, a.stripe_count"
+                + " from `transaction` t left join account a on a.id = t.account_id where t.id > ? order by t.id limit ?",
+            (rs, rowNum) -> {
+                Timestamp date = rs.getTimestamp("transaction_date");
+                return new RollupRow(rs.getLong("id"), rs.getLong("account_id"), TransactionType.fromCode(rs.getByte("type")),
+                    rs.getLong("amount"), rs.getObject("balance_after", Long.class), date == null ? null : date.toLocalDateTime(),
+                    rs.getInt("stripe_count") > 0);
+            },
+            afterId, limit);
+    }
+
+    // (계좌, 월) 별 증분을 한 번의 batch 로 누적
+    // 기초 잔액은 처음 반영될 때만, 기말 잔액은 더 뒤의 거래에 잔액이 있을 때만 덮어씀 (id 순서로 반영하므로)
+    // 근사 잔액 표시는 한 번 붙으면 그 달 동안 유지
+    // 갱신 값은 values() (MySQL 8.0.20 부터 deprecated) / 행 별칭 (H2 미지원) 대신 같은 값을 파라미터로 한 번 더 바인딩
+    public void upsertAll(Collection<MonthlyDelta> deltas, LocalDateTime at) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = deltas.stream()
+            .map(d -> new Object[] {
+                d.getAccountId(),
+                Date.valueOf(d.getMonth()),
+                d.getDepositTotal(),
+                d.getDepositCount(),
+                d.getWithdrawTotal(),
+                d.getWithdrawCount(),
+                d.getOpeningBalance(),
+                d.getClosingBalance(),
+                d.isBalanceApproximate(),
+                Timestamp.valueOf(at),
+                // on duplicate key update
+                d.getDepositTotal(),
+                d.getDepositCount(),
+                d.getWithdrawTotal(),
+                d.getWithdrawCount(),
+                d.getOpeningBalance(),
+                d.getClosingBalance(),
+                d.isBalanceApproximate(),
+                Timestamp.valueOf(at)
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate("""
+            insert into account_monthly_rollup
+              (account_id, month, deposit_total, deposit_count, withdraw_total, withdraw_count, opening_balance, closing_balance, balance_approximate, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update
+              deposit_total = deposit_total + ?,
+              deposit_count = deposit_count + ?,
+              withdraw_total = withdraw_total + ?,
+              withdraw_count = withdraw_count + ?,
+              opening_balance = coalesce(opening_balance, ?),
+              closing_balance = coalesce(?, closing_balance),
+              balance_approximate = balance_approximate or ?,
+              updated_at = ?
+            """, args);
+    }
+
+    // 계좌의 [from, to] 월 명세 (오래된 달부터), 거래가 없던 달은 행이 없음
+    // 근사 잔액이 섞인 달은 기초/기말 잔액을 null 로 (합계/건수만)
+    public List<MonthlyStatementDto> findStatements(Long accountId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(
+            "select month, deposit_total, deposit_count, withdraw_total, withdraw_count, opening_balance, closing_balance, balance_approximate"
+                + " from account_monthly_rollup where account_id = ? and month between ? and ? order by month",
+            (rs, rowNum) -> {
+                boolean approximate = rs.getBoolean("balance_approximate");
+                return new MonthlyStatementDto(
+                    YearMonth.from(rs.getDate("month").toLocalDate()),
+                    rs.getLong("deposit_total"),
+                    rs.getInt("deposit_count"),
+                    rs.getLong("withdraw_total"),
+                    rs.getInt("withdraw_count"),
+                    approximate ? null : rs.getObject("opening_balance", Long.class),
+                    approximate ? null : rs.getObject("closing_balance", Long.class));
+            },
+            accountId, Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RollupRow {
+        private final Long id;
+        private final Long accountId;
+        private final TransactionType type;
+        private final long amount;
+        private final Long balanceAfter;
+        private final LocalDateTime transactionDate;
+        private final boolean striped; // stripe 계좌의 거래 (입금 거래 후 잔액이 근사값)
+    }
+
+    // (계좌, 월) 하나의 증분
+    @Getter
+    public static class MonthlyDelta {
+        private final Long accountId;
+        private final LocalDate month;
+        private long depositTotal;
+        private int depositCount;
+        private long withdrawTotal;
+        private int withdrawCount;
+        private Long openingBalance;
+        private Long closingBalance;
+        private boolean balanceApproximate;
+
+        public MonthlyDelta(Long accountId, LocalDate month) {
+            this.accountId = accountId;
+            this.month = month;
+        }
+
+        // id 순서로 호출, 금액 부호는 경로마다 달라서 (출금이 음수/양수) 종류 기준으로 절댓값 사용
+        public void add(RollupRow row) {
+            long amount = Math.abs(row.getAmount());
+            boolean deposit = row.getType() == TransactionType.DEPOSIT || row.getType() == TransactionType.SCHEDULED_DEPOSIT;
+            if (deposit) {
+                depositTotal += amount;
+                depositCount++;
+            } else {
+                withdrawTotal += amount;
+                withdrawCount++;
+            }
+
+            // stripe 계좌는 거래 후 잔액이 근사값이라 기초/기말 잔액에 쓰지 않고 그 달을 근사 표시
+            // 거래 후 잔액이 없는 거래 (balance_after 를 채우기 전에 쌓인 입출금 등) 도 그 달의 잔액을 알 수 없으므로 근사 표시
+            if (row.isStriped() || row.getBalanceAfter() == null) {
+                balanceApproximate = true;
+            } else {
+                if (depositCount + withdrawCount == 1) {
+                    openingBalance = row.getBalanceAfter() - (deposit ? amount : -amount);
+                }
+                closingBalance = row.getBalanceAfter();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fintech.api.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.api.domain.NotificationOutbox;
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.dto.CreateNotificationRequestDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 알림 outbox 기록 / 릴레이용 JDBC 리포지토리
+// outbox, notification 모두 IDENTITY 라 Hibernate 로는 insert 를 batch 로 묶을 수 없음 -> JdbcTemplate.batchUpdate
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 트랜잭션에서 모인 알림을 한 번의 batch 로 기록
+    public void insertAll(List<CreateNotificationRequestDto> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = notifications.stream()
+            .map(n -> new Object[] {
+                n.getUserId(),
+                n.getType().name(),
+                n.getMessage(),
+                n.getTemplate() == null ? null : n.getTemplate().getCode(),
+                n.getParams(),
+                Timestamp.valueOf(createdAt)
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "insert into notification_outbox (user_id, type, message, template_code, params, created_at) values (?, ?, ?, ?, ?, ?)", args);
+    }
+
+    // 릴레이할 outbox 행을 오래된 순서로 잠근다 (여러 서버의 릴레이가 같은 행을 잡지 않도록 skip locked)
+    public List<NotificationOutbox> lockBatch(int limit) {
+        return jdbcTemplate.query(
+            "select id, user_id, type, message, template_code, params, created_at from notification_outbox order by id limit ? for update skip locked",
+            (rs, rowNum) -> NotificationOutbox.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .type(NotificationType.valueOf(rs.getString("type")))
+                .message(rs.getString("message"))
+                .template(rs.getObject("template_code") == null ? null : NotificationTemplate.fromCode(rs.getByte("template_code")))
+                .params(rs.getString("params"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build(),
+            limit);
+    }
+
+    // 그 사이 탈퇴한 사용자의 알림은 옮기지 않음 (notification.user_id FK)
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+            "select id from `user` where id in (:ids)", new MapSqlParameterSource("ids", userIds), Long.class));
+    }
+
+    // notification 에 batch insert 하고 생성된 id 를 rows 순서대로 반환 (SSE 이벤트 id 용)
+    public List<Long> insertNotifications(List<NotificationOutbox> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(
+                "insert into notification (user_id, message, template_code, params, type, is_read, created_at) values (?, ?, ?, ?, ?, ?, ?)",
+                new String[] { "id" }),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    NotificationOutbox r = rows.get(i);
+                    ps.setLong(1, r.getUserId());
+                    ps.setString(2, r.getMessage());
+                    if (r.getTemplate() == null) {
+                        ps.setNull(3, Types.TINYINT);
+                    } else {
+                        ps.setByte(3, r.getTemplate().getCode());
+                    }
+                    ps.setString(4, r.getParams());
+                    ps.setString(5, r.getType().name());
+                    ps.setBoolean(6, false);
+                    ps.setTimestamp(7, Timestamp.valueOf(r.getCreatedAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            },
+            keyHolder);
+
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .toList();
+    }
+
+    public void deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(
+            "delete from notification_outbox where id in (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+}
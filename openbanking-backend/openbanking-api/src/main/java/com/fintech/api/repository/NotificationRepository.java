@@ -1,13 +1,71 @@
 package com.fintech.api.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fintech.api.domain.Notification;
+import com.fintech.api.dto.NotificationResponseDto;
+import com.fintech.api.dto.UnreadCountView;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
-    List<Notification> findByUserIdAndIsReadFalse(Long userId);
+    // 사용자의 안 읽은 알림 전체 읽음 처리 (엔티티 로딩 없이 update 1번)
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    // cursor 위치 (created_at, id) 의 알림과 그보다 오래된 알림만 읽음 처리
+    // -> 목록을 불러온 뒤 새로 도착한 알림은 읽음 처리되지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Notification n set n.isRead = true
+        where n.user.id = :userId
+          and n.isRead = false
+          and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id <= :id))
+    """)
+    int markReadUpTo(@Param("userId") Long userId,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") Long id);
+
+    // 안 읽은 알림 수 (redis 카운터가 없을 때만 사용)
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    // 여러 사용자의 안 읽은 알림 수를 한 번에 (카운터 보정용)
+    @Query("""
+        select n.user.id as userId, count(n) as unread
+        from Notification n
+        where n.user.id in :userIds and n.isRead = false
+        group by n.user.id
+    """)
+    List<UnreadCountView> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 알림 목록 첫 페이지 (최신순), 엔티티 대신 DTO 로 바로 조회
+    // 정렬 기준 (created_at, id) 은 idx_notification_user_created_id 와 같은 순서
+    @Query("""
+        select new com.fintech.api.dto.NotificationResponseDto(n.id, n.message, n.template, n.params, n.type, n.isRead, n.createdAt)
+        from Notification n
+        where n.user.id = :userId
+        order by n.createdAt desc, n.id desc
+    """)
+    List<NotificationResponseDto> findFeedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // cursor (마지막으로 본 알림의 created_at, id) 이후 페이지
+    @Query("""
+        select new com.fintech.api.dto.NotificationResponseDto(n.id, n.message, n.template, n.params, n.type, n.isRead, n.createdAt)
+        from Notification n
+        where n.user.id = :userId
+          and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+        order by n.createdAt desc, n.id desc
+    """)
+    List<NotificationResponseDto> findFeedAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 }
@@ -0,0 +1,122 @@
+package com.fintech.api.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 알림 보관(삭제 / 요약) 작업용 JDBC 리포지토리
+// 조회는 idx_notification_read_created (is_read, created_at) 범위로, 삭제는 PK 로
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    private static final String COMPACTION_WATERMARK = "notification_burst";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 요약 작업이 처리한 마지막 위치, 행 락을 잡아서 여러 서버의 요약 작업이 동시에 같은 구간을 처리하지 않도록
+    // 반드시 호출하는 쪽 트랜잭션 안에서
+    public CompactionWatermark lockCompactionWatermark() {
+        return jdbcTemplate.queryForObject(
+            "select last_created_at, last_id from notification_compaction_watermark where name = ? for update",
+            (rs, rowNum) -> new CompactionWatermark(rs.getTimestamp("last_created_at").toLocalDateTime(), rs.getLong("last_id")),
+            COMPACTION_WATERMARK);
+    }
+
+    public void saveCompactionWatermark(LocalDateTime lastCreatedAt, long lastId, LocalDateTime at) {
+        jdbcTemplate.update("update notification_compaction_watermark set last_created_at = ?, last_id = ?, updated_at = ? where name = ?",
+            Timestamp.valueOf(lastCreatedAt), lastId, Timestamp.valueOf(at), COMPACTION_WATERMARK);
+    }
+
+    // before 이전의 (읽음 여부가 같은) 알림 id 를 오래된 순서로 최대 limit 건
+    public List<Long> findIdsCreatedBefore(boolean read, LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+            "select id from notification where is_read = ? and created_at < ? order by created_at, id limit ?",
+            Long.class, read, Timestamp.valueOf(before), limit);
+    }
+
+    // 읽은 알림을 (created_at, id) 순서로 after 다음부터 before 이전까지 최대 limit 건 (요약 대상 찾기)
+    public List<NotificationRow> findReadAfter(LocalDateTime afterCreatedAt, long afterId, LocalDateTime before, int limit) {
+        return jdbcTemplate.query(
+            "select id, user_id, type, template_code, created_at from notification"
+                + " where is_read = true and created_at < ?"
+                + " and (created_at > ? or (created_at = ? and id > ?))"
+                + " order by created_at, id limit ?",
+            (rs, rowNum) -> new NotificationRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                NotificationType.valueOf(rs.getString("type")),
+                rs.getObject("template_code") == null ? null : NotificationTemplate.fromCode(rs.getByte("template_code")),
+                rs.getTimestamp("created_at").toLocalDateTime()),
+            Timestamp.valueOf(before), Timestamp.valueOf(afterCreatedAt), Timestamp.valueOf(afterCreatedAt), afterId, limit);
+    }
+
+    // 요약 알림 batch insert (원본이 모두 읽은 알림이므로 요약도 읽음 상태)
+    public void insertSummaries(List<NotificationSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = summaries.stream()
+            .map(s -> new Object[] {
+                s.getUserId(),
+                NotificationTemplate.BURST_SUMMARY.getCode(),
+                NotificationTemplate.params(s.getCount(), s.getMinute()),
+                s.getType().name(),
+                true,
+                Timestamp.valueOf(s.getCreatedAt())
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "insert into notification (user_id, template_code, params, type, is_read, created_at) values (?, ?, ?, ?, ?, ?)", args);
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+            "delete from notification where id in (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NotificationRow {
+        private final Long id;
+        private final Long userId;
+        private final NotificationType type;
+        private final NotificationTemplate template;
+        private final LocalDateTime createdAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CompactionWatermark {
+        private final LocalDateTime createdAt;
+        private final long id;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NotificationSummary {
+        private final Long userId;
+        private final NotificationType type;
+        private final int count;
+        private final String minute;
+        private final LocalDateTime createdAt;
+    }
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fintech.api.domain.DepositProduct;
 import com.fintech.api.domain.ProductLike;
@@ -14,4 +17,11 @@ public interface ProductLikeRepository extends JpaRepository<ProductLike, Long>
     Optional<ProductLike> findByUserAndProduct (User user, DepositProduct product); // 추천 취소하는 경우 사용
     long countByProduct(DepositProduct product);
     List<ProductLike> findByProduct(DepositProduct product);
+
+    // id 기준 버전 (User / DepositProduct 엔티티 로딩 없이)
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    @Modifying
+    @Query("delete from ProductLike l where l.user.id = :userId and l.product.id = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
 }
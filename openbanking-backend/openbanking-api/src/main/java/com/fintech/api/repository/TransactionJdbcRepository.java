@@ -0,0 +1,215 @@
+package com.fintech.api.repository;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.TransactionWithAccountDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 여러 이체를 한 번에 쓰기 위한 JDBC 전용 리포지토리
+// Transaction 은 IDENTITY 전략이라 Hibernate 가 insert 를 JDBC batch 로 묶지 못함 -> JdbcTemplate.batchUpdate 로 직접 묶는다
+// 반드시 호출하는 쪽의 트랜잭션 안에서 사용 (JpaTransactionManager 가 같은 커넥션을 공유해줌)
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 계좌 id 오름차순으로 한 번에 베타락을 잡고 현재 잔액/계좌번호를 읽는다 (데드락 방지 순서 유지)
+    public Map<Long, LockedAccount> lockAccounts(Collection<Long> accountIds) {
+        Map<Long, LockedAccount> locked = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return locked;
+        }
+
+        namedParameterJdbcTemplate.query(
+            "select id, account_number, balance, stripe_count from account where id in (:ids) order by id for update",
+            new MapSqlParameterSource("ids", accountIds),
+            rs -> {
+                long balance = rs.getLong("balance"); // null 잔액은 0 으로 취급
+                locked.put(rs.getLong("id"), new LockedAccount(rs.getLong("id"), rs.getString("account_number"), balance, rs.getInt("stripe_count")));
+            });
+        return locked;
+    }
+
+    // 그 중 stripe 계좌 id (락 X, 잠금 순서를 정하기 위한 사전 조회)
+    public Set<Long> findStripedAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+            "select id from account where id in (:ids) and stripe_count > 0",
+            new MapSqlParameterSource("ids", accountIds), Long.class));
+    }
+
+    // (은행 id, 계좌번호) 쌍 목록으로 계좌 id / 소유자를 한 번에 조회 (락 X, 대량 이체의 입금 계좌 식별용)
+    // 계좌번호만으로 찾으면 요청과 다른 은행의 계좌까지 식별되어 잠기므로 쌍으로 맞춰 본다
+    public List<AccountRef> findAccountRefs(Map<Long, Set<String>> accountNumbersByBank) {
+        List<Object[]> pairs = new ArrayList<>();
+        accountNumbersByBank.forEach((bankId, numbers) -> numbers.forEach(number -> pairs.add(new Object[] {bankId, number})));
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query(
+            "select id, bank_id, account_number, user_id from account where (bank_id, account_number) in (:pairs)",
+            new MapSqlParameterSource("pairs", pairs),
+            (rs, rowNum) -> new AccountRef(rs.getLong("id"), rs.getLong("bank_id"), rs.getString("account_number"), rs.getLong("user_id")));
+    }
+
+    // 이미 처리된 (request_id, type) 조합을 한 번의 조회로 확인
+    public Set<String> findExistingRequestKeys(Collection<String> requestIds) {
+        Set<String> keys = new HashSet<>();
+        if (requestIds.isEmpty()) {
+            return keys;
+        }
+
+        namedParameterJdbcTemplate.query(
+            "select request_id, type from `transaction` where request_id in (:ids)",
+            new MapSqlParameterSource("ids", requestIds),
+            rs -> {
+                keys.add(requestKey(rs.getString("request_id"), TransactionType.fromCode(rs.getByte("type"))));
+            });
+        return keys;
+    }
+
+    // 아직 보관되지 않은 멱등키 전체를 한 행씩 넘겨준다 (Bloom filter 재생성용, PK 범위 스캔)
+    public void forEachActiveRequestKey(long afterId, Consumer<String> consumer) {
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(
+                    "select request_id, type from `transaction` where id > ? and request_id is not null",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setLong(1, afterId);
+                ps.setFetchSize(streamingFetchSize(con, 1000));
+                return ps;
+            },
+            (RowCallbackHandler) rs -> consumer.accept(requestKey(rs.getString("request_id"), TransactionType.fromCode(rs.getByte("type")))));
+    }
+
+    // 계좌 거래내역을 오래된 순서로 한 행씩 넘겨준다 (내보내기용)
+    // 결과를 List 로 모으지 않고 fetchSize 만큼씩 읽음 -> 거래 건수와 무관하게 메모리 일정 (MySQL 은 streamingFetchSize 참고)
+    public void forEachHistoryRow(Long accountId, LocalDateTime from, LocalDateTime to, int fetchSize,
+                                  Consumer<TransactionWithAccountDto> consumer) {
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(
+                    "select t.id, t.amount, t.type, t.description, t.transaction_date, t.balance_after, a.account_number"
+                        + " from `transaction` t join account a on a.id = t.account_id"
+                        + " where t.account_id = ? and t.transaction_date >= ? and t.transaction_date < ?"
+                        + " order by t.transaction_date, t.id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setLong(1, accountId);
+                ps.setTimestamp(2, Timestamp.valueOf(from));
+                ps.setTimestamp(3, Timestamp.valueOf(to));
+                ps.setFetchSize(streamingFetchSize(con, fetchSize));
+                return ps;
+            },
+            (RowCallbackHandler) rs -> {
+                Timestamp at = rs.getTimestamp("transaction_date");
+                consumer.accept(new TransactionWithAccountDto(
+                    rs.getLong("id"),
+                    rs.getLong("amount"),
+                    TransactionType.fromCode(rs.getByte("type")),
+                    rs.getString("description"),
+                    at != null ? at.toLocalDateTime() : null,
+                    rs.getObject("balance_after", Long.class),
+                    rs.getString("account_number")));
+            });
+    }
+
+    // MySQL Connector/J 는 url 에 useCursorFetch=true 가 없으면 fetchSize 를 무시하고 결과 전체를 메모리에 올린다
+    // -> 그 경우 Integer.MIN_VALUE 로 행 단위 스트리밍 (다 읽거나 닫을 때까지 그 커넥션으로 다른 쿼리 X, 콜백에서 db 조회 금지)
+    // useCursorFetch=true 면 서버 커서로 fetchSize 만큼씩 읽으므로 그대로 사용
+    private static int streamingFetchSize(Connection con, int fetchSize) throws SQLException {
+        DatabaseMetaData meta = con.getMetaData();
+        return streamingFetchSize(meta.getDatabaseProductName(), meta.getURL(), fetchSize);
+    }
+
+    public static int streamingFetchSize(String databaseProductName, String url, int fetchSize) {
+        boolean mysql = databaseProductName != null && databaseProductName.toLowerCase(Locale.ROOT).contains("mysql");
+        boolean cursorFetch = url != null && url.toLowerCase(Locale.ROOT).contains("usecursorfetch=true");
+        return mysql && !cursorFetch ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    public static String requestKey(String requestId, TransactionType type) {
+        return requestId + "|" + type.getCode();
+    }
+
+    // 잔액 갱신도 한 번의 batch 로 (낙관락 경로와 충돌을 감지할 수 있도록 version 도 함께 올린다)
+    public void batchUpdateBalances(Map<Long, Long> balances) {
+        List<Object[]> args = balances.entrySet().stream()
+            .map(e -> new Object[] { e.getValue(), e.getKey() })
+            .toList();
+
+        jdbcTemplate.batchUpdate("update account set balance = ?, version = version + 1 where id = ?", args);
+    }
+
+    // 거래내역 insert 를 하나의 JDBC batch 로
+    public void batchInsert(List<Transaction> transactions) {
+        List<Object[]> args = transactions.stream()
+            .map(tx -> new Object[] {
+                tx.getRequestId(),
+                tx.getAmount(),
+                tx.getType().getCode(),
+                tx.getDescription(),
+                Timestamp.valueOf(tx.getTransactionDate()),
+                tx.getBalanceAfter(),
+                tx.getAccount().getId()
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate(
+            "insert into `transaction` (request_id, amount, type, description, transaction_date, balance_after, account_id) values (?, ?, ?, ?, ?, ?, ?)",
+            args);
+    }
+
+    // 락을 잡은 계좌의 스냅샷
+    @Getter
+    @AllArgsConstructor
+    public static class LockedAccount {
+        private final Long id;
+        private final String accountNumber;
+        private final long balance;
+        private final int stripeCount;
+
+        public boolean isStriped() {
+            return stripeCount > 0;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AccountRef {
+        private final Long id;
+        private final Long bankId;
+        private final String accountNumber;
+        private final Long userId;
+    }
+}
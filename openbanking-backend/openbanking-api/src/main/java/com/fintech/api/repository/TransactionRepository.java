@@ -1,37 +1,57 @@
 
 package com.fintech.api.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.TransactionWithAccountDto;
 
 public interface TransactionRepository  extends JpaRepository<Transaction, Long> {
 
     List<Transaction> findByAccountId(Long accountId);
 
     // unique key (request_id, type) 에 따른 전역 조회 메서드를 추가
-    Optional<Transaction> findByRequestIdAndType(String requestId, String type);
+    Optional<Transaction> findByRequestIdAndType(String requestId, TransactionType type);
     
     
-    Optional<Transaction> findByAccountIdAndRequestIdAndType(Long accountId, String requestId, String type);
+    Optional<Transaction> findByAccountIdAndRequestIdAndType(Long accountId, String requestId, TransactionType type);
    
 
+    // 계좌 거래내역 첫 페이지 (최신순, 기간 [from, to)), 엔티티 대신 DTO 로 바로 조회
+    // 정렬 기준 (transaction_date, id) 은 idx_tx_account_date_id 와 같은 순서
     @Query("""
-    select t from Transaction t
-    join fetch t.account a
-    where a.id = :accountId
-      and a.user.email = :email
-    order by t.transactionDate desc
-""")
-List<Transaction> findAllByAccountIdWithAccount(
-    @Param("email") String email,
-    @Param("accountId") Long accountId
-);
-
-
+        select new com.fintech.api.dto.TransactionWithAccountDto(t.id, t.amount, t.type, t.description, t.transactionDate, t.balanceAfter, a.accountNumber)
+        from Transaction t join t.account a
+        where a.id = :accountId
+          and t.transactionDate >= :from and t.transactionDate < :to
+        order by t.transactionDate desc, t.id desc
+    """)
+    List<TransactionWithAccountDto> findHistoryFirstPage(@Param("accountId") Long accountId,
+                                                         @Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to,
+                                                         Pageable pageable);
+
+    // cursor (마지막으로 본 거래의 transaction_date, id) 이후 페이지
+    @Query("""
+        select new com.fintech.api.dto.TransactionWithAccountDto(t.id, t.amount, t.type, t.description, t.transactionDate, t.balanceAfter, a.accountNumber)
+        from Transaction t join t.account a
+        where a.id = :accountId
+          and t.transactionDate >= :from and t.transactionDate < :to
+          and (t.transactionDate < :cursorAt or (t.transactionDate = :cursorAt and t.id < :cursorId))
+        order by t.transactionDate desc, t.id desc
+    """)
+    List<TransactionWithAccountDto> findHistoryAfter(@Param("accountId") Long accountId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to,
+                                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
 }
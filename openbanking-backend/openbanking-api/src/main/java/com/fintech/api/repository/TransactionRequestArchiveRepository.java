@@ -0,0 +1,78 @@
+package com.fintech.api.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.api.domain.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 보존 기간이 지난 멱등키를 transaction_request_archive 로 옮기는 JDBC 리포지토리
+// 조회는 PK(id) 범위로만 -> transaction_date 인덱스 없이도 오래된 행부터 순서대로 읽을 수 있음
+@Repository
+@RequiredArgsConstructor
+public class TransactionRequestArchiveRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 마지막으로 보관한 거래 id (다음 보관의 시작 위치)
+    public long findLastArchivedTransactionId() {
+        Long last = jdbcTemplate.queryForObject(
+            "select coalesce(max(transaction_id), 0) from transaction_request_archive", Long.class);
+        return last == null ? 0L : last;
+    }
+
+    // afterId 이후 멱등키가 남아 있는 거래를 id 순서로 최대 limit 건
+    public List<RequestKeyRow> findRequestKeysAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+            "select id, request_id, type, transaction_date from `transaction` where id > ? and request_id is not null order by id limit ?",
+            (rs, rowNum) -> {
+                Timestamp date = rs.getTimestamp("transaction_date");
+                return new RequestKeyRow(rs.getLong("id"), rs.getString("request_id"),
+                    TransactionType.fromCode(rs.getByte("type")), date == null ? null : date.toLocalDateTime());
+            },
+            afterId, limit);
+    }
+
+    // 보관 테이블에 복사한 뒤 원본의 request_id 를 비운다 (호출하는 쪽 트랜잭션 안에서, 한 묶음 단위로)
+    public void archive(List<RequestKeyRow> rows, LocalDateTime archivedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = rows.stream()
+            .map(r -> new Object[] {
+                r.getTransactionId(),
+                r.getRequestId(),
+                r.getType().getCode(),
+                r.getTransactionDate() == null ? null : Timestamp.valueOf(r.getTransactionDate()),
+                Timestamp.valueOf(archivedAt)
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "insert into transaction_request_archive (transaction_id, request_id, type, transaction_date, archived_at) values (?, ?, ?, ?, ?)",
+            args);
+
+        namedParameterJdbcTemplate.update(
+            "update `transaction` set request_id = null where id in (:ids)",
+            new MapSqlParameterSource("ids", rows.stream().map(RequestKeyRow::getTransactionId).toList()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RequestKeyRow {
+        private final Long transactionId;
+        private final String requestId;
+        private final TransactionType type;
+        private final LocalDateTime transactionDate;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintech.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fintech.api.domain.TransferIntent;
+import com.fintech.api.domain.TransferIntentStatus;
+
+public interface TransferIntentRepository extends JpaRepository<TransferIntent, Long> {
+
+    Optional<TransferIntent> findByRequestId(String requestId);
+
+    // 워커 선점: PENDING -> PROCESSING 으로 바꾼 워커만 실행 (접수 직후 디스패치와 스위퍼가 같은 요청을 잡아도 한 번만 실행)
+    @Modifying
+    @Query("""
+        update TransferIntent t set t.status = com.fintech.api.domain.TransferIntentStatus.PROCESSING,
+               t.attempts = t.attempts + 1, t.updatedAt = :now
+        where t.id = :id and t.status = com.fintech.api.domain.TransferIntentStatus.PENDING
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update TransferIntent t set t.status = :status, t.failureReason = :reason, t.updatedAt = :now
+        where t.id = :id
+        """)
+    int finish(@Param("id") Long id, @Param("status") TransferIntentStatus status,
+               @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    // 스위퍼용: 일정 시간 이상 머물러 있는 요청 (디스패치 유실, 재시작, 워커 장애)
+    @Query("select t.id from TransferIntent t where t.status = :status and t.updatedAt < :before order by t.id")
+    List<Long> findIdsByStatusAndUpdatedAtBefore(@Param("status") TransferIntentStatus status,
+                                                 @Param("before") LocalDateTime before, Pageable pageable);
+
+    // 처리 중 멈춘 요청을 다시 PENDING 으로 (이체 자체는 멱등키로 중복 반영되지 않음)
+    @Modifying
+    @Query("""
+        update TransferIntent t set t.status = com.fintech.api.domain.TransferIntentStatus.PENDING, t.updatedAt = :now
+        where t.status = com.fintech.api.domain.TransferIntentStatus.PROCESSING and t.updatedAt < :before
+        """)
+    int requeueStuck(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+}
@@ -16,4 +16,6 @@ public interface UserDepositRepository extends JpaRepository<UserDeposit, Long>
     List<UserDeposit> findByStatusAndMaturityDateBefore(DepositStatus inProgress, LocalDateTime now);
 
     boolean existsByUserAndProductAndStatus(User user, DepositProduct product, DepositStatus active);
+
+    boolean existsByUserIdAndProductIdAndStatus(Long userId, Long productId, DepositStatus status);
 } 
\ No newline at end of file
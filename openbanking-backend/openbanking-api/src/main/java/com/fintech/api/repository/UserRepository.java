@@ -4,6 +4,8 @@ package com.fintech.api.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fintech.api.domain.User;
 
@@ -11,4 +13,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional <User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 연관관계 연결에는 id 만 필요한 경우 (User 엔티티 로딩 X, getReferenceById 와 함께 사용)
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
 }
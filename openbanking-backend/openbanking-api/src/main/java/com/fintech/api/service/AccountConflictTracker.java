@@ -0,0 +1,95 @@
+package com.fintech.api.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 계좌별 낙관락 충돌 빈도 추적기 (슬라이딩 윈도우)
+// 계좌 키 = 은행ID + 계좌번호 (이체 요청에 이미 들어있는 값이라 추가 조회가 필요 없음)
+
+// 슬라이딩 윈도우는 "현재 구간 + 직전 구간 가중치" 근사 방식
+// 충돌 수 = 현재 구간 카운트 + 직전 구간 카운트 * (직전 구간이 윈도우에 아직 걸쳐있는 비율)
+// -> 계좌마다 숫자 두개만 들고 있으면 돼서 메모리/연산이 가벼움
+@Component
+public class AccountConflictTracker {
+
+    private final Map<String, ConflictWindow> windows = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final double hotThreshold;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AccountConflictTracker(@Value("${transfer.adaptive.window-ms:10000}") long windowMillis,
+                                  @Value("${transfer.adaptive.hot-threshold:5}") double hotThreshold) {
+        this(windowMillis, hotThreshold, System::currentTimeMillis);
+    }
+
+    AccountConflictTracker(long windowMillis, double hotThreshold, LongSupplier clock) {
+        this.windowMillis = Math.max(windowMillis, 1);
+        this.hotThreshold = hotThreshold;
+        this.clock = clock;
+    }
+
+    public static String key(Long bankId, String accountNumber) {
+        return bankId + ":" + accountNumber;
+    }
+
+    public void recordConflict(String accountKey) {
+        windows.computeIfAbsent(accountKey, k -> new ConflictWindow()).record(clock.getAsLong(), windowMillis);
+    }
+
+    // 윈도우 안의 충돌 수가 임계값 이상이면 핫 계좌
+    public boolean isHot(String accountKey) {
+        ConflictWindow window = windows.get(accountKey);
+        return window != null && window.estimate(clock.getAsLong(), windowMillis) >= hotThreshold;
+    }
+
+    public double conflictRate(String accountKey) {
+        ConflictWindow window = windows.get(accountKey);
+        return window == null ? 0 : window.estimate(clock.getAsLong(), windowMillis);
+    }
+
+    // 충돌이 멈춘 계좌는 주기적으로 제거 (대부분의 계좌는 충돌이 없으므로 맵이 커지지 않도록)
+    @Scheduled(fixedDelay = 60000)
+    public void evictCold() {
+        long now = clock.getAsLong();
+        windows.entrySet().removeIf(e -> e.getValue().estimate(now, windowMillis) == 0);
+    }
+
+    int trackedAccounts() {
+        return windows.size();
+    }
+
+    private static class ConflictWindow {
+        private long windowStart;
+        private long current;
+        private long previous;
+
+        synchronized void record(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+        }
+
+        synchronized double estimate(long now, long windowMillis) {
+            roll(now, windowMillis);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMillis;
+            return current + previous * previousWeight;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long elapsed = now - windowStart;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            // 한 구간만 지났으면 현재 -> 직전, 두 구간 이상 지났으면 모두 초기화
+            previous = elapsed < 2 * windowMillis ? current : 0;
+            current = 0;
+            windowStart = now - (elapsed % windowMillis);
+        }
+    }
+}
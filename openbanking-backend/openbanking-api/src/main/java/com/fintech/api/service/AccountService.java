@@ -13,10 +13,13 @@ import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import com.fintech.api.domain.Account;
 import com.fintech.api.domain.AccountType;
 import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.NotificationTemplate;
 import com.fintech.api.domain.NotificationType;
 import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
 import com.fintech.api.domain.User;
 import com.fintech.api.dto.AccountRequestDto;
+import com.fintech.api.dto.AccountTransferView;
 import com.fintech.api.dto.CreateNotificationRequestDto;
 import com.fintech.api.repository.AccountRepository;
 import com.fintech.api.repository.BankRepository;
@@ -40,6 +43,8 @@ public class AccountService {
     private final BankRepository bankRepository;
     private final TransactionRepository transactionRepository;
     private final NotificationService notificationService;
+    private final AccountStripeService accountStripeService; // 핫 계좌 입금 분산 (stripe)
+    private final TransferAuthService transferAuthService; // 이체 인증 토큰 (BCrypt 생략)
 
     // spring 생성자 주입
 
@@ -115,9 +120,9 @@ public class AccountService {
     account.setAccountType(type);
     Account saved = accountRepository.save(account);
 
-    notificationService.createNotification(
+    notificationService.publish(
       CreateNotificationRequestDto.builder().userId(user.getId())
-      .message("새로운 계좌를 개설하였습니다: " + saved.getAccountNumber()).type(NotificationType.ACCOUNT_CREATED).build()
+      .template(NotificationTemplate.ACCOUNT_CREATED).params(NotificationTemplate.params(saved.getAccountNumber())).type(NotificationType.ACCOUNT_CREATED).build()
     
     );
 
@@ -153,10 +158,10 @@ public class AccountService {
         
         accountRepository.delete(account);
 
-        notificationService.createNotification(
+        notificationService.publish(
                 CreateNotificationRequestDto.builder()
                 .userId(account.getUser().getId())
-                .message(account.getAccountNumber() + " 계좌가 삭제되었습니다.")
+                .template(NotificationTemplate.ACCOUNT_DELETED).params(NotificationTemplate.params(account.getAccountNumber()))
                 .type(NotificationType.SYSTEM_NOTICE)
                 .build()
         );
@@ -170,7 +175,7 @@ public class AccountService {
     // 이체 입출금 서비스 로직 추가구현
     // 낙관락
     @Transactional
-    public void transfer(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String requestId ) {
+    public void transfer(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String transferToken, String requestId ) {
 
 
         // // 출금 중복 방지 예외처리
@@ -205,33 +210,31 @@ public class AccountService {
         }
 
 
-        if (from.getAccountPassword() == null) {
-            throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
-        }
+        checkTransferCredential(email, from.getId(), from.getAccountPassword(), transferToken, password, requestId);
 
-        if (!passwordEncoder.matches(password, from.getAccountPassword())) {
-            throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
+        // stripe 계좌가 끼면 stripe 락 순서 규칙대로 id 오름차순 잠금 (출금 stripe 는 합친 뒤 잔액 검사)
+        if (from.isStriped() || to.isStriped()) {
+            LockedPair pair = lockInOrder(from.getId(), to.getId(), stripeCountOf(to), requestId);
+            from = pair.from();
+            to = pair.to();
         }
 
         Long fromBalance = from.getBalance() != null ? from.getBalance() : 0L;
-        Long toBalance = to.getBalance() != null ? to.getBalance() :0L;
 
         if (fromBalance < amount) { // 현재 잔액이 부족한 경우
-            notificationService.createNotification(CreateNotificationRequestDto.builder().userId(from.getUser().getId()
-            ).message("잔액이 부족하여 이체가 실패하였습니다.").type(NotificationType.INSUFFICIENT_BALANCE).build()
-            );
+            notifyInsufficientBalance(from.getUser().getId());
 
-            throw new IllegalArgumentException("잔액이 부족하여 이체가 실패하였습니다.");
+            throw new InsufficientBalanceException("잔액이 부족하여 이체가 실패하였습니다.");
         }
 
         try {
             from.setBalance(fromBalance-amount);
-            to.setBalance(toBalance + amount);
+            long toBalanceAfter = deposit(to, amount, requestId);
 
             Transaction withdrawTx = Transaction.builder()
             .account(from)
             .amount(-amount)
-            .type("출금")
+            .type(TransactionType.WITHDRAW)
             .balanceAfter(from.getBalance())
             .description(to.getAccountNumber() + "으로 이체됨")
             .requestId(requestId)
@@ -240,8 +243,8 @@ public class AccountService {
             Transaction depositTx = Transaction.builder()
             .account(to)
             .amount(amount)
-            .type("입금")
-            .balanceAfter(to.getBalance())
+            .type(TransactionType.DEPOSIT)
+            .balanceAfter(toBalanceAfter)
             .description(from.getAccountNumber() + "에서 입금됨")
             .requestId(requestId)
             .build();
@@ -252,32 +255,8 @@ public class AccountService {
             transactionRepository.save(withdrawTx);
             transactionRepository.save(depositTx);
 
-            
-                // 이체자 알람
 
-            notificationService.createNotification(CreateNotificationRequestDto.builder().userId(from.getUser().getId())
-                .message(amount+ "원이 "  + toAccountNumber + " 계좌로 이체 완료되었습니다.")
-                .type (NotificationType.TRANSFER).build()
-            
-            );
-            // 입금자 알람
-            notificationService.createNotification(CreateNotificationRequestDto.builder().userId(to.getUser().getId())
-                .message(from.getAccountNumber() + " 계좌에서 "  + amount + "원이 입금되었습니다.")
-                .type (NotificationType.TRANSFER).build()
-            
-            );
-            Long high_value_threshold =  1_000_000L; // 고액 임계값 변수 
-            // 고액 기준이 넘는 돈을 이체하는 경우
-            // 이체하는 사람에게 알람
-            if (amount >= high_value_threshold) {
-                notificationService.createNotification(CreateNotificationRequestDto.builder().userId(from.getUser().getId()).message("고액 거래 감지: " + amount +" 원이 이체되었습니다.")
-                .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
-                );
-
-                notificationService.createNotification(CreateNotificationRequestDto.builder().userId(to.getUser().getId()).message("고액 거래 감지: " + amount +" 원이 입금되었습니다.")
-                .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
-                );
-            }
+            notifyTransferCompleted(from.getUser().getId(), to.getUser().getId(), from.getAccountNumber(), toAccountNumber, amount);
         }
         catch (DataIntegrityViolationException dup) {
               // (request_id, type) 유니크 충돌 → 이미 처리된 요청. 이 트랜잭션은 롤백
@@ -290,19 +269,21 @@ public class AccountService {
     // 비관락 전용 서비스 로직 추가하기
 
     // 락 없이 id 파악 -> id 오름차순으로 findByIdForUpdate 함수로 베타락 -> from/to 매핑 -> 잔액처리
+    // id 파악은 엔티티가 아닌 projection 으로 (락 전에 읽은 엔티티가 영속성 컨텍스트에 남아 있으면
+    // findByIdForUpdate 가 그 인스턴스를 그대로 돌려주고, 그 사이 다른 트랜잭션이 커밋했으면 @Version 불일치로 실패함)
 
     @Transactional
-    public void transferWithPessimisticlock(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String requestId)  {
+    public void transferWithPessimisticlock(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String transferToken, String requestId)  {
 
 
         if (amount == null || amount <=0)  {throw new IllegalArgumentException("이체 금액이 올바르지 않습니다.");}
 
         // 잠금 없이 식별하기
-        Account from0 = accountRepository.findByAccountNumberAndBankId(fromAccountNumber, fromBankId).orElseThrow(
+        AccountTransferView from0 = accountRepository.findTransferViewByAccountNumberAndBankId(fromAccountNumber, fromBankId).orElseThrow(
             ()-> new IllegalArgumentException("출금 게좌 또는 은행 정보가 유효하지 않습니다.")
         );
 
-        Account to0 = accountRepository.findByAccountNumberAndBankId(toAccountNumber, toBankId).orElseThrow(
+        AccountTransferView to0 = accountRepository.findTransferViewByAccountNumberAndBankId(toAccountNumber, toBankId).orElseThrow(
             ()-> new IllegalArgumentException("입금 게좌 또는 은행 정보가 유효하지 않습니다.")
         );
 
@@ -324,53 +305,35 @@ public class AccountService {
         // 오름차순을 사용함, 내림차순도 가능
         
 
-        Long a = Math.min(from0.getId(), to0.getId());// 작은ID
-        Long b = Math.max(from0.getId(), to0.getId());// 큰 ID
-
-        // 락 작은 아이디 -> 큰 아이디 순서로 베타락 획득
-        Account first = accountRepository.findByIdForUpdate(a).orElseThrow();
-        Account second = accountRepository.findByIdForUpdate(b).orElseThrow();
-       
-        // 데드락 회피를 위해 id를 오름차순으로 조회하였고
-        // 조회한 id와 원래 레코드 id와 다를 수 있기 때문에 매핑
-        Account from = first.getId().equals(from0.getId()) ? first : second;
-        Account to = first.getId().equals(to0.getId()) ? first : second;
+        // stripe 계좌는 자기 id 자리에서 본 행 + stripe 행을 한 묶음으로 잠금 (lockInOrder 참고)
+        LockedPair pair = lockInOrder(from0.getId(), to0.getId(), isStriped(to0) ? to0.getStripeCount() : 0, requestId);
+        Account from = pair.from();
+        Account to = pair.to();
 
 
         if (!from.getUser().getEmail().equals(email)) {
             throw new SecurityException("본인의 계좌에서만 이체가 가능합니다.");
         }
 
-        if (from.getAccountPassword() == null) {
-            throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
-        }
-
-        if (!passwordEncoder.matches(password, from.getAccountPassword())) {
-            throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
-        }
+        checkTransferCredential(email, from.getId(), from.getAccountPassword(), transferToken, password, requestId);
 
         long fromBalance = from.getBalance() == null? 0L : from.getBalance();
-        long toBalance = to.getBalance() == null? 0L : to.getBalance();
 
         if (fromBalance <amount ) {
-            notificationService.createNotification(CreateNotificationRequestDto.builder()
-                .userId(from.getUser().getId())
-                .message("잔액이 부족하여 이체가 실패하였습니다.")
-                .type(NotificationType.INSUFFICIENT_BALANCE)
-                .build());
+            notifyInsufficientBalance(from.getUser().getId());
 
             
-            throw new IllegalArgumentException("잔액이 부족하여 이체가 실패하였습니다.");
+            throw new InsufficientBalanceException("잔액이 부족하여 이체가 실패하였습니다.");
         }
 
         try {
             from.setBalance(fromBalance-amount);
-            to.setBalance(toBalance + amount);
+            long toBalanceAfter = deposit(to, amount, requestId);
 
             Transaction withdrawTx = Transaction.builder()
             .account(from)
             .amount(-amount)
-            .type("출금")
+            .type(TransactionType.WITHDRAW)
             .balanceAfter(from.getBalance())
             .description(to.getAccountNumber() + "으로 이체됨")
             .requestId(requestId)
@@ -379,8 +342,8 @@ public class AccountService {
             Transaction depositTx = Transaction.builder()
             .account(to)
             .amount(amount)
-            .type("입금")
-            .balanceAfter(to.getBalance())
+            .type(TransactionType.DEPOSIT)
+            .balanceAfter(toBalanceAfter)
             .description(from.getAccountNumber() + "에서 입금됨")
             .requestId(requestId)
             .build();
@@ -391,32 +354,8 @@ public class AccountService {
             transactionRepository.save(withdrawTx);
             transactionRepository.save(depositTx);
 
-            
-                // 이체자 알람
 
-            notificationService.createNotification(CreateNotificationRequestDto.builder().userId(from.getUser().getId())
-                .message(amount+ "원이 "  + toAccountNumber + " 계좌로 이체 완료되었습니다.")
-                .type (NotificationType.TRANSFER).build()
-            
-            );
-            // 입금자 알람
-            notificationService.createNotification(CreateNotificationRequestDto.builder().userId(to.getUser().getId())
-                .message(from.getAccountNumber() + " 계좌에서 "  + amount + "원이 입금되었습니다.")
-                .type (NotificationType.TRANSFER).build()
-            
-            );
-            Long high_value_threshold =  1_000_000L; // 고액 임계값 변수 
-            // 고액 기준이 넘는 돈을 이체하는 경우
-            // 이체하는 사람에게 알람
-            if (amount >= high_value_threshold) {
-                notificationService.createNotification(CreateNotificationRequestDto.builder().userId(from.getUser().getId()).message("고액 거래 감지: " + amount +" 원이 이체되었습니다.")
-                .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
-                );
-
-                notificationService.createNotification(CreateNotificationRequestDto.builder().userId(to.getUser().getId()).message("고액 거래 감지: " + amount +" 원이 입금되었습니다.")
-                .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
-                );
-            }
+            notifyTransferCompleted(from.getUser().getId(), to.getUser().getId(), from.getAccountNumber(), toAccountNumber, amount);
         }
         catch (DataIntegrityViolationException dup) {
               // (request_id, type) 유니크 충돌 → 이미 처리된 요청. 이 트랜잭션은 롤백
@@ -427,6 +366,85 @@ public class AccountService {
 
     }
 
+    // 조건부 UPDATE 이체 (낙관락 / 비관락 다음의 세번째 전략)
+    // 엔티티를 로딩하지 않고 projection 으로 검증한 뒤
+    // UPDATE account SET balance = balance - ? WHERE id = ? AND balance >= ? 한 문장으로 차감
+    // 영향받은 row 수가 0 이면 잔액 부족 -> 별도의 SELECT FOR UPDATE, @Version 재시도 없이 db 가 원자적으로 판단
+    @Transactional
+    public void transferWithConditionalUpdate(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String transferToken, String requestId) {
+
+        if (amount == null || amount <= 0) {throw new IllegalArgumentException("이체 금액이 올바르지 않습니다.");}
+
+        AccountTransferView from = accountRepository.findTransferViewByAccountNumberAndBankId(fromAccountNumber, fromBankId).orElseThrow(
+            () -> new IllegalArgumentException("출금 계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        AccountTransferView to = accountRepository.findTransferViewByAccountNumberAndBankId(toAccountNumber, toBankId).orElseThrow(
+            () -> new IllegalArgumentException("입금 계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        if (!from.getUserEmail().equals(email)) {
+            throw new SecurityException("본인의 계좌에서만 이체가 가능합니다.");
+        }
+
+        if (from.getId().equals(to.getId())) {
+            throw new IllegalArgumentException("동일한 계좌로는 이체가 불가능합니다.");
+        }
+
+        checkTransferCredential(email, from.getId(), from.getAccountPassword(), transferToken, password, requestId);
+
+        // UPDATE 도 행 락을 잡기 때문에 항상 작은 ID -> 큰 ID 순서로 실행 (비관락 경로와 같은 데드락 회피 규칙)
+        // 입금을 먼저 반영한 뒤 차감이 실패해도 예외로 트랜잭션 전체가 롤백됨
+        // stripe 입금 계좌도 stripe 행을 잠그므로 같은 id 순서를 따름 (AccountStripeService 락 순서 규칙)
+        boolean debited;
+        if (from.getId() < to.getId()) {
+            debited = debitIfSufficient(from, amount);
+            if (debited) {
+                creditAtomic(to, amount, requestId);
+            }
+        } else {
+            creditAtomic(to, amount, requestId);
+            debited = debitIfSufficient(from, amount);
+        }
+
+        if (!debited) {
+            notifyInsufficientBalance(from.getUserId());
+
+            throw new InsufficientBalanceException("잔액이 부족하여 이체가 실패하였습니다.");
+        }
+
+        try {
+            // 두 행 모두 이 트랜잭션이 락을 잡고 있으므로 여기서 읽는 잔액이 곧 거래 후 잔액
+            Transaction withdrawTx = Transaction.builder()
+            .account(accountRepository.getReferenceById(from.getId()))
+            .amount(-amount)
+            .type(TransactionType.WITHDRAW)
+            .balanceAfter(accountRepository.findBalanceById(from.getId()))
+            .description(to.getAccountNumber() + "으로 이체됨")
+            .requestId(requestId)
+            .build();
+
+            Transaction depositTx = Transaction.builder()
+            .account(accountRepository.getReferenceById(to.getId()))
+            .amount(amount)
+            .type(TransactionType.DEPOSIT)
+            .balanceAfter(isStriped(to) ? accountStripeService.totalBalance(to.getId()) : accountRepository.findBalanceById(to.getId()))
+            .description(from.getAccountNumber() + "에서 입금됨")
+            .requestId(requestId)
+            .build();
+
+            transactionRepository.save(withdrawTx);
+            transactionRepository.save(depositTx);
+
+            notifyTransferCompleted(from.getUserId(), to.getUserId(), from.getAccountNumber(), toAccountNumber, amount);
+        }
+        catch (DataIntegrityViolationException dup) {
+              // (request_id, type) 유니크 충돌 → 이미 처리된 요청. 이 트랜잭션은 롤백 (차감/입금 UPDATE 도 함께 취소)
+              TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+              return;
+        }
+    }
+
     // 스케줄러가 사용하는 비밀번호 검사 X이 비관적 락을 사용한 이체함수
     @Transactional
     public void transferForSystem (Long fromAccountId, Long toAccountId, Long amount, String requestId) {
@@ -439,39 +457,160 @@ public class AccountService {
         // B->A 이체시 B락 ->A락
 
         // firstId = 10 , secondId = 100
-        Long firstId = Math.min (fromAccountId, toAccountId); // 최소를 첫번째  ,
-        Long secondId = Math.max (fromAccountId, toAccountId); // 최대를 두번째
-        
-        // LOCK 획득
-        // 정렬시, 작은 ID 값을 가진 계좌가 먼저 비관락 획득
-        
-        Account first = accountRepository.findByIdForUpdate(firstId).orElseThrow(()-> new IllegalArgumentException("계좌 오류")); // 10 번 계좌 잠구고, first 변수 저장
-        Account second = accountRepository.findByIdForUpdate(secondId).orElseThrow(()-> new IllegalArgumentException("계좌 오류")); // 100번 계좌 잠구고, second 변수 저장
-
-       // 비즈니스 의미 매칭
-        // first가 from , second 가 to 인지
-        // first =출금 이게 항상 성립하는건 아니기때문
-        Account from = first.getId().equals(fromAccountId)? first:second;
-        Account to = first.getId().equals (toAccountId)? first : second;
+        // 입금 stripe 는 입금 거래의 멱등키로 고름 (deposit 과 같은 키)
+        int toStripeCount = accountRepository.findStripeCountById(toAccountId).orElseThrow(()-> new IllegalArgumentException("계좌 오류"));
+        LockedPair pair = lockInOrder(fromAccountId, toAccountId, toStripeCount, requestId + "-IN");
+        Account from = pair.from();
+        Account to = pair.to();
 
 
         if (from.getBalance() < amount) {
-            throw new IllegalArgumentException("잔액 부족");
+            throw new InsufficientBalanceException("잔액 부족");
         }
 
         from.setBalance (from.getBalance() - amount);
-        to.setBalance (to.getBalance()+ amount);
+        long toBalanceAfter = deposit(to, amount, requestId + "-IN");
 
 
-        transactionRepository.save(Transaction.builder().account(from).amount(-amount).type("예약출금").balanceAfter(from.getBalance())
+        transactionRepository.save(Transaction.builder().account(from).amount(-amount).type(TransactionType.SCHEDULED_WITHDRAW).balanceAfter(from.getBalance())
         .description("예약이체: " + to.getAccountNumber()).requestId(requestId+ "-OUT").build());
         
         
-        transactionRepository.save(Transaction.builder().account(to).amount(+amount).type("예약입금").balanceAfter(to.getBalance())
+        transactionRepository.save(Transaction.builder().account(to).amount(+amount).type(TransactionType.SCHEDULED_DEPOSIT).balanceAfter(toBalanceAfter)
         .description("예약이체: " + from.getAccountNumber()).requestId(requestId+ "-IN").build());
     
 
         
     }
 
+
+    // 계좌 비밀번호 확인 (유효한 이체 인증 토큰이 오면 BCrypt 검증 생략)
+    // 토큰이 없거나 만료/횟수 초과면 같이 온 계좌 비밀번호로 검증 (토큰 문자열을 비밀번호로 비교하지 않음)
+    // 토큰 사용 횟수는 멱등키당 한 번만 차감 -> 낙관락 재시도로 이 메서드가 다시 불려도 추가 차감 X
+    private void checkTransferCredential(String email, Long accountId, String accountPassword, String transferToken, String password, String requestId) {
+        if (transferAuthService.authorize(transferToken, email, accountId, requestId)) {
+            return;
+        }
+
+        if (accountPassword == null) {
+            throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
+        }
+
+        if (!passwordEncoder.matches(password, accountPassword)) {
+            throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
+        }
+    }
+
+    private record LockedPair(Account from, Account to) {}
+
+    // 출금/입금 계좌를 id 오름차순으로 잠금 (AccountStripeService 락 순서 규칙)
+    // 출금 계좌: 본 행 락 + stripe 합치기, 입금 계좌: stripe 계좌면 입금할 stripe 행 하나만 (본 행은 잠그지 않음)
+    private LockedPair lockInOrder(Long fromId, Long toId, int toStripeCount, String creditRequestId) {
+        if (fromId.equals(toId)) {
+            Account account = lockDebitSide(fromId);
+            return new LockedPair(account, account);
+        }
+
+        Account from;
+        Account to;
+        if (fromId < toId) {
+            from = lockDebitSide(fromId);
+            to = lockCreditSide(toId, toStripeCount, creditRequestId);
+        } else {
+            to = lockCreditSide(toId, toStripeCount, creditRequestId);
+            from = lockDebitSide(fromId);
+        }
+        return new LockedPair(from, to);
+    }
+
+    private Account lockDebitSide(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId).orElseThrow(() -> new IllegalArgumentException("계좌 오류"));
+        // 본 행은 이미 잠겨 있음 -> stripe 만 잠그고 합침
+        if (account.isStriped()) {
+            accountStripeService.consolidate(accountId);
+        }
+        return account;
+    }
+
+    private Account lockCreditSide(Long accountId, int stripeCount, String requestId) {
+        if (stripeCount > 0 && accountStripeService.lockCreditStripe(accountId, stripeCount, requestId)) {
+            return accountRepository.findById(accountId).orElseThrow(() -> new IllegalArgumentException("계좌 오류"));
+        }
+        // 일반 계좌 (또는 조회 이후 stripe 가 해제된 계좌) -> 본 행 락
+        return accountRepository.findByIdForUpdate(accountId).orElseThrow(() -> new IllegalArgumentException("계좌 오류"));
+    }
+
+        // 입금 반영 후 입금 계좌 잔액을 반환
+    // stripe 계좌는 본 행 대신 멱등키로 고른 stripe 행에 더함 (잔액은 락 없이 읽은 근사값)
+    private long deposit(Account to, Long amount, String requestId) {
+        if (to.isStriped()) {
+            accountStripeService.credit(to.getId(), to.getStripeCount(), requestId, amount);
+            return accountStripeService.totalBalance(to.getId());
+        }
+        long toBalance = to.getBalance() == null ? 0L : to.getBalance();
+        to.setBalance(toBalance + amount);
+        return to.getBalance();
+    }
+
+    private static int stripeCountOf(Account account) {
+        return account.isStriped() ? account.getStripeCount() : 0;
+    }
+
+    private static boolean isStriped(AccountTransferView view) {
+        return view.getStripeCount() != null && view.getStripeCount() > 0;
+    }
+
+    // 조건부 UPDATE 차감 (stripe 계좌면 본 행을 잠그고 stripe 를 합친 뒤 차감)
+    private boolean debitIfSufficient(AccountTransferView from, Long amount) {
+        if (isStriped(from)) {
+            accountStripeService.consolidate(from.getId());
+        }
+        return accountRepository.debitIfSufficient(from.getId(), amount) == 1;
+    }
+
+    private void creditAtomic(AccountTransferView to, Long amount, String requestId) {
+        if (isStriped(to)) {
+            accountStripeService.credit(to.getId(), to.getStripeCount(), requestId, amount);
+        } else {
+            accountRepository.credit(to.getId(), amount);
+        }
+    }
+
+    // 이체 완료 알림 (이체자, 입금자, 고액 거래인 경우 양쪽 모두)
+    // 비동기 이체 워커(TransferIntentService)도 같은 문구로 알림을 보내도록 패키지 범위로 공개
+    void notifyTransferCompleted(Long fromUserId, Long toUserId, String fromAccountNumber, String toAccountNumber, Long amount) {
+        // 이체자 알람
+        notificationService.publish(CreateNotificationRequestDto.builder().userId(fromUserId)
+            .template(NotificationTemplate.TRANSFER_SENT).params(NotificationTemplate.params(amount, toAccountNumber))
+            .type (NotificationType.TRANSFER).build()
+        );
+        // 입금자 알람
+        notificationService.publish(CreateNotificationRequestDto.builder().userId(toUserId)
+            .template(NotificationTemplate.TRANSFER_RECEIVED).params(NotificationTemplate.params(fromAccountNumber, amount))
+            .type (NotificationType.TRANSFER).build()
+        );
+        Long high_value_threshold =  1_000_000L; // 고액 임계값 변수 
+        // 고액 기준이 넘는 돈을 이체하는 경우
+        // 이체하는 사람에게 알람
+        if (amount >= high_value_threshold) {
+            notificationService.publish(CreateNotificationRequestDto.builder().userId(fromUserId)
+            .template(NotificationTemplate.HIGH_VALUE_SENT).params(NotificationTemplate.params(amount))
+            .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
+            );
+
+            notificationService.publish(CreateNotificationRequestDto.builder().userId(toUserId)
+            .template(NotificationTemplate.HIGH_VALUE_RECEIVED).params(NotificationTemplate.params(amount))
+            .type(NotificationType.HIGH_VALUE_TRANSACTION).build()
+            );
+        }
+    }
+
+    void notifyInsufficientBalance(Long userId) {
+        notificationService.publish(CreateNotificationRequestDto.builder()
+            .userId(userId)
+            .template(NotificationTemplate.INSUFFICIENT_BALANCE)
+            .type(NotificationType.INSUFFICIENT_BALANCE)
+            .build());
+    }
+
 }
@@ -0,0 +1,148 @@
+package com.fintech.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountBalanceStripe;
+import com.fintech.api.repository.AccountBalanceStripeRepository;
+import com.fintech.api.repository.AccountRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 핫 계좌 잔액 분산(stripe) 관리
+// 가맹점/급여 계좌처럼 입금이 몰리는 계좌는 account 행 하나가 모든 입금의 락 대기 지점이 됨
+// 관리자가 stripe 를 켜면 입금은 멱등키 해시로 고른 stripe 행 하나에만 더해지고 본 계좌 행은 잠그지 않는다
+
+// 락 순서 규칙: 계좌 id 오름차순, stripe 계좌는 자기 id 자리에서 (본 행 -> stripe 행) 을 한 묶음으로 잠근다
+// 출금/통합(consolidate)은 묶음 전체, stripe 입금은 묶음 중 stripe 행 하나만 잠그지만 잡는 자리는 같음
+// -> X->S 입금(stripe 행)과 S->X 출금(본 행 + stripe 행)이 동시에 와도 둘 다 작은 id 쪽부터 잠그므로 데드락 X
+// 입금은 stripe 행만 잠그므로 서로 다른 stripe 로 들어오는 입금끼리는 대기하지 않음
+// 출금은 본 행을 잠근 뒤 stripe 를 본 잔액으로 합치고 나서 잔액 검사 -> 실제 잔액보다 많이 나가는 일은 없음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountStripeService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceStripeRepository accountBalanceStripeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // stripe 사용 설정 (이미 사용 중이면 기존 stripe 를 합친 뒤 새 개수로 다시 생성)
+    @Transactional
+    public Account enableStriping(Long accountId, int stripeCount) {
+        if (stripeCount < 1 || stripeCount > 64) {
+            throw new IllegalArgumentException("stripe 수는 1 ~ 64 사이여야 합니다.");
+        }
+
+        Account account = consolidate(accountId);
+        accountBalanceStripeRepository.deleteByAccountId(accountId);
+
+        List<AccountBalanceStripe> stripes = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(AccountBalanceStripe.builder().account(account).stripeNo(i).balance(0L).build());
+        }
+        accountBalanceStripeRepository.saveAll(stripes);
+        account.setStripeCount(stripeCount);
+
+        log.info("계좌 {} 잔액 stripe 사용: {}개", accountId, stripeCount);
+        return account;
+    }
+
+    // stripe 사용 해제 (남은 stripe 잔액은 본 잔액으로 합친 뒤 삭제)
+    @Transactional
+    public Account disableStriping(Long accountId) {
+        Account account = consolidate(accountId);
+        accountBalanceStripeRepository.deleteByAccountId(accountId);
+        account.setStripeCount(0);
+
+        log.info("계좌 {} 잔액 stripe 해제", accountId);
+        return account;
+    }
+
+    // stripe 입금 -> 호출하는 쪽의 트랜잭션 안에서 실행
+    // 같은 멱등키는 항상 같은 stripe 로 (재시도시 다른 stripe 의 락을 잡지 않도록)
+    public void credit(Long accountId, int stripeCount, String requestId, Long amount) {
+        int stripeNo = stripeNoFor(requestId, stripeCount);
+        int updated = accountBalanceStripeRepository.addToStripe(accountId, stripeNo, amount);
+        if (updated == 0) {
+            // 조회 이후 관리자가 stripe 를 해제한 경우 -> 본 잔액에 직접 입금
+            accountRepository.credit(accountId, amount);
+        }
+    }
+
+    // 입금할 stripe 행을 계좌 id 순서 자리에서 미리 잠근다 (이후 credit 은 이미 잡은 락 안에서 실행)
+    // stripe 가 해제되어 행이 없으면 false -> 호출하는 쪽에서 본 행을 대신 잠금
+    public boolean lockCreditStripe(Long accountId, int stripeCount, String requestId) {
+        return accountBalanceStripeRepository.findByAccountIdAndStripeNoForUpdate(accountId, stripeNoFor(requestId, stripeCount)).isPresent();
+    }
+
+    // 본 계좌 행을 잠그고 stripe 잔액을 모두 본 잔액으로 합친다 -> 호출하는 쪽의 트랜잭션 안에서 실행
+    // 반환된 엔티티는 락이 잡힌 상태이므로 그대로 출금에 사용 가능
+    public Account consolidate(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId).orElseThrow(
+            () -> new IllegalArgumentException("계좌 오류")
+        );
+        if (!account.isStriped()) {
+            return account;
+        }
+
+        long drained = drainStripes(accountId);
+        if (drained != 0L) {
+            long balance = account.getBalance() == null ? 0L : account.getBalance();
+            account.setBalance(balance + drained);
+        }
+        return account;
+    }
+
+    // stripe 를 잠그고 0 으로 비운 뒤 비운 금액을 반환
+    // 반드시 본 계좌 행 락을 먼저 잡은 트랜잭션 안에서 호출 (본 잔액 반영은 호출하는 쪽 책임)
+    public long drainStripes(Long accountId) {
+        long drained = 0L;
+        for (AccountBalanceStripe stripe : accountBalanceStripeRepository.findAllByAccountIdForUpdate(accountId)) {
+            drained += stripe.getBalance();
+        }
+        if (drained != 0L) {
+            accountBalanceStripeRepository.resetBalances(accountId);
+        }
+        return drained;
+    }
+
+    // 실제 잔액 = 본 잔액 + stripe 합계
+    public long totalBalance(Account account) {
+        if (!account.isStriped()) {
+            return account.getBalance() == null ? 0L : account.getBalance();
+        }
+        return totalBalance(account.getId());
+    }
+
+    // 본 잔액과 stripe 합계를 한 문장으로 읽음 -> 같은 스냅샷이라 그 사이 consolidate 가 끼어들어 이중/누락 집계되지 않음
+    // 입금 직후 거래내역 balanceAfter 에 쓰면 동시에 들어온 다른 stripe 입금이 섞일 수 있음 (락 없이 읽으므로)
+    public long totalBalance(Long accountId) {
+        return accountRepository.findTotalBalanceById(accountId).orElse(0L);
+    }
+
+    // 같은 멱등키는 항상 같은 stripe 번호
+    static int stripeNoFor(String requestId, int stripeCount) {
+        return Math.floorMod(String.valueOf(requestId).hashCode(), stripeCount);
+    }
+
+    // 주기적으로 stripe 를 본 잔액으로 합쳐 stripe 합계 조회 비용과 출금시 consolidate 비용을 줄인다
+    // 계좌마다 짧은 트랜잭션으로 (한 번에 전체를 잠그지 않도록)
+    @Scheduled(fixedDelayString = "${account.stripe.consolidate-interval-ms:60000}")
+    public void consolidateAll() {
+        for (Long accountId : accountRepository.findStripedAccountIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> consolidate(accountId));
+            } catch (RuntimeException e) {
+                log.warn("계좌 {} stripe 통합 실패, 다음 주기에 재시도", accountId, e);
+            }
+        }
+    }
+}
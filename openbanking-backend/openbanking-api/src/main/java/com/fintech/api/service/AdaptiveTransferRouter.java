@@ -0,0 +1,46 @@
+package com.fintech.api.service;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 계좌별 이체 전략 선택기
+// 평소(콜드 계좌)에는 낙관락 + 재시도 -> 락 대기 없이 가장 빠름
+// 최근 충돌이 잦은 계좌(급여, 가맹점 계좌 등)가 출금/입금 어느 쪽이든 끼어 있으면 비관락으로 보내서
+// 충돌 -> 롤백 -> 재시도 반복 대신 행 락 대기열에서 순서대로 처리되도록 함
+@Service
+public class AdaptiveTransferRouter {
+
+    private final AccountService accountService;
+    private final OptimisticTransferRetrier optimisticTransferRetrier;
+    private final AccountConflictTracker accountConflictTracker;
+
+    private final Counter optimisticRouted;
+    private final Counter pessimisticRouted;
+
+    public AdaptiveTransferRouter(AccountService accountService,
+                                  OptimisticTransferRetrier optimisticTransferRetrier,
+                                  AccountConflictTracker accountConflictTracker,
+                                  MeterRegistry meterRegistry) {
+        this.accountService = accountService;
+        this.optimisticTransferRetrier = optimisticTransferRetrier;
+        this.accountConflictTracker = accountConflictTracker;
+        this.optimisticRouted = Counter.builder("transfer.strategy.routed").tag("strategy", "optimistic").register(meterRegistry);
+        this.pessimisticRouted = Counter.builder("transfer.strategy.routed").tag("strategy", "pessimistic").register(meterRegistry);
+    }
+
+    public void transfer(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String transferToken, String requestId) {
+        boolean hot = accountConflictTracker.isHot(AccountConflictTracker.key(fromBankId, fromAccountNumber))
+            || accountConflictTracker.isHot(AccountConflictTracker.key(toBankId, toAccountNumber));
+
+        if (hot) {
+            pessimisticRouted.increment();
+            accountService.transferWithPessimisticlock(email, fromBankId, toBankId, fromAccountNumber, toAccountNumber, amount, password, transferToken, requestId);
+            return;
+        }
+
+        optimisticRouted.increment();
+        optimisticTransferRetrier.transfer(email, fromBankId, toBankId, fromAccountNumber, toAccountNumber, amount, password, transferToken, requestId);
+    }
+}
@@ -0,0 +1,267 @@
+package com.fintech.api.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.AccountTransferView;
+import com.fintech.api.dto.BatchTransferRequestDto;
+import com.fintech.api.dto.BatchTransferRequestDto.Leg;
+import com.fintech.api.dto.BatchTransferResponseDto;
+import com.fintech.api.dto.BatchTransferResponseDto.LegResult;
+import com.fintech.api.dto.CreateNotificationRequestDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionJdbcRepository.AccountRef;
+import com.fintech.api.repository.TransactionJdbcRepository.LockedAccount;
+
+import jakarta.transaction.Transactional;
+
+// 대량 이체 (급여 지급처럼 한 출금 계좌 -> 여러 입금 계좌)
+// 건마다 /transfer 를 호출하면 N번의 왕복 + N개의 트랜잭션 -> 하나의 트랜잭션으로 처리
+
+// 1. 출금 계좌 본인확인 / 비밀번호 검사는 한 번만
+// 2. 입금 계좌 id 를 한 번의 조회로 식별
+// 3. 관련된 모든 계좌를 id 오름차순으로 한 번에 베타락 (transferForSystem 과 같은 데드락 회피 규칙)
+// 4. 건별로 메모리에서 검증/차감 -> 실패한 건만 FAILED, 나머지는 계속
+// 5. 잔액 update, 거래내역 insert 를 각각 하나의 JDBC batch 로
+@Service
+public class BatchTransferService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final AccountStripeService accountStripeService;
+    private final NotificationService notificationService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransferAuthService transferAuthService;
+    private final int maxLegs;
+
+    public BatchTransferService(AccountRepository accountRepository,
+                                TransactionJdbcRepository transactionJdbcRepository,
+                                AccountStripeService accountStripeService,
+                                NotificationService notificationService,
+                                PasswordEncoder passwordEncoder,
+                                TransferAuthService transferAuthService,
+                                @Value("${transfer.batch.max-legs:5000}") int maxLegs) {
+        this.accountRepository = accountRepository;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.accountStripeService = accountStripeService;
+        this.notificationService = notificationService;
+        this.passwordEncoder = passwordEncoder;
+        this.transferAuthService = transferAuthService;
+        this.maxLegs = maxLegs;
+    }
+
+    @Transactional
+    public BatchTransferResponseDto transferBatch(String email, BatchTransferRequestDto request) {
+
+        List<Leg> legs = request.getLegs();
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("이체 목록이 비어 있습니다.");
+        }
+        if (legs.size() > maxLegs) {
+            throw new IllegalArgumentException("한 번에 이체할 수 있는 건수는 최대 " + maxLegs + "건입니다.");
+        }
+
+        AccountTransferView from = accountRepository.findTransferViewByAccountNumberAndBankId(request.getFromAccountNumber(), request.getFromBankId()).orElseThrow(
+            () -> new IllegalArgumentException("출금 계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        if (!from.getUserEmail().equals(email)) {
+            throw new SecurityException("본인의 계좌에서만 이체가 가능합니다.");
+        }
+
+        // 이체 인증 토큰이면 BCrypt 생략 (사용 횟수는 묶음 안의 건수만큼 차감)
+        if (!transferAuthService.authorize(request.credential(), email, from.getId(), legs.size())) {
+            if (from.getAccountPassword() == null) {
+                throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
+            }
+
+            if (!passwordEncoder.matches(request.getPassword(), from.getAccountPassword())) {
+                throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
+            }
+        }
+
+        // 입금 계좌 식별 (락 없이 한 번의 조회)
+        Map<Long, Set<String>> toNumbers = new HashMap<>();
+        for (Leg leg : legs) {
+            if (leg.getToBankId() != null && leg.getToAccountNumber() != null) {
+                toNumbers.computeIfAbsent(leg.getToBankId(), bankId -> new HashSet<>()).add(leg.getToAccountNumber());
+            }
+        }
+        Map<String, AccountRef> refs = new HashMap<>();
+        for (AccountRef ref : transactionJdbcRepository.findAccountRefs(toNumbers)) {
+            refs.put(refKey(ref.getBankId(), ref.getAccountNumber()), ref);
+        }
+
+        // 출금 + 모든 입금 계좌를 id 오름차순으로 락
+        // stripe 출금 계좌는 자기 id 자리에서 본 행 -> stripe 를 잠가야 하므로 (AccountStripeService 락 순서 규칙)
+        // 출금 계좌까지 한 번, stripe 를 비운 뒤 나머지를 한 번 잠근다
+        TreeSet<Long> accountIds = new TreeSet<>();
+        accountIds.add(from.getId());
+        refs.values().forEach(ref -> accountIds.add(ref.getId()));
+        Map<Long, LockedAccount> locked = new HashMap<>(transactionJdbcRepository.lockAccounts(accountIds.headSet(from.getId(), true)));
+
+        // stripe 출금 계좌는 본 행 락 이후 stripe 를 비워 본 잔액에 합산
+        LockedAccount fromLocked = locked.get(from.getId());
+        if (fromLocked == null) {
+            throw new IllegalArgumentException("출금 계좌 또는 은행 정보가 유효하지 않습니다.");
+        }
+        long fromBalance = fromLocked.getBalance();
+        if (fromLocked.isStriped()) {
+            fromBalance += accountStripeService.drainStripes(from.getId());
+        }
+        locked.putAll(transactionJdbcRepository.lockAccounts(accountIds.tailSet(from.getId(), false)));
+
+        List<String> requestIds = legs.stream().map(Leg::getRequestId).toList();
+        Set<String> processed = new HashSet<>(transactionJdbcRepository.findExistingRequestKeys(requestIds));
+
+        Map<Long, Long> balances = new HashMap<>();
+        locked.values().forEach(a -> balances.put(a.getId(), a.getBalance()));
+        balances.put(from.getId(), fromBalance);
+
+        Map<Long, Long> changed = new HashMap<>();
+        List<Transaction> ledger = new ArrayList<>();
+        List<LegResult> results = new ArrayList<>(legs.size());
+        List<AccountRef> credited = new ArrayList<>();
+        List<Long> creditedAmounts = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        boolean insufficient = false;
+        int successCount = 0;
+        long totalAmount = 0L;
+
+        // 잔액 부족 등 업무 오류는 해당 건만 실패 처리
+        for (Leg leg : legs) {
+            String requestId = leg.getRequestId();
+            Long amount = leg.getAmount();
+            AccountRef to = refs.get(refKey(leg.getToBankId(), leg.getToAccountNumber()));
+
+            if (requestId == null || requestId.isBlank()) {
+                results.add(new LegResult(requestId, "FAILED", "건별 멱등키는 필수입니다."));
+                continue;
+            }
+            if (to == null || !locked.containsKey(to.getId())) {
+                results.add(new LegResult(requestId, "FAILED", "입금 계좌 또는 은행 정보가 유효하지 않습니다."));
+                continue;
+            }
+            if (to.getId().equals(from.getId())) {
+                results.add(new LegResult(requestId, "FAILED", "동일한 계좌로는 이체가 불가능합니다."));
+                continue;
+            }
+            if (amount == null || amount <= 0) {
+                results.add(new LegResult(requestId, "FAILED", "이체 금액이 올바르지 않습니다."));
+                continue;
+            }
+
+            // 이미 처리된 멱등키 (이전 요청 또는 같은 요청 안의 중복)
+            String withdrawKey = TransactionJdbcRepository.requestKey(requestId, TransactionType.WITHDRAW);
+            String depositKey = TransactionJdbcRepository.requestKey(requestId, TransactionType.DEPOSIT);
+            if (processed.contains(withdrawKey) || processed.contains(depositKey)) {
+                results.add(new LegResult(requestId, "DUPLICATE", "이미 처리된 요청입니다."));
+                continue;
+            }
+
+            long currentFrom = balances.get(from.getId());
+            if (currentFrom < amount) {
+                insufficient = true;
+                results.add(new LegResult(requestId, "FAILED", "잔액이 부족하여 이체가 실패하였습니다."));
+                continue;
+            }
+
+            long fromAfter = currentFrom - amount;
+            long toAfter = balances.get(to.getId()) + amount;
+            balances.put(from.getId(), fromAfter);
+            balances.put(to.getId(), toAfter);
+            changed.put(from.getId(), fromAfter);
+            changed.put(to.getId(), toAfter);
+            processed.add(withdrawKey);
+            processed.add(depositKey);
+
+            ledger.add(Transaction.builder()
+                .account(Account.builder().id(from.getId()).build())
+                .amount(-amount)
+                .type(TransactionType.WITHDRAW)
+                .balanceAfter(fromAfter)
+                .description(to.getAccountNumber() + "으로 이체됨")
+                .requestId(requestId)
+                .transactionDate(now)
+                .build());
+
+            ledger.add(Transaction.builder()
+                .account(Account.builder().id(to.getId()).build())
+                .amount(amount)
+                .type(TransactionType.DEPOSIT)
+                .balanceAfter(toAfter)
+                .description(from.getAccountNumber() + "에서 입금됨")
+                .requestId(requestId)
+                .transactionDate(now)
+                .build());
+
+            results.add(new LegResult(requestId, "SUCCESS", null));
+            credited.add(to);
+            creditedAmounts.add(amount);
+            successCount++;
+            totalAmount += amount;
+        }
+
+        // stripe 를 비웠으면 성공 건이 없어도 본 잔액에 반영해야 함
+        if (fromLocked.isStriped()) {
+            changed.put(from.getId(), balances.get(from.getId()));
+        }
+        if (!changed.isEmpty()) {
+            transactionJdbcRepository.batchUpdateBalances(changed);
+            transactionJdbcRepository.batchInsert(ledger);
+        }
+
+        notifyBatchCompleted(from, credited, creditedAmounts, successCount, totalAmount, insufficient);
+
+        return BatchTransferResponseDto.builder()
+            .successCount(successCount)
+            .failedCount((int) results.stream().filter(r -> "FAILED".equals(r.getStatus())).count())
+            .totalAmount(totalAmount)
+            .results(results)
+            .build();
+    }
+
+    // 이체자에게는 요약 알림 1건, 입금자에게는 건별 입금 알림
+    private void notifyBatchCompleted(AccountTransferView from, List<AccountRef> credited, List<Long> amounts,
+                                      int successCount, long totalAmount, boolean insufficient) {
+        if (successCount > 0) {
+            notificationService.publish(CreateNotificationRequestDto.builder().userId(from.getUserId())
+                .template(NotificationTemplate.BATCH_COMPLETED).params(NotificationTemplate.params(successCount, totalAmount))
+                .type(NotificationType.TRANSFER).build()
+            );
+        }
+        for (int i = 0; i < credited.size(); i++) {
+            notificationService.publish(CreateNotificationRequestDto.builder().userId(credited.get(i).getUserId())
+                .template(NotificationTemplate.TRANSFER_RECEIVED).params(NotificationTemplate.params(from.getAccountNumber(), amounts.get(i)))
+                .type(NotificationType.TRANSFER).build()
+            );
+        }
+        if (insufficient) {
+            notificationService.publish(CreateNotificationRequestDto.builder()
+                .userId(from.getUserId())
+                .template(NotificationTemplate.BATCH_PARTIALLY_FAILED)
+                .type(NotificationType.INSUFFICIENT_BALANCE)
+                .build());
+        }
+    }
+
+    private static String refKey(Long bankId, String accountNumber) {
+        return bankId + ":" + accountNumber;
+    }
+}
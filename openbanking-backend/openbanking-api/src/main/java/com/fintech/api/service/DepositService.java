@@ -63,15 +63,16 @@ public class DepositService {
     // 고객이 상품 가입
     @Transactional
     public UserDepositResponseDto subscribeProduct(String email, UserDepositRequestDto dto) {
-        User user = userRepository.findByEmail(email)
+        // 가입 행에는 사용자 FK 만 필요 -> id 만 조회하고 저장할 때 프록시로 연결
+        Long userId = userRepository.findIdByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않은 유저"));
 
         DepositProduct product = productRepository.findById(dto.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
         // 중복 가입 체크 추가
-        boolean alreadySubscribed = userDepositRepository.existsByUserAndProductAndStatus(
-                user, product, DepositStatus.ACTIVE);
+        boolean alreadySubscribed = userDepositRepository.existsByUserIdAndProductIdAndStatus(
+                userId, product.getId(), DepositStatus.ACTIVE);
         
         if (alreadySubscribed) {
             throw new IllegalArgumentException("이미 가입한 상품입니다.");
@@ -81,7 +82,7 @@ public class DepositService {
         Account account = accountRepository.findByAccountNumber(dto.getFromAccountNumber())
                 .orElseThrow(() -> new IllegalArgumentException("출금 계좌가 존재하지 않습니다."));
 
-        if (!account.getUser().getId().equals(user.getId())) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new SecurityException("본인 계좌로만 가입할 수 있습니다.");
         }
 
@@ -92,7 +93,7 @@ public class DepositService {
 
         // 계좌 잔액 검증
         if (BigDecimal.valueOf(account.getBalance()).compareTo(dto.getAmount()) < 0) {
-            throw new IllegalArgumentException("계좌 잔액 부족");
+            throw new InsufficientBalanceException("계좌 잔액 부족");
         }
 
         // 계좌 잔액 차감
@@ -113,7 +114,7 @@ public class DepositService {
 
         // UserDeposit
         UserDeposit userDeposit = UserDeposit.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .product(product)
                 .account(account)
                 .amount(dto.getAmount())
@@ -126,7 +127,7 @@ public class DepositService {
         UserDeposit saved = userDepositRepository.save(userDeposit);
 
         log.info("사용자 {} 상품 {} 가입 완료 (금액: {}, 예상이자: {})", 
-                 user.getEmail(), product.getName(), dto.getAmount(), expectedInterest);
+                 email, product.getName(), dto.getAmount(), expectedInterest);
 
         return UserDepositResponseDto.from(saved);
     }
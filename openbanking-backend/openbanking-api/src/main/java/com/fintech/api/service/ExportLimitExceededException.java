@@ -0,0 +1,9 @@
+package com.fintech.api.service;
+
+// 동시에 실행 중인 거래내역 내보내기가 제한 수에 도달 (잠시 후 재시도 가능 -> 429)
+public class ExportLimitExceededException extends IllegalStateException {
+
+    public ExportLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fintech.api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.repository.TransactionRequestArchiveRepository;
+import com.fintech.api.repository.TransactionRequestArchiveRepository.RequestKeyRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 멱등키 보존 기간 관리
+// transaction.request_id 는 (request_id, type) 유니크 인덱스에 들어가므로 쌓일수록 모든 insert 가 더 큰 인덱스를 갱신하게 됨
+// 보존 기간(기본 7일)이 지난 키는 transaction_request_archive 로 옮기고 원본은 NULL 로 비운다
+
+// 보존 기간 안의 키는 그대로 -> 프론트가 재시도할 수 있는 기간 동안은 "이미 처리된 요청" 보장 유지
+// 보존 기간은 IdempotencyFilter 의 응답 보관 시간(idempotency.response-ttl-hours) 보다 짧아질 수 없음
+// 묶음(chunk) 마다 짧은 트랜잭션으로 처리해서 오래 락을 잡지 않음
+@Slf4j
+@Service
+public class IdempotencyKeyRetentionService {
+
+    private final TransactionRequestArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public IdempotencyKeyRetentionService(TransactionRequestArchiveRepository archiveRepository,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${transaction.idempotency.retention-days:7}") long retentionDays,
+                                          @Value("${idempotency.response-ttl-hours:24}") long responseTtlHours,
+                                          @Value("${transaction.idempotency.archive-chunk-size:500}") int chunkSize,
+                                          @Value("${transaction.idempotency.archive-max-chunks:200}") int maxChunks) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        Duration configured = Duration.ofDays(retentionDays);
+        Duration retryWindow = Duration.ofHours(responseTtlHours);
+        if (configured.compareTo(retryWindow) < 0) {
+            log.warn("멱등키 보존 기간({}일)이 재시도 가능 기간({}시간)보다 짧아 재시도 기간으로 맞춤", retentionDays, responseTtlHours);
+            configured = retryWindow;
+        }
+        this.retention = configured;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunks = Math.max(maxChunks, 1);
+    }
+
+    // 한 번 실행에 최대 maxChunks 묶음까지, 남은 건 다음 실행에서 이어서 처리
+    @Scheduled(cron = "${transaction.idempotency.archive-cron:0 30 3 * * *}")
+    public void archiveExpiredScheduled() {
+        try {
+            int archived = archiveExpired();
+            if (archived > 0) {
+                log.info("보존 기간이 지난 멱등키 {}건 보관 처리", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("멱등키 보관 처리 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    public int archiveExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(retention);
+        long afterId = archiveRepository.findLastArchivedTransactionId();
+
+        int archived = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            List<RequestKeyRow> rows = archiveRepository.findRequestKeysAfter(afterId, chunkSize);
+
+            // id 순서 = 거래 시간 순서 -> 보존 기간 안의 거래를 만나면 거기서 멈춤
+            List<RequestKeyRow> expired = rows.stream()
+                .takeWhile(r -> r.getTransactionDate() == null || r.getTransactionDate().isBefore(cutoff))
+                .toList();
+            if (expired.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> archiveRepository.archive(expired, now));
+            archived += expired.size();
+            afterId = expired.get(expired.size() - 1).getTransactionId();
+
+            if (expired.size() < rows.size() || rows.size() < chunkSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+}
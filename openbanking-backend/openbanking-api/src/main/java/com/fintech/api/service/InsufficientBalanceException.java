@@ -0,0 +1,11 @@
+package com.fintech.api.service;
+
+// 잔액 부족으로 인한 이체/출금 실패
+// 기존 업무 오류 처리(400, 재시도 X)를 그대로 타도록 IllegalArgumentException 을 상속
+// 메시지 문구 대신 타입으로 잔액 부족 여부를 판단하기 위해 사용 (비동기 이체 워커의 잔액 부족 알림 등)
+public class InsufficientBalanceException extends IllegalArgumentException {
+
+    public InsufficientBalanceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,156 @@
+package com.fintech.api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.dto.MonthlyStatementDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.MonthlyRollupRepository;
+import com.fintech.api.repository.MonthlyRollupRepository.MonthlyDelta;
+import com.fintech.api.repository.MonthlyRollupRepository.RollupRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 계좌 월간 집계 (account_monthly_rollup) 갱신 / 월간 명세 조회
+// 이체 경로가 여러 갈래 (JPA, 묶음 커밋, 대량 이체 JDBC batch, stripe) 라서 경로마다 집계를 끼워 넣지 않고
+// rollup_watermark 이후의 거래를 id 순서로 읽어 누적하는 catch-up 작업 하나로 반영
+
+// 묶음(chunk) 마다 워터마크 행 락 -> 거래 조회 -> 집계 upsert -> 워터마크 갱신을 한 트랜잭션으로 (중복/누락 없이, 서버 여러 대여도 한 곳만 반영)
+// id 는 insert 시점에 정해지고 커밋은 그보다 늦을 수 있으므로 settle 시간(기본 5분)이 지난 거래까지만 반영
+// -> 그보다 앞 번호의 거래가 아직 커밋 전이라 건너뛰는 일이 없도록 (이체 트랜잭션은 락 대기 포함 수 초 이내)
+// id 가 비어 있는 자리(롤백된 insert 또는 아직 커밋 전인 거래) 바로 뒤의 거래는 gap-settle 시간(기본 30분)이 지나야 넘어감
+// -> 늦게 커밋되는 거래에 여유를 더 주고, 롤백으로 빈 번호 때문에 집계가 멈추지는 않도록
+// 한계: 거래 행을 insert 한 뒤 gap-settle 보다 오래 열려 있다가 커밋된 거래는 집계에서 빠진다 (경고 로그로 빈 구간을 남김)
+@Slf4j
+@Service
+public class MonthlyRollupService {
+
+    private static final int MAX_MONTHS = 120;
+
+    private final MonthlyRollupRepository rollupRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration settle;
+    private final Duration gapSettle;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    private final Counter rolledUpCounter;
+
+    public MonthlyRollupService(MonthlyRollupRepository rollupRepository,
+                                AccountRepository accountRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${statement.rollup.settle-seconds:300}") long settleSeconds,
+                                @Value("${statement.rollup.gap-settle-seconds:1800}") long gapSettleSeconds,
+                                @Value("${statement.rollup.chunk-size:1000}") int chunkSize,
+                                @Value("${statement.rollup.max-chunks:50}") int maxChunks) {
+        this.rollupRepository = rollupRepository;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.settle = Duration.ofSeconds(Math.max(settleSeconds, 0));
+        this.gapSettle = Duration.ofSeconds(Math.max(gapSettleSeconds, this.settle.getSeconds()));
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunks = Math.max(maxChunks, 1);
+        this.rolledUpCounter = Counter.builder("statement.rollup.transactions")
+            .description("월간 집계에 반영된 거래 수").register(meterRegistry);
+    }
+
+    // 한 번 실행에 최대 maxChunks 묶음까지, 남은 건 다음 실행에서 이어서 처리
+    @Scheduled(fixedDelayString = "${statement.rollup.interval-ms:60000}")
+    public void catchUpScheduled() {
+        try {
+            int rolledUp = catchUp(LocalDateTime.now());
+            if (rolledUp > 0) {
+                log.debug("월간 집계 반영: {}건", rolledUp);
+            }
+        } catch (RuntimeException e) {
+            log.warn("월간 집계 반영 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    public int catchUp(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(settle);
+        LocalDateTime gapCutoff = now.minus(gapSettle);
+
+        int rolledUp = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            Integer applied = transactionTemplate.execute(status -> applyChunk(cutoff, gapCutoff, now));
+            int count = applied == null ? 0 : applied;
+            rolledUp += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        return rolledUp;
+    }
+
+    // 트랜잭션 안에서 실행, 반영한 거래 수 반환
+    private int applyChunk(LocalDateTime cutoff, LocalDateTime gapCutoff, LocalDateTime now) {
+        long afterId = rollupRepository.lockWatermark();
+        List<RollupRow> rows = rollupRepository.findTransactionsAfter(afterId, chunkSize);
+
+        // settle 시간이 지나지 않은 거래를 만나면 거기서 멈춤 (거래 시간이 없는 행은 집계 없이 지나감)
+        // 빈 번호 바로 뒤의 거래는 gap-settle 시간이 지나야 넘어감
+        List<RollupRow> settled = new ArrayList<>();
+        long previousId = afterId;
+        for (RollupRow row : rows) {
+            boolean gap = row.getId() != previousId + 1;
+            LocalDateTime limit = gap ? gapCutoff : cutoff;
+            if (row.getTransactionDate() != null && !row.getTransactionDate().isBefore(limit)) {
+                break;
+            }
+            if (gap) {
+                log.info("월간 집계: 거래 id {} ~ {} 없이 진행 (이후에 커밋되면 집계에서 빠짐)", previousId + 1, row.getId() - 1);
+            }
+            settled.add(row);
+            previousId = row.getId();
+        }
+        if (settled.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, MonthlyDelta> deltas = new LinkedHashMap<>();
+        for (RollupRow row : settled) {
+            if (row.getTransactionDate() == null) {
+                continue;
+            }
+            YearMonth month = YearMonth.from(row.getTransactionDate());
+            deltas.computeIfAbsent(row.getAccountId() + "|" + month, k -> new MonthlyDelta(row.getAccountId(), month.atDay(1)))
+                .add(row);
+        }
+
+        rollupRepository.upsertAll(deltas.values(), now);
+        rollupRepository.saveWatermark(settled.get(settled.size() - 1).getId(), now);
+        rolledUpCounter.increment(settled.size());
+        return settled.size();
+    }
+
+    // 계좌의 월간 명세 [from, to] (최대 10년), 계좌당 월 1행만 읽음
+    // 최근 settle 시간 + 작업 주기 이내의 거래는 아직 반영되지 않았을 수 있음
+    public List<MonthlyStatementDto> getStatements(String email, Long accountId, YearMonth from, YearMonth to) {
+        if (!accountRepository.existsByIdAndUserEmail(accountId, email)) {
+            throw new IllegalArgumentException("본인의 계좌가 아닙니다.");
+        }
+
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        if (start.isAfter(end) || start.plusMonths(MAX_MONTHS).isBefore(end)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        return rollupRepository.findStatements(accountId, start, end);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fintech.api.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.NotificationOutbox;
+import com.fintech.api.dto.NotificationResponseDto;
+import com.fintech.api.repository.NotificationOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// outbox -> notification 릴레이
+// 커밋된 outbox 행을 묶음 단위로 잠그고 notification 에 batch insert 한 뒤 같은 트랜잭션에서 삭제
+// -> 릴레이 도중 장애가 나도 outbox 행이 남아 있으므로 다음 주기에 다시 옮겨짐 (알림 유실 X)
+// 안 읽은 알림 카운터 증가와 SSE push 는 묶음 트랜잭션이 커밋된 뒤 트랜잭션 밖에서 (롤백된 묶음이 카운터/화면에 남지 않도록)
+@Slf4j
+@Service
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationStreamHub notificationStreamHub;
+
+    private final int batchSize;
+    private final int maxBatches;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   NotificationUnreadCounter notificationUnreadCounter,
+                                   NotificationStreamHub notificationStreamHub,
+                                   @Value("${notification.outbox.batch-size:500}") int batchSize,
+                                   @Value("${notification.outbox.max-batches:20}") int maxBatches) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.notificationStreamHub = notificationStreamHub;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatches = Math.max(maxBatches, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-ms:500}")
+    public void relayScheduled() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("알림 outbox 릴레이 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    // 옮긴 outbox 행 수를 반환
+    public int relay() {
+        int relayed = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            RelayedBatch batch = transactionTemplate.execute(status -> relayBatch());
+            if (batch == null) {
+                break;
+            }
+            afterCommit(batch);
+            relayed += batch.moved();
+            if (batch.moved() < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    private RelayedBatch relayBatch() {
+        List<NotificationOutbox> rows = outboxRepository.lockBatch(batchSize);
+        if (rows.isEmpty()) {
+            return new RelayedBatch(0, List.of(), List.of());
+        }
+
+        Set<Long> users = outboxRepository.findExistingUserIds(rows.stream().map(NotificationOutbox::getUserId).distinct().toList());
+        List<NotificationOutbox> deliverable = rows.stream().filter(r -> users.contains(r.getUserId())).toList();
+        if (deliverable.size() < rows.size()) {
+            log.info("존재하지 않는 사용자의 알림 {}건은 옮기지 않고 삭제", rows.size() - deliverable.size());
+        }
+
+        List<Long> ids = outboxRepository.insertNotifications(deliverable);
+        outboxRepository.deleteByIds(rows.stream().map(NotificationOutbox::getId).toList());
+        return new RelayedBatch(rows.size(), deliverable, ids);
+    }
+
+    // 커밋 이후: 카운터 증가 + 연결된 사용자에게 새 알림 push
+    private void afterCommit(RelayedBatch batch) {
+        List<NotificationOutbox> deliverable = batch.deliverable();
+        if (deliverable.isEmpty()) {
+            return;
+        }
+        notificationUnreadCounter.addAll(deliverable.stream()
+            .collect(Collectors.groupingBy(NotificationOutbox::getUserId, Collectors.counting())));
+
+        List<Long> ids = batch.ids();
+        for (int i = 0; i < deliverable.size(); i++) {
+            NotificationOutbox r = deliverable.get(i);
+            notificationStreamHub.publish(r.getUserId(), NotificationResponseDto.builder()
+                .id(i < ids.size() ? ids.get(i) : null)
+                .message(r.renderMessage())
+                .type(r.getType())
+                .isRead(false)
+                .createdAt(r.getCreatedAt())
+                .build());
+        }
+    }
+
+    private record RelayedBatch(int moved, List<NotificationOutbox> deliverable, List<Long> ids) {}
+}
@@ -0,0 +1,234 @@
+package com.fintech.api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.repository.NotificationRetentionRepository;
+import com.fintech.api.repository.NotificationRetentionRepository.CompactionWatermark;
+import com.fintech.api.repository.NotificationRetentionRepository.NotificationRow;
+import com.fintech.api.repository.NotificationRetentionRepository.NotificationSummary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 알림 보관 작업 (notification 테이블이 이체량에 비례해서 계속 커지는 것 방지)
+// 1. 삭제: 읽은 알림은 read-days, 안 읽은 알림은 unread-days 가 지나면 삭제
+// 2. 요약: compact-after-hours 가 지난 읽은 알림 중 같은 사용자 / 같은 종류가 1분 안에 burst-threshold 건 이상이면 요약 1건으로 합침
+
+// 모두 (is_read, created_at) 인덱스 범위로 오래된 순서대로 chunk 건씩 읽고, chunk 마다 짧은 트랜잭션으로 PK 삭제
+// 요약 대상은 읽은 알림뿐이라 안 읽은 알림 카운터는 바뀌지 않음 (안 읽은 알림 삭제분은 카운터 보정 작업이 맞춰줌)
+
+// 요약은 서버마다 실행되므로 진행 위치를 db 워터마크 행에 두고 chunk 마다 행 락 -> 요약 반영 -> 워터마크 갱신을 한 트랜잭션으로
+// -> 다른 서버는 락을 기다렸다가 갱신된 위치부터 이어서 처리 (같은 구간을 두 번 요약 X), 재시작해도 위치 유지
+// 묶음 단위가 1분이라 chunk 경계에 걸린 마지막 1분은 요약하지 않고 다음 chunk 에서 그 1분의 처음부터 다시 읽음
+
+// 요약의 한계 (의도한 범위)
+// - 워터마크는 created_at 기준으로만 앞으로 감 -> 워터마크가 지나간 뒤에 읽음 처리된 알림은 다시 보지 않으므로 요약되지 않음
+//   (알림을 늦게 읽는 사용자의 burst 는 그대로 남았다가 read-days 삭제로 정리됨)
+// - 안 읽은 알림의 burst 는 요약하지 않음 -> 안 읽은 알림 수 / 목록이 사용자 모르게 바뀌지 않도록, unread-days 삭제로만 정리됨
+// 두 경우 모두 요약만 빠질 뿐 보관 기한 삭제는 그대로라 테이블 크기는 기한 안에서 제한됨
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final NotificationRetentionRepository retentionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration readRetention;
+    private final Duration unreadRetention;
+    private final Duration compactAfter;
+    private final int burstThreshold;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    private final Counter readDeletedCounter;
+    private final Counter unreadDeletedCounter;
+    private final Counter compactedCounter;
+    private final Counter summaryCounter;
+
+    private final AtomicLong compactionWatermark = new AtomicLong();
+
+    public NotificationRetentionService(NotificationRetentionRepository retentionRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.retention.read-days:90}") long readDays,
+                                        @Value("${notification.retention.unread-days:365}") long unreadDays,
+                                        @Value("${notification.retention.compact-after-hours:24}") long compactAfterHours,
+                                        @Value("${notification.retention.burst-threshold:5}") int burstThreshold,
+                                        @Value("${notification.retention.chunk-size:500}") int chunkSize,
+                                        @Value("${notification.retention.max-chunks:100}") int maxChunks) {
+        this.retentionRepository = retentionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.readRetention = Duration.ofDays(Math.max(readDays, 1));
+        this.unreadRetention = Duration.ofDays(Math.max(unreadDays, readDays));
+        this.compactAfter = Duration.ofHours(Math.max(compactAfterHours, 1));
+        this.burstThreshold = Math.max(burstThreshold, 2);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunks = Math.max(maxChunks, 1);
+
+        this.readDeletedCounter = Counter.builder("notification.retention.deleted").tag("state", "read")
+            .description("보관 기간이 지나 삭제된 읽은 알림 수").register(meterRegistry);
+        this.unreadDeletedCounter = Counter.builder("notification.retention.deleted").tag("state", "unread")
+            .description("보관 기간이 지나 삭제된 안 읽은 알림 수").register(meterRegistry);
+        this.compactedCounter = Counter.builder("notification.retention.compacted")
+            .description("요약 알림으로 합쳐져 삭제된 알림 수").register(meterRegistry);
+        this.summaryCounter = Counter.builder("notification.retention.summaries")
+            .description("새로 만든 요약 알림 수").register(meterRegistry);
+        Gauge.builder("notification.retention.compaction.watermark", compactionWatermark, AtomicLong::get)
+            .description("요약 작업이 처리한 마지막 알림 시각 (epoch seconds)").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int deleted = purge(now);
+            int compacted = compact(now);
+            if (deleted > 0 || compacted > 0) {
+                log.info("알림 보관 작업: 삭제 {}건, 요약으로 합침 {}건", deleted, compacted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 보관 작업 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    // 보관 기간이 지난 알림 삭제, 삭제한 건수 반환
+    public int purge(LocalDateTime now) {
+        return purge(true, now.minus(readRetention), readDeletedCounter)
+            + purge(false, now.minus(unreadRetention), unreadDeletedCounter);
+    }
+
+    private int purge(boolean read, LocalDateTime before, Counter counter) {
+        int deleted = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            List<Long> ids = retentionRepository.findIdsCreatedBefore(read, before, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer removed = transactionTemplate.execute(status -> retentionRepository.deleteByIds(ids));
+            int count = removed == null ? 0 : removed;
+            deleted += count;
+            counter.increment(count);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    // 몰린 알림을 요약 알림으로 합침, 합쳐져 삭제된 원본 건수 반환
+    public int compact(LocalDateTime now) {
+        // 끝나지 않은 1분이 나뉘어 요약되지 않도록 기준 시각을 분 단위로 내림
+        LocalDateTime before = now.minus(compactAfter).truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime floor = now.minus(readRetention); // 이보다 오래된 읽은 알림은 삭제 대상
+
+        int compacted = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            ChunkResult result = transactionTemplate.execute(status -> compactChunk(before, floor, now));
+            if (result == null) {
+                break;
+            }
+            // 커밋된 뒤에 집계
+            compacted += result.compacted();
+            compactedCounter.increment(result.compacted());
+            summaryCounter.increment(result.summaries());
+            if (!result.hasMore()) {
+                break;
+            }
+        }
+        return compacted;
+    }
+
+    // 트랜잭션 안에서 실행 (워터마크 행 락은 커밋까지 유지)
+    private ChunkResult compactChunk(LocalDateTime before, LocalDateTime floor, LocalDateTime now) {
+        CompactionWatermark watermark = retentionRepository.lockCompactionWatermark();
+        LocalDateTime afterCreatedAt = watermark.getCreatedAt();
+        long afterId = watermark.getId();
+        if (afterCreatedAt.isBefore(floor)) {
+            afterCreatedAt = floor;
+            afterId = 0L;
+        }
+
+        List<NotificationRow> rows = retentionRepository.findReadAfter(afterCreatedAt, afterId, before, chunkSize);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, false);
+        }
+
+        boolean hasMore = rows.size() >= chunkSize;
+        List<NotificationRow> complete = rows;
+        if (hasMore) {
+            // chunk 경계에 걸린 마지막 1분은 다음 chunk 로 넘김 (같은 묶음이 두 chunk 로 나뉘어 따로 요약되지 않도록)
+            LocalDateTime openMinute = rows.get(rows.size() - 1).getCreatedAt().truncatedTo(ChronoUnit.MINUTES);
+            complete = rows.stream().takeWhile(r -> r.getCreatedAt().isBefore(openMinute)).toList();
+            if (complete.isEmpty()) {
+                // chunk 전체가 같은 1분 -> 그 1분의 나머지를 모두 읽어 한 번에 처리
+                NotificationRow last = rows.get(rows.size() - 1);
+                LocalDateTime minuteEnd = openMinute.plusMinutes(1);
+                complete = new ArrayList<>(rows);
+                complete.addAll(retentionRepository.findReadAfter(last.getCreatedAt(), last.getId(),
+                    minuteEnd.isBefore(before) ? minuteEnd : before, Integer.MAX_VALUE));
+            }
+        }
+
+        List<NotificationSummary> summaries = new ArrayList<>();
+        List<Long> merged = new ArrayList<>();
+        for (List<NotificationRow> burst : groupBursts(complete).values()) {
+            if (burst.size() < burstThreshold) {
+                continue;
+            }
+            NotificationRow first = burst.get(0);
+            summaries.add(new NotificationSummary(first.getUserId(), first.getType(), burst.size(),
+                first.getCreatedAt().truncatedTo(ChronoUnit.MINUTES).format(MINUTE_FORMAT), first.getCreatedAt()));
+            burst.forEach(r -> merged.add(r.getId()));
+        }
+
+        if (!summaries.isEmpty()) {
+            retentionRepository.insertSummaries(summaries);
+            retentionRepository.deleteByIds(merged);
+        }
+
+        NotificationRow last = complete.get(complete.size() - 1);
+        retentionRepository.saveCompactionWatermark(last.getCreatedAt(), last.getId(), now);
+        compactionWatermark.set(last.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+        return new ChunkResult(merged.size(), summaries.size(), hasMore);
+    }
+
+    // (사용자, 종류, 분) 단위로 묶음, 이미 요약된 알림은 제외
+    private Map<BurstKey, List<NotificationRow>> groupBursts(List<NotificationRow> rows) {
+        Map<BurstKey, List<NotificationRow>> groups = new LinkedHashMap<>();
+        for (NotificationRow row : rows) {
+            if (row.getTemplate() == NotificationTemplate.BURST_SUMMARY) {
+                continue;
+            }
+            BurstKey key = new BurstKey(row.getUserId(), row.getType(), row.getCreatedAt().truncatedTo(ChronoUnit.MINUTES));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        return groups;
+    }
+
+    private record BurstKey(Long userId, NotificationType type, LocalDateTime minute) {
+    }
+
+    private record ChunkResult(int compacted, int summaries, boolean hasMore) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.fintech.api.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fintech.api.domain.Notification;
 import com.fintech.api.domain.User;
 import com.fintech.api.dto.CreateNotificationRequestDto;
+import com.fintech.api.dto.NotificationPageResponseDto;
 import com.fintech.api.dto.NotificationResponseDto;
+import com.fintech.api.repository.NotificationOutboxRepository;
 import com.fintech.api.repository.NotificationRepository;
 import com.fintech.api.repository.UserRepository;
 
@@ -20,10 +28,43 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationStreamHub notificationStreamHub;
 
-    // 내 알림 전체 조회
-    public List<NotificationResponseDto> getMyNotifications(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId).stream().map(this::toDto).toList(); //유저 아이디를 기반으로 알림 전체 가져와서 List형으로 반환
+    // 트랜잭션별로 모아둔 outbox 알림 (TransactionSynchronizationManager 리소스 키)
+    private static final Object PENDING_OUTBOX_KEY = new Object();
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 내 알림 조회 (keyset 페이지)
+    // 전체를 메모리에 올리지 않고 (created_at, id) 기준으로 size 건씩, 한 건 더 읽어서 다음 페이지 여부 판단
+    public NotificationPageResponseDto getMyNotifications(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationResponseDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findFeedFirstPage(userId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = notificationRepository.findFeedAfter(userId, after.at(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationResponseDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationResponseDto last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NotificationPageResponseDto.builder().items(items).nextCursor(nextCursor).hasNext(hasNext).build();
+    }
+
+    // 안 읽은 알림 수 (redis 카운터)
+    public long getUnreadCount(Long userId) {
+        return notificationUnreadCounter.get(userId);
     }
 
     // 알림 읽음 처리
@@ -36,22 +77,79 @@ public class NotificationService {
             throw new RuntimeException("본인 알림만 읽음 처리 가능합니다.");
         }
 
-        notification.setIsRead(true); // 읽음 처리를 위한 true값 설정
+        if (!Boolean.TRUE.equals(notification.getIsRead())) { // 이미 읽은 알림은 카운터 차감 X
+            notification.setIsRead(true); // 읽음 처리를 위한 true값 설정
+            notificationUnreadCounter.add(userId, -1);
+        }
         return true; // frontend에 반환(쓰일수 있을거같아서)
     }
 
+    // 알림 일괄 읽음 처리 (cursor 가 없으면 전체, 있으면 cursor 위치의 알림과 그보다 오래된 알림)
+    // 본인 알림만 대상이므로 건별 소유자 확인 X, 읽음 처리된 건수만큼 카운터 차감
+    @Transactional
+    public int markAllRead(Long userId, String cursor) {
+        int updated;
+        if (cursor == null || cursor.isBlank()) {
+            updated = notificationRepository.markAllRead(userId);
+        } else {
+            KeysetCursor upTo = KeysetCursor.decode(cursor);
+            updated = notificationRepository.markReadUpTo(userId, upTo.at(), upTo.id());
+        }
+
+        if (updated > 0) {
+            notificationUnreadCounter.add(userId, -updated);
+        }
+        return updated;
+    }
+
     // 알림 생성 (알람생성 dto 인자로 받아서 저장)
+    // 사용자는 FK 만 필요하므로 조회 없이 프록시로 연결 -> insert 1번, 없는 사용자는 FK 제약으로 걸러짐
     public void createNotification(CreateNotificationRequestDto dto) { 
-        User user = userRepository.findById(dto.getUserId()) .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다.")); // 사용자 존재 x경우 예외처리
+        User user = userRepository.getReferenceById(dto.getUserId());
 
-        Notification notification = Notification.builder().user(user).message(dto.getMessage()).type(dto.getType()).isRead(false).build();
+        Notification notification = Notification.builder().user(user).message(dto.getMessage()).template(dto.getTemplate()).params(dto.getParams())
+            .type(dto.getType()).isRead(false).build();
 
-        notificationRepository.save(notification); // 알람 생성후 저장
+        Notification saved;
+        try {
+            saved = notificationRepository.save(notification); // 알람 생성후 저장
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("유저가 존재하지 않습니다.", e); // 사용자 존재 x경우 예외처리
+        }
+        // 카운터 증가와 push 는 호출하는 쪽 트랜잭션이 있으면 커밋 이후에 실행됨 (NotificationUnreadCounter / NotificationStreamHub 가 afterCommit 으로 미룸)
+        notificationUnreadCounter.add(dto.getUserId(), 1);
+        notificationStreamHub.publish(dto.getUserId(), NotificationResponseDto.builder().id(saved.getId()).message(saved.renderMessage())
+            .type(saved.getType()).isRead(false).createdAt(saved.getCreatedAt()).build()); // 연결된 사용자에게 push
     }
 
-    // private: Entity → DTO 변환
-    private NotificationResponseDto toDto(Notification n) {
-        return NotificationResponseDto.builder().id(n.getId()).message(n.getMessage()).type(n.getType()).isRead(n.getIsRead()).createdAt(n.getCreatedAt()).build();
+    // 시스템 알림 발행 (이체, 계좌 개설 등 서비스 내부에서 호출)
+    // 트랜잭션 안이면 알림을 모아두었다가 커밋 직전에 outbox 로 한 번에 batch insert -> 사용자 조회 / 건별 insert 로 락 보유 시간이 늘지 않음
+    // 롤백되면 알림도 기록되지 않음 (기존 createNotification 과 동일), 실제 notification 행은 NotificationOutboxRelay 가 생성
+    public void publish(CreateNotificationRequestDto dto) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationOutboxRepository.insertAll(List.of(dto), LocalDateTime.now());
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<CreateNotificationRequestDto> pending = (List<CreateNotificationRequestDto>) TransactionSynchronizationManager.getResource(PENDING_OUTBOX_KEY);
+        if (pending == null) {
+            List<CreateNotificationRequestDto> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_OUTBOX_KEY, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    notificationOutboxRepository.insertAll(buffer, LocalDateTime.now());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_OUTBOX_KEY);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(dto);
     }
 }
-
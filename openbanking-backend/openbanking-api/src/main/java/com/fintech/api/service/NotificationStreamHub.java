@@ -0,0 +1,164 @@
+package com.fintech.api.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.api.dto.NotificationResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 알림 SSE(Server-Sent Events) 허브
+// 사용자 id 별로 이 서버에 연결된 SseEmitter 목록을 들고 있다가 새 알림을 바로 밀어줌 -> 알림 목록 polling 불필요
+
+// 여러 서버로 띄운 경우 사용자가 어느 서버에 연결되어 있는지 알 수 없음
+// -> 알림은 redis pub/sub 채널로 발행하고, 모든 서버가 구독해서 자기에게 연결된 사용자에게만 전달 (RedisConfig 에서 구독 등록)
+// redis 발행이 실패하면 이 서버에 연결된 사용자에게라도 직접 전달
+@Slf4j
+@Service
+public class NotificationStreamHub implements MessageListener {
+
+    public static final String CHANNEL = "notif:stream";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public NotificationStreamHub(RedisTemplate<String, String> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerUser = Math.max(maxConnectionsPerUser, 1);
+    }
+
+    // 연결 등록 (탭을 여러 개 열 수 있으므로 사용자당 여러 연결, 한도를 넘으면 가장 오래된 연결 종료)
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = createEmitter();
+        List<SseEmitter> list = emitters.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        while (list.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = list.remove(0);
+            oldest.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 연결 직후 한 번 보내서 프록시가 응답을 붙잡고 있지 않도록
+        send(userId, emitter, SseEmitter.event().name("connected").data("ok"));
+        return emitter;
+    }
+
+    // 테스트에서 전달된 이벤트를 확인할 수 있도록 분리
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // 새 알림 발행 (트랜잭션 안이면 커밋된 뒤에)
+    public void publish(Long userId, NotificationResponseDto notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(userId, notification);
+                }
+            });
+        } else {
+            broadcast(userId, notification);
+        }
+    }
+
+    private void broadcast(Long userId, NotificationResponseDto notification) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new StreamMessage(userId, notification)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("알림 redis 발행 실패, 이 서버 연결에만 전달: userId={}", userId, e);
+            deliverLocal(userId, notification);
+        }
+    }
+
+    // redis 채널 수신 -> 이 서버에 연결된 사용자면 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StreamMessage received = objectMapper.readValue(message.getBody(), StreamMessage.class);
+            deliverLocal(received.userId(), received.notification());
+        } catch (IOException e) {
+            log.warn("알림 redis 메시지 해석 실패", e);
+        }
+    }
+
+    // 전달한 연결 수를 반환
+    int deliverLocal(Long userId, NotificationResponseDto notification) {
+        List<SseEmitter> list = emitters.get(userId);
+        if (list == null) {
+            return 0;
+        }
+
+        int delivered = 0;
+        for (SseEmitter emitter : list) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name("notification").data(notification);
+            if (notification.getId() != null) {
+                event.id(String.valueOf(notification.getId()));
+            }
+            if (send(userId, emitter, event)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    // 끊긴 연결 정리 + 프록시 idle timeout 방지용 주석 이벤트
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, list) -> list.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    int connectionCount(Long userId) {
+        List<SseEmitter> list = emitters.get(userId);
+        return list == null ? 0 : list.size();
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // redis 채널 메시지
+    record StreamMessage(Long userId, NotificationResponseDto notification) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.fintech.api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fintech.api.dto.UnreadCountView;
+import com.fintech.api.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 안 읽은 알림 수 redis 카운터 (대시보드 뱃지용, 조회 O(1))
+// 키가 없으면 db 에서 한 번 세어 채우고(TTL), 이후 알림 생성/읽음 처리시 커밋 이후에 증감
+// 키가 없는 사용자는 증감하지 않음 (다음 조회 때 db 기준으로 다시 채움) -> 존재하지 않는 키를 INCR 해서 틀린 값이 생기지 않도록 스크립트로 처리
+
+// 키 채우기와 증감이 겹치는 순간 등으로 생길 수 있는 오차는 주기적인 보정 작업이 db 값으로 덮어씀 (TTL 은 연장하지 않음)
+// redis 장애시에는 db count 로 응답
+@Slf4j
+@Service
+public class NotificationUnreadCounter {
+
+    static final String KEY_PREFIX = "notif:unread:";
+
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incrby', KEYS[1], ARGV[1]) end return nil",
+        Long.class);
+
+    // 키가 남아 있을 때만 값만 바꾸고 만료 시각은 그대로 (SET XX KEEPTTL, redis 6.0+)
+    // 보정이 TTL 을 계속 연장하면 조회가 없는 사용자의 키도 영원히 남으므로
+    private static final RedisScript<Long> SET_IF_PRESENT_KEEP_TTL = new DefaultRedisScript<>(
+        "if redis.call('set', KEYS[1], ARGV[1], 'XX', 'KEEPTTL') then return 1 end return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+    private final int reconcileBatchSize;
+
+    public NotificationUnreadCounter(RedisTemplate<String, String> redisTemplate,
+                                     NotificationRepository notificationRepository,
+                                     @Value("${notification.unread.ttl-minutes:60}") long ttlMinutes,
+                                     @Value("${notification.unread.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofMinutes(Math.max(ttlMinutes, 1));
+        this.reconcileBatchSize = Math.max(reconcileBatchSize, 1);
+    }
+
+    public long get(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Math.max(Long.parseLong(cached), 0L);
+            }
+        } catch (RuntimeException e) {
+            log.warn("안 읽은 알림 수 redis 조회 실패, db 로 조회", e);
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (RuntimeException e) {
+            log.warn("안 읽은 알림 수 redis 저장 실패", e);
+        }
+        return count;
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 반영 (롤백된 알림이 카운터에 남지 않도록)
+    public void add(Long userId, long delta) {
+        addAll(Map.of(userId, delta));
+    }
+
+    public void addAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+
+        Map<Long, Long> copy = new HashMap<>(deltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(copy);
+            }
+        });
+    }
+
+    private void apply(Map<Long, Long> deltas) {
+        deltas.forEach((userId, delta) -> {
+            try {
+                redisTemplate.execute(ADD_IF_PRESENT, List.of(key(userId)), String.valueOf(delta));
+            } catch (RuntimeException e) {
+                log.warn("안 읽은 알림 수 redis 반영 실패: userId={}", userId, e);
+            }
+        });
+    }
+
+    // 캐시된 카운터만 db 값으로 다시 맞춤 (SCAN 으로 키를 나눠 읽고, 묶음마다 group by 조회 1번)
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            List<Long> userIds = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(reconcileBatchSize).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    userIds.add(Long.parseLong(keys.next().substring(KEY_PREFIX.length())));
+                    if (userIds.size() >= reconcileBatchSize) {
+                        reconcile(userIds);
+                        userIds.clear();
+                    }
+                }
+            }
+            reconcile(userIds);
+        } catch (RuntimeException e) {
+            log.warn("안 읽은 알림 수 보정 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    void reconcile(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        userIds.forEach(id -> counts.put(id, 0L)); // 안 읽은 알림이 없는 사용자는 조회 결과에 없음
+        for (UnreadCountView view : notificationRepository.countUnreadByUserIds(userIds)) {
+            counts.put(view.getUserId(), view.getUnread());
+        }
+        // SCAN 이후 만료된 키는 다시 만들지 않음 (다음 조회 때 db 기준으로 채움)
+        counts.forEach((userId, count) -> redisTemplate.execute(SET_IF_PRESENT_KEEP_TTL, List.of(key(userId)), String.valueOf(count)));
+    }
+
+    static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
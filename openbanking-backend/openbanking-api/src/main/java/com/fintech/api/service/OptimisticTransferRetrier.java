@@ -0,0 +1,95 @@
+package com.fintech.api.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 낙관락 이체 재시도 엔진
+// Account.@Version 충돌(ObjectOptimisticLockingFailureException)이 나면 트랜잭션 전체를 새로 시작해서 다시 시도
+// -> 매 시도마다 계좌를 다시 조회하므로 최신 잔액/버전 기준으로 재검증됨
+// 같은 Idempotency-Key(requestId)를 그대로 넘기기 때문에 이미 커밋된 요청이면 유니크 제약으로 중복 처리 방지
+// 이체 인증 토큰은 멱등키당 한 번만 차감되므로 (TransferAuthService) 재시도가 토큰 사용 횟수를 더 쓰지 않음
+
+// 재시도 간격: 지수 백오프 + full jitter (0 ~ min(max, base * 2^(n-1)) 사이 랜덤)
+// -> 충돌한 요청들이 같은 타이밍에 다시 부딪히지 않도록 분산
+// 이 클래스 자체는 트랜잭션 밖에서 호출되어야 함 (재시도마다 새 트랜잭션)
+@Slf4j
+@Service
+public class OptimisticTransferRetrier {
+
+    private final AccountService accountService;
+    private final AccountConflictTracker accountConflictTracker; // 충돌 계좌 기록 -> AdaptiveTransferRouter 가 전략 선택에 사용
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private final Counter conflictCounter;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticTransferRetrier(AccountService accountService,
+                                     AccountConflictTracker accountConflictTracker,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${transfer.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                     @Value("${transfer.optimistic-retry.base-delay-ms:10}") long baseDelayMillis,
+                                     @Value("${transfer.optimistic-retry.max-delay-ms:200}") long maxDelayMillis) {
+        this.accountService = accountService;
+        this.accountConflictTracker = accountConflictTracker;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.baseDelayMillis = Math.max(baseDelayMillis, 1);
+        this.maxDelayMillis = Math.max(maxDelayMillis, this.baseDelayMillis);
+
+        this.conflictCounter = Counter.builder("transfer.optimistic.conflicts")
+            .description("낙관락 이체 버전 충돌 횟수").register(meterRegistry);
+        this.retryCounter = Counter.builder("transfer.optimistic.retries")
+            .description("낙관락 이체 재시도 횟수").register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("transfer.optimistic.exhausted")
+            .description("재시도 한도를 넘겨 실패한 낙관락 이체 수").register(meterRegistry);
+    }
+
+    public void transfer(String email, Long fromBankId, Long toBankId, String fromAccountNumber, String toAccountNumber, Long amount, String password, String transferToken, String requestId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                accountService.transfer(email, fromBankId, toBankId, fromAccountNumber, toAccountNumber, amount, password, transferToken, requestId);
+                return;
+            } catch (OptimisticLockingFailureException conflict) {
+                conflictCounter.increment();
+                // 어느 쪽 계좌 때문에 충돌했는지 알 수 없으므로 양쪽 모두 기록
+                accountConflictTracker.recordConflict(AccountConflictTracker.key(fromBankId, fromAccountNumber));
+                accountConflictTracker.recordConflict(AccountConflictTracker.key(toBankId, toAccountNumber));
+
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("낙관락 이체 재시도 한도 초과: requestId={}, 시도={}", requestId, attempt);
+                    throw conflict;
+                }
+
+                retryCounter.increment();
+                sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(max, base * 2^(attempt-1))
+    long backoffMillis(int attempt) {
+        long ceiling = baseDelayMillis << Math.min(attempt - 1, 20);
+        ceiling = Math.min(ceiling, maxDelayMillis);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이체 재시도 대기 중 인터럽트가 발생하였습니다.", e);
+        }
+    }
+}
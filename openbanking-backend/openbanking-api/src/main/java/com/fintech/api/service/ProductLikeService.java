@@ -7,7 +7,6 @@ import org.springframework.stereotype.Service;
 
 import com.fintech.api.domain.DepositProduct;
 import com.fintech.api.domain.ProductLike;
-import com.fintech.api.domain.User;
 import com.fintech.api.dto.ProductLikeResponseDto;
 import com.fintech.api.repository.DepositProductRepository;
 import com.fintech.api.repository.ProductLikeRepository;
@@ -25,33 +24,32 @@ public class ProductLikeService {
     private final DepositProductRepository productRepository;
 
     // 추천하기
+    // 추천 행에는 FK 만 들어가므로 사용자는 id 만 조회, 사용자 / 상품은 프록시로 연결
     @Transactional
     public void likeProduct(String email, Long productId) {
-        User user = userRepository.findByEmail(email)
+        Long userId = userRepository.findIdByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        DepositProduct product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품 없음"));
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품 없음");
+        }
 
         // 중복 추천 방지
-        if (productLikeRepository.existsByUserAndProduct(user, product)) {
+        if (productLikeRepository.existsByUserIdAndProductId(userId, productId)) {
             throw new IllegalStateException("이미 추천한 상품입니다.");
         }
 
-        productLikeRepository.save(ProductLike.of(user, product));
+        productLikeRepository.save(ProductLike.of(userRepository.getReferenceById(userId), productRepository.getReferenceById(productId)));
     }
 
-    // 추천 취소
+    // 추천 취소 (조회 후 삭제 대신 한 번의 delete)
     @Transactional
     public void unlikeProduct(String email, Long productId) {
-        User user = userRepository.findByEmail(email)
+        Long userId = userRepository.findIdByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        DepositProduct product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품 없음"));
-
-        ProductLike like = productLikeRepository.findByUserAndProduct(user, product)
-                .orElseThrow(() -> new IllegalStateException("추천 기록 없음"));
 
-        productLikeRepository.delete(like);
+        if (productLikeRepository.deleteByUserIdAndProductId(userId, productId) == 0) {
+            throw new IllegalStateException("추천 기록 없음");
+        }
     }
 
     // 추천 수 조회
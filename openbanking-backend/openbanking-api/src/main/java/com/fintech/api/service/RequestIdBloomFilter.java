@@ -0,0 +1,198 @@
+package com.fintech.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionRequestArchiveRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 멱등키 중복 사전 검사용 Bloom filter (프로세스 내부)
+// 거의 모든 요청은 새 멱등키라서 createTransaction 의 findByRequestIdAndType 조회는 대부분 헛수고
+// filter 가 "없음" 이라고 하면 조회를 건너뛰고, "있을 수도 있음" 이면 기존처럼 조회
+
+// 최종 중복 판정은 여전히 db 의 (request_id, type) 유니크 제약
+// filter 는 아직 보관되지 않은 멱등키 (transaction.request_id 가 NULL 이 아닌 행) 전체로 주기적으로 다시 만든다
+// 재생성 중에 들어온 키는 새 filter 에도 넣고, 직전 filter 도 한 주기 동안 같이 확인 -> 재생성 시점 경계의 키 누락 방지
+// 다른 서버 / 다른 이체 경로에서 쓴 키는 다음 재생성 전까지 filter 에 없을 수 있음 -> 이 경우 유니크 제약 위반으로 롤백 (이중 반영 X)
+@Slf4j
+@Component
+public class RequestIdBloomFilter {
+
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionRequestArchiveRepository archiveRepository;
+
+    private final boolean enabled;
+    private final int expectedKeys;
+    private final double falsePositiveRate;
+
+    private volatile Bits current;   // null 이면 아직 준비 전 -> 항상 "있을 수도 있음"
+    private volatile Bits previous;
+    private volatile Bits building;
+    private final AtomicLong loadedKeys = new AtomicLong();
+
+    private final Counter skippedCounter;
+    private final Counter hitCounter;
+    private final Counter falsePositiveCounter;
+
+    public RequestIdBloomFilter(TransactionJdbcRepository transactionJdbcRepository,
+                                TransactionRequestArchiveRepository archiveRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${transaction.idempotency.bloom.enabled:true}") boolean enabled,
+                                @Value("${transaction.idempotency.bloom.expected-keys:1000000}") int expectedKeys,
+                                @Value("${transaction.idempotency.bloom.fpp:0.01}") double falsePositiveRate) {
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.archiveRepository = archiveRepository;
+        this.enabled = enabled;
+        this.expectedKeys = Math.max(expectedKeys, 1000);
+        this.falsePositiveRate = Math.min(Math.max(falsePositiveRate, 0.0001), 0.5);
+
+        this.skippedCounter = Counter.builder("transaction.idempotency.bloom.checks").tag("result", "negative")
+            .description("Bloom filter 로 중복 조회를 건너뛴 횟수").register(meterRegistry);
+        this.hitCounter = Counter.builder("transaction.idempotency.bloom.checks").tag("result", "hit")
+            .description("Bloom filter 양성 후 실제 중복이었던 횟수").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("transaction.idempotency.bloom.checks").tag("result", "false_positive")
+            .description("Bloom filter 양성이었지만 조회 결과 중복이 아니었던 횟수").register(meterRegistry);
+        Gauge.builder("transaction.idempotency.bloom.keys", loadedKeys, AtomicLong::get)
+            .description("마지막 재생성 시 filter 에 넣은 멱등키 수").register(meterRegistry);
+    }
+
+    // false 면 해당 (requestId, type) 은 확실히 처리된 적 없음
+    public boolean mightContain(String requestId, TransactionType type) {
+        Bits cur = current;
+        if (!enabled || cur == null) {
+            return true;
+        }
+
+        String key = TransactionJdbcRepository.requestKey(requestId, type);
+        Bits prev = previous;
+        boolean maybe = cur.mightContain(key) || (prev != null && prev.mightContain(key));
+        if (!maybe) {
+            skippedCounter.increment();
+        }
+        return maybe;
+    }
+
+    // filter 양성 후 실제 조회 결과 기록 (오탐률 메트릭)
+    public void recordLookup(boolean found) {
+        if (!enabled || current == null) {
+            return;
+        }
+        (found ? hitCounter : falsePositiveCounter).increment();
+    }
+
+    // insert 직전에 호출 (커밋 전에 넣어도 오탐만 늘 뿐 누락은 없음)
+    public void put(String requestId, TransactionType type) {
+        if (!enabled) {
+            return;
+        }
+        String key = TransactionJdbcRepository.requestKey(requestId, type);
+        Bits cur = current;
+        Bits next = building;
+        if (cur != null) {
+            cur.put(key);
+        }
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    // 시작 직후 1번, 이후 주기적으로 다시 만든다 (삭제를 지원하지 않는 구조라 보관된 키를 비우려면 재생성 필요)
+    @Scheduled(fixedDelayString = "${transaction.idempotency.bloom.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Bits next = new Bits(expectedKeys, falsePositiveRate);
+            building = next; // 이 시점 이후의 put 은 새 filter 에도 들어감
+
+            long afterId = archiveRepository.findLastArchivedTransactionId();
+            long[] count = { 0 };
+            transactionJdbcRepository.forEachActiveRequestKey(afterId, key -> {
+                next.put(key);
+                count[0]++;
+            });
+
+            previous = current;
+            current = next;
+            loadedKeys.set(count[0]);
+            if (count[0] > expectedKeys) {
+                log.warn("멱등키 {}건이 Bloom filter 예상 크기({})를 넘어 오탐률이 올라감", count[0], expectedKeys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("멱등키 Bloom filter 재생성 실패, 다음 주기에 재시도", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // 고정 크기 비트 배열 + double hashing (Kirsch-Mitzenmacher)
+    static class Bits {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        Bits(int expectedKeys, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) ((bits + 63) / 64));
+            this.bitCount = (long) words.length() * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64bit + 마지막 섞기 (String.hashCode 는 32bit 라 두 해시를 만들기에 부족)
+        private static long hash64(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.fintech.api.service;
 
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 
+import com.fintech.api.domain.NotificationTemplate;
 import com.fintech.api.domain.NotificationType;
 import com.fintech.api.domain.ScheduledTransfer;
 import com.fintech.api.dto.CreateNotificationRequestDto;
@@ -33,33 +37,48 @@ public class ScheduledTransferProcessor {
              String requestId = "SCHEDULED-" + s.getId();
              accountService.transferForSystem(s.getFromAccount().getId(),s.getToAccount().getId(), s.getAmount(), requestId);
 
+             markCompleted(s);
+        
+            } catch (Exception e) {
+                markFailed(s, e);
+            }
 
-             // 성공 status 
+    }
 
-             s.setStatus("완료");
-             scheduledTransferRepository.save(s);
+    // 묶음 커밋(TransferGroupCommitter) 으로 이미 제출된 예약이체의 결과를 받아 상태/알림만 처리
+    public void complete (ScheduledTransfer s, CompletableFuture<Void> committed) {
+        try {
+            committed.join();
+            markCompleted(s);
+        } catch (CompletionException e) {
+            markFailed(s, e.getCause() instanceof Exception cause ? cause : e);
+        }
+    }
 
-             //  성공 알림
+    private void markCompleted (ScheduledTransfer s) {
+        // 성공 status 
 
-             notificationService.createNotification(CreateNotificationRequestDto.builder()
-                .userId(s.getUser().getId())
-                .message("예약 이체 완료: " + s.getAmount() + "원")
-                .type(NotificationType.SCHEDULED_TRANSFER).build()
-            
-            );
-        
-        
+        s.setStatus("완료");
+        scheduledTransferRepository.save(s);
+
+        //  성공 알림
+
+        notificationService.publish(CreateNotificationRequestDto.builder()
+            .userId(s.getUser().getId())
+            .template(NotificationTemplate.SCHEDULED_COMPLETED).params(NotificationTemplate.params(s.getAmount()))
+            .type(NotificationType.SCHEDULED_TRANSFER).build()
         
-            } catch (Exception e) {
-                log.error ("예약 이체 실패 ID: {} ", s.getId(), e);
-                s.setStatus ("실패");
-                scheduledTransferRepository.save(s); //  예외를 가지고 상태만 저장하는 방식이 배치에선 유리
-
-                // 실패알림 dto 생성
-                notificationService.createNotification(CreateNotificationRequestDto.builder()
-                .userId(s.getUser().getId()).message("예약이체 실패: " + e.getMessage())
-                .type(NotificationType.INSUFFICIENT_BALANCE).build() );
-            }
+        );
+    }
+
+    private void markFailed (ScheduledTransfer s, Exception e) {
+        log.error ("예약 이체 실패 ID: {} ", s.getId(), e);
+        s.setStatus ("실패");
+        scheduledTransferRepository.save(s); //  예외를 가지고 상태만 저장하는 방식이 배치에선 유리
 
+        // 실패알림 dto 생성
+        notificationService.publish(CreateNotificationRequestDto.builder()
+        .userId(s.getUser().getId()).template(NotificationTemplate.SCHEDULED_FAILED).params(NotificationTemplate.params(e.getMessage()))
+        .type(NotificationType.INSUFFICIENT_BALANCE).build() );
     }
 }
@@ -1,7 +1,10 @@
 package com.fintech.api.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -34,6 +37,11 @@ public class ScheduledTransferService {
 
     private final ScheduledTransferProcessor scheduledTransferProcessor;
 
+    // 예약이체 묶음 커밋 (transfer.group-commit.enabled = true 인 경우)
+    private final TransferGroupCommitter transferGroupCommitter;
+
+    private final TransferAuthService transferAuthService; // 이체 인증 토큰
+
     
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -49,7 +57,9 @@ public class ScheduledTransferService {
         System.out.println("출금계좌 확인" + dto.getToAccountNumber());
         Account from = accountRepository.findByAccountNumber(dto.getFromAccountNumber()).orElseThrow(() -> new IllegalArgumentException("출금 계좌 없습니다.")); //출금 계좌 엔티티 객체
 
-        if (from.getAccountPassword() == null || !passwordEncoder.matches(dto.getPassword(),from.getAccountPassword())){
+        // 이체 인증 토큰이면 BCrypt 생략 (등록 요청마다 사용 횟수 1 차감)
+        if (!transferAuthService.authorize(dto.credential(), user.getEmail(), from.getId())
+            && (from.getAccountPassword() == null || !passwordEncoder.matches(dto.getPassword(),from.getAccountPassword()))){
             throw new SecurityException("계좌 비밀번호 불일치");
         }
 
@@ -113,6 +123,23 @@ public class ScheduledTransferService {
         // 예약이체 데이터가 많은 경우, 페이징 처리가 필수, 일단 list
 
         List <ScheduledTransfer> scheduleds = scheduledTransferRepository.findByStatusAndScheduledAtBefore("대기", LocalDateTime.now());
+
+        // 묶음 커밋이 켜져있으면 전부 제출해두고, 커밋된 결과를 순서대로 받아서 상태/알림 처리
+        // 건마다 트랜잭션을 열고 닫는 대신 여러 건이 한 번의 커밋을 공유
+        if (transferGroupCommitter.isEnabled()) {
+            Map<ScheduledTransfer, CompletableFuture<Void>> submitted = new LinkedHashMap<>();
+            for (ScheduledTransfer s : scheduleds) {
+                submitted.put(s, transferGroupCommitter.submit(TransferCommand.builder()
+                    .fromAccountId(s.getFromAccount().getId())
+                    .toAccountId(s.getToAccount().getId())
+                    .amount(s.getAmount())
+                    .requestId("SCHEDULED-" + s.getId())
+                    .scheduled(true)
+                    .build()));
+            }
+            submitted.forEach(scheduledTransferProcessor::complete);
+            return;
+        }
         
         // 2. loop를 돌면서 Processor 에게 처리하라고 "지시"
         for (ScheduledTransfer s : scheduleds) {
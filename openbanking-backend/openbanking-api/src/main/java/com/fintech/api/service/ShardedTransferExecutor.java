@@ -0,0 +1,119 @@
+package com.fintech.api.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 출금 계좌 기준 샤드 단일 writer 이체 실행기
+// 계좌를 (은행ID, 계좌번호) 해시로 N개 샤드에 나누고, 샤드마다 스레드 1개가 이체를 순서대로 처리한다
+// 같은 계좌에서 나가는 이체끼리는 db 락을 두고 경쟁하지 않고 샤드 큐에서 줄을 서게 됨 -> 핫 계좌의 락 대기/데드락 재시도 감소
+
+// 잔액의 기준은 여전히 db (메모리 잔액 맵 + 비동기 write-through 는 커밋 전에 응답이 나가서 장애시 이체 유실 가능 -> 도입 X)
+// 입금 계좌는 다른 샤드일 수 있으므로 기존 비관락/낙관락이 최종 정합성을 보장한다
+// transfer.shard.count = 0 (기본값) 이면 비활성화, 호출 스레드에서 그대로 실행
+
+// 샤드 큐는 queue-capacity 까지만 쌓고, 결과는 timeout-ms 까지만 기다림 -> 넘으면 503 (TransferShardBusyException)
+// 핫 계좌 하나로 요청이 몰려도 대기열과 Tomcat 스레드가 끝없이 늘어나지 않도록
+// 시간 초과시 아직 시작하지 않은 이체는 취소, 이미 실행 중인 이체는 그대로 끝까지 실행 (결과는 같은 멱등키 재요청으로 확인)
+@Slf4j
+@Component
+public class ShardedTransferExecutor {
+
+    private final ExecutorService[] shards;
+    private final long timeoutMillis;
+
+    public ShardedTransferExecutor(@Value("${transfer.shard.count:0}") int shardCount,
+                                   @Value("${transfer.shard.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${transfer.shard.timeout-ms:10000}") long timeoutMillis) {
+        this.shards = new ExecutorService[Math.max(shardCount, 0)];
+        this.timeoutMillis = Math.max(timeoutMillis, 1);
+        for (int i = 0; i < shards.length; i++) {
+            int shardNo = i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), r -> {
+                Thread t = new Thread(r, "transfer-shard-" + shardNo);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        if (shards.length > 0) {
+            log.info("샤드 이체 실행기 활성화: {}개 샤드, 샤드당 대기 {}건, 응답 대기 {}ms", shards.length, queueCapacity, this.timeoutMillis);
+        }
+    }
+
+    public boolean isEnabled() {
+        return shards.length > 0;
+    }
+
+    // 출금 계좌가 속한 샤드 스레드에서 이체를 실행하고 결과를 기다린다
+    // 서비스에서 던진 예외(잔액 부족, 권한 오류 등)는 그대로 호출자에게 전달
+    public void execute(Long fromBankId, String fromAccountNumber, Runnable work) {
+        execute(fromBankId, fromAccountNumber, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // 결과가 필요한 경우 (대량 이체의 건별 결과 등)
+    public <T> T execute(Long fromBankId, String fromAccountNumber, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+
+        Future<T> future;
+        try {
+            future = shards[shardOf(fromBankId, fromAccountNumber)].submit(work::get);
+        } catch (RejectedExecutionException e) {
+            throw new TransferShardBusyException("이체 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false); // 대기 중이면 실행 X, 실행 중이면 트랜잭션이 끝날 때까지 둠
+            log.warn("샤드 이체 응답 대기 시간 초과: {}ms", timeoutMillis);
+            throw new TransferShardBusyException("이체 처리가 지연되고 있습니다. 잠시 후 같은 요청으로 다시 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("이체 처리 중 인터럽트가 발생하였습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("이체 처리 중 오류가 발생하였습니다.", cause);
+        }
+    }
+
+    // 샤드 큐에서 실행을 기다리는 이체 수 (테스트용)
+    int queued(Long bankId, String accountNumber) {
+        return ((ThreadPoolExecutor) shards[shardOf(bankId, accountNumber)]).getQueue().size();
+    }
+
+    int shardOf(Long bankId, String accountNumber) {
+        int hash = 31 * String.valueOf(bankId).hashCode() + String.valueOf(accountNumber).hashCode();
+        return Math.floorMod(hash, shards.length);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            shard.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.fintech.api.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.api.dto.TransactionWithAccountDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransactionJdbcRepository;
+
+import lombok.Getter;
+
+// 계좌 거래내역 내보내기 (CSV / NDJSON, 선택적으로 gzip)
+// db 커서에서 한 행 읽을 때마다 바로 응답 스트림에 쓰고 버림 -> 거래가 수백만 건이어도 메모리 사용량 일정
+// 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 본인 계좌 확인 / 형식 검증은 스트리밍 전에 끝낸다
+// 내보내기 한 건이 끝날 때까지 (최대 async 제한 시간) 커넥션 풀의 커넥션 하나를 잡고 있으므로 동시 실행 수를 제한
+// -> 이체 등 다른 요청이 커넥션을 못 얻는 일이 없도록 (max-concurrent 는 풀 크기보다 충분히 작게)
+@Service
+public class TransactionExportService {
+
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String CSV_HEADER = "id,transaction_date,type,amount,balance_after,description,account_number";
+
+    private final AccountRepository accountRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final Semaphore slots;
+
+    public TransactionExportService(AccountRepository accountRepository,
+                                    TransactionJdbcRepository transactionJdbcRepository,
+                                    ObjectMapper objectMapper,
+                                    @Value("${transaction.export.fetch-size:1000}") int fetchSize,
+                                    @Value("${transaction.export.max-concurrent:2}") int maxConcurrent) {
+        this.accountRepository = accountRepository;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.slots = new Semaphore(Math.max(maxConcurrent, 1));
+    }
+
+    @Getter
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다. (csv, ndjson)");
+            }
+        }
+    }
+
+    // 스트리밍 전에 호출 (본인 계좌가 아니면 400)
+    public void checkOwner(String email, Long accountId) {
+        if (!accountRepository.existsByIdAndUserEmail(accountId, email)) {
+            throw new IllegalArgumentException("본인의 계좌가 아닙니다.");
+        }
+    }
+
+    // 스트리밍 전에 호출, 자리가 없으면 바로 거절 (429) -> 끝나면 반드시 releaseSlot
+    public void acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new ExportLimitExceededException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public void releaseSlot() {
+        slots.release();
+    }
+
+    // 기간 [from, to) 의 거래내역을 오래된 순서로 out 에 기록, 기록한 건수 반환
+    public long export(Long accountId, LocalDateTime from, LocalDateTime to, Format format, boolean gzip, OutputStream out) throws IOException {
+        LocalDateTime rangeFrom = from != null ? from : TransactionService.HISTORY_MIN;
+        LocalDateTime rangeTo = to != null ? to : TransactionService.HISTORY_MAX;
+
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 8192) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), 64 * 1024);
+
+        if (format == Format.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] count = {0};
+        try {
+            transactionJdbcRepository.forEachHistoryRow(accountId, rangeFrom, rangeTo, fetchSize, row -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 등 -> 조회 중단
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // 응답 스트림 자체는 닫지 않고 버퍼 / gzip trailer 만 내보냄
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        return count[0];
+    }
+
+    private void writeCsvRow(Writer writer, TransactionWithAccountDto row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getTransactionDate() != null ? row.getTransactionDate().format(CSV_DATE_FORMAT) : "");
+        writer.write(',');
+        writer.write(csvText(row.getType()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getAmount()));
+        writer.write(',');
+        writer.write(row.getBalanceAfter() != null ? String.valueOf(row.getBalanceAfter()) : "");
+        writer.write(',');
+        writer.write(csvText(row.getDescription()));
+        writer.write(',');
+        writer.write(csvText(row.getAccountNumber()));
+        writer.write('\n');
+    }
+
+    // 문자열 칸 escape (쉼표 / 따옴표 / 줄바꿈은 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 ' 를 붙임)
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
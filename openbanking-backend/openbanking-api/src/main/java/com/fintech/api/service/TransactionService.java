@@ -1,20 +1,24 @@
 package com.fintech.api.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fintech.api.controller.AccountController;
 import com.fintech.api.domain.Account;
 import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
 import com.fintech.api.domain.User;
+import com.fintech.api.dto.TransactionPageResponseDto;
 import com.fintech.api.dto.TransactionWithAccountDto;
 import com.fintech.api.repository.AccountRepository;
 import com.fintech.api.repository.TransactionRepository;
 import com.fintech.api.repository.UserRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 /*
@@ -34,27 +38,52 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final RequestIdBloomFilter requestIdBloomFilter; // 멱등키 중복 조회 생략용
+    private final TransactionTemplate transactionTemplate;
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // 기간 필터가 없을 때의 범위 (MySQL DATETIME 범위 안의 값, 내보내기도 같은 범위 사용)
+    static final LocalDateTime HISTORY_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime HISTORY_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
 
 
 
-    @Transactional // DB 변경작업 모두 성공 또는 모두 실패하도록 보장
-    // 입출금 실패 -> 잔액 및 거래내역 모두 roll back!
-    public Transaction createTransaction (String email,Long accountId, Long amount, String type, String requestId) {
-       
-        // 사용자 조회 
-         User user = userRepository.findByEmail(email)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+    // 입출금 -> 잔액 변경과 거래내역 저장은 transactionTemplate 한 트랜잭션 (모두 성공 또는 모두 roll back)
+    // 멱등키 유니크 충돌은 트랜잭션이 롤백된 뒤 트랜잭션 밖에서 기존 거래를 다시 조회
+    // -> 충돌로 rollback-only 가 된 트랜잭션 안에서 조회/커밋하다 UnexpectedRollbackException(500) 이 나지 않도록
+    public Transaction createTransaction (String email,Long accountId, Long amount, String typeLabel, String requestId) {
+
+        // 거래 종류 변환 (출금/입금 외에는 400)
+        TransactionType type = TransactionType.fromLabel(typeLabel);
+
+        try {
+            return transactionTemplate.execute(status -> writeTransaction(email, accountId, amount, type, requestId));
+        } catch (DataIntegrityViolationException dup) {
+            // 다른 노드가 먼저 insert 한 경우 (Bloom filter 는 노드마다 따로라 중복 조회를 생략했을 수 있음)
+            // 잔액 변경도 함께 롤백된 상태 -> 이미 저장된 거래를 반환
+            return transactionRepository.findByRequestIdAndType(requestId, type)
+                .orElseThrow(() -> dup);
+        }
+    }
+
+    private Transaction writeTransaction(String email, Long accountId, Long amount, TransactionType type, String requestId) {
+       
         // 계좌 조회 + 본인 소유인지 여부 확인 -> 계좌가 있긴 해도 해당 이메일의 user가 소유한 계좌인지
         // 다른 사람 계좌에 입출금 가능해서 보안상 위험한 것 방지
+        // 사용자를 따로 조회하지 않고 계좌 조회 조건에 이메일을 함께 걸어 한 번의 select 로
 
-        Account account = accountRepository.findById(accountId).filter(a-> a.getUser().getId().equals(user.getId()))
+        Account account = accountRepository.findByIdAndUserEmail(accountId, email)
             .orElseThrow(()-> new IllegalArgumentException("해당 계좌가 존재하기 않거나 본인의 계좌가 아닙니다."));
         
         // 멱등성 보장 -> 기존에 처리된 요청인 경우 즉시 반환하도록
 
-        Optional<Transaction> already_exist = transactionRepository.findByRequestIdAndType(requestId, type);
+        // Bloom filter 가 처음 보는 키라고 하면 조회 생략 (중복이면 아래 유니크 제약이 최종 차단)
+        Optional<Transaction> already_exist = Optional.empty();
+        if (requestIdBloomFilter.mightContain(requestId, type)) {
+            already_exist = transactionRepository.findByRequestIdAndType(requestId, type);
+            requestIdBloomFilter.recordLookup(already_exist.isPresent());
+        }
 
         if (already_exist.isPresent()) { //빠르게 중복을 차단하는 용도
             // 대부분의 경우 동시 요청이 아니라면 여기서 이미 걸러져서 성능을 절약
@@ -63,31 +92,24 @@ public class TransactionService {
             return already_exist.get();
         }
         // 예외처리 -> HTTP RESPONSE  400 BAD REQUERST ERROR
-        if ("출금".equalsIgnoreCase(type)) {
-            if (account.getBalance() < amount) {throw new IllegalArgumentException("잔액이 부족합니다.");}
+        if (type == TransactionType.WITHDRAW) {
+            if (account.getBalance() < amount) {throw new InsufficientBalanceException("잔액이 부족합니다.");}
             account.setBalance(account.getBalance() - amount);
 
-        }else if ("입금".equalsIgnoreCase(type)) {account.setBalance(account.getBalance()+amount);}
+        }else if (type == TransactionType.DEPOSIT) {account.setBalance(account.getBalance()+amount);}
         
         else { throw new IllegalArgumentException("알 수 없는 거래입니다.");}
 
-        Transaction transaction = Transaction.builder().account(account).amount(amount).type(type).requestId(requestId).build();
+        Transaction transaction = Transaction.builder().account(account).amount(amount).type(type).balanceAfter(account.getBalance()).requestId(requestId).build();
         
         // try {insert} catch {중복에러}
         // 앞선 isPresent()로 잡지 못한 경쟁상태 (race condition)을 db level에서 마지막으로 차단
         // (request_id, type) db의 unique 제약 조건을 이용하여, 한건만 들어가게 해줌
         // 다른 스레드에서 이미 insert를 했다면 -> DataIntegrityViolationException이 발생
-        // 그 예외를 잡아서 이미 저장된 데이터를 다시 select 해서 return함.
-        try {
-            return transactionRepository.save(transaction); // 객체간 연관관계를 수동으로 명시 JPA 핵심 개념
- 
-        }catch (DataIntegrityViolationException dup) {
-                return transactionRepository.findByRequestIdAndType(requestId, type)
-                .orElseThrow(()->dup);
-
-            }
-     
-        }
+        // 그 예외는 트랜잭션을 롤백시키고 createTransaction 에서 이미 저장된 데이터를 다시 select 해서 return함.
+        requestIdBloomFilter.put(requestId, type);
+        return transactionRepository.save(transaction); // 객체간 연관관계를 수동으로 명시 JPA 핵심 개념
+    }
 
    
 
@@ -95,19 +117,42 @@ public class TransactionService {
         return transactionRepository.findById(id);
     }
 
- public List<TransactionWithAccountDto> getTransactionsByAccountId(String email, Long accountId) {
-    User user = userRepository.findByEmail(email)
-    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    // 계좌 거래내역 (최신순 keyset 페이지, 기간 필터 [from, to))
+    // 전체를 메모리에 올리지 않고 (transaction_date, id) 기준으로 size 건씩, 한 건 더 읽어서 다음 페이지 여부 판단
+    // 기간을 주지 않으면 전체 기간
+    public TransactionPageResponseDto getTransactionsByAccountId(String email, Long accountId, LocalDateTime from, LocalDateTime to,
+                                                                 String cursor, int size) {
+        if (!accountRepository.existsByIdAndUserEmail(accountId, email)) {
+            throw new IllegalArgumentException("본인의 계좌가 아닙니다.");
+        }
 
-    Account account = accountRepository.findByIdAndUserId(accountId, user.getId()).orElseThrow(()->
-    new IllegalArgumentException("본인의 계좌가 아닙니다."));
+        LocalDateTime rangeFrom = from != null ? from : HISTORY_MIN;
+        LocalDateTime rangeTo = to != null ? to : HISTORY_MAX;
+        if (!rangeFrom.isBefore(rangeTo)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
 
-      var txList = transactionRepository.findAllByAccountIdWithAccount(email, accountId);
-        // 트랜잭션 안에서 DTO로 변환
-        return txList.stream().map(TransactionWithAccountDto::from).toList();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-    
-}
+        List<TransactionWithAccountDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findHistoryFirstPage(accountId, rangeFrom, rangeTo, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = transactionRepository.findHistoryAfter(accountId, rangeFrom, rangeTo, after.at(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionWithAccountDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionWithAccountDto last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        return TransactionPageResponseDto.builder().items(items).nextCursor(nextCursor).hasNext(hasNext).build();
+    }
 
     public Optional<Transaction> getTransactionByIdWithAuth(String email, Long transactionId) {
     User user = userRepository.findByEmail(email)
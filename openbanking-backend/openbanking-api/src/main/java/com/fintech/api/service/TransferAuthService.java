@@ -0,0 +1,180 @@
+package com.fintech.api.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.fintech.api.config.JwtTokenProvider;
+import com.fintech.api.dto.AccountTransferView;
+import com.fintech.api.dto.TransferAuthRequestDto;
+import com.fintech.api.dto.TransferAuthResponseDto;
+import com.fintech.api.repository.AccountRepository;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+// 이체 인증 토큰
+// 계좌 비밀번호 BCrypt 검증은 호출마다 수십 ms 의 CPU 를 사용 -> 코어당 이체 TPS 의 상한이 됨
+// 비밀번호를 한 번 확인하고 계좌에 묶인 서명 토큰(RS256, 로그인 토큰과 같은 키)을 발급
+// 이후 이체는 토큰 서명 검증 + redis 사용 횟수 확인만으로 통과 (BCrypt X)
+
+// 사용 횟수는 토큰(jti)마다 redis INCR 로 센다 -> 인증을 통과한 모든 작업이 한 번씩 차감 (멱등키가 달라지면 무료 X)
+// 같은 이체의 재실행(낙관락 재시도, 비관락 전환 등 같은 멱등키)은 처음 한 번만 차감
+// 대량 이체는 건수만큼, 예약이체 등록은 등록마다 차감
+// redis 장애 / 토큰 오류시에는 false -> 호출하는 쪽이 기존처럼 비밀번호로 검증
+@Slf4j
+@Service
+public class TransferAuthService {
+
+    private static final String USES_KEY_PREFIX = "transfer-auth:";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final long ttlSeconds;
+    private final int maxUses;
+
+    public TransferAuthService(JwtTokenProvider jwtTokenProvider,
+                               RedisTemplate<String, String> redisTemplate,
+                               AccountRepository accountRepository,
+                               PasswordEncoder passwordEncoder,
+                               @Value("${transfer.auth.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${transfer.auth.max-uses:10}") int maxUses) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.ttlSeconds = ttlSeconds;
+        this.maxUses = maxUses;
+    }
+
+    // 토큰 발급 (본인 계좌 + 비밀번호 확인은 여기서 한 번만)
+    public TransferAuthResponseDto issue(String email, TransferAuthRequestDto dto) {
+        AccountTransferView account = accountRepository.findTransferViewByAccountNumberAndBankId(dto.getAccountNumber(), dto.getBankId()).orElseThrow(
+            () -> new IllegalArgumentException("계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        if (!account.getUserEmail().equals(email)) {
+            throw new SecurityException("본인의 계좌만 인증할 수 있습니다.");
+        }
+
+        if (account.getAccountPassword() == null) {
+            throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
+        }
+
+        if (!passwordEncoder.matches(dto.getPassword(), account.getAccountPassword())) {
+            throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
+        }
+
+        String token = jwtTokenProvider.createTransferToken(email, account.getId(), maxUses, TimeUnit.SECONDS.toMillis(ttlSeconds));
+        return new TransferAuthResponseDto(token, ttlSeconds, maxUses);
+    }
+
+    // credential 이 이 계좌의 유효한 이체 인증 토큰이면 사용 횟수를 1 차감하고 true
+    // 비밀번호(토큰 형태가 아님), 위조/만료 토큰, 다른 계좌의 토큰, 횟수 초과면 false
+    public boolean authorize(String credential, String email, Long accountId) {
+        return authorize(credential, email, accountId, 1);
+    }
+
+    // 같은 멱등키로 다시 들어온 인증은 차감하지 않음 (jti + requestId 표시를 토큰 만료 시각까지 보관)
+    // 표시를 남긴 뒤 횟수가 모자라 거절되면 표시를 지움 -> 같은 멱등키로 다시 와도 무료 통과 X
+    public boolean authorize(String credential, String email, Long accountId, String requestId) {
+        if (requestId == null) {
+            return authorize(credential, email, accountId);
+        }
+
+        Claims claims = verify(credential, email, accountId);
+        if (claims == null) {
+            return false;
+        }
+
+        String requestKey = USES_KEY_PREFIX + claims.getId() + ":" + requestId;
+        try {
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(requestKey, "1", remainMillis(claims), TimeUnit.MILLISECONDS);
+            if (Boolean.FALSE.equals(first)) {
+                return true; // 이 멱등키로 이미 차감됨
+            }
+        } catch (RuntimeException e) {
+            log.warn("이체 인증 토큰 멱등키 확인 실패, 비밀번호 검증으로 대체", e);
+            return false;
+        }
+
+        if (consume(claims, 1)) {
+            return true;
+        }
+        try {
+            redisTemplate.delete(requestKey);
+        } catch (RuntimeException e) {
+            log.warn("이체 인증 토큰 멱등키 표시 삭제 실패: {}", requestKey, e);
+        }
+        return false;
+    }
+
+    // 한 번의 인증으로 여러 건을 처리하는 경우 (대량 이체) -> 건수만큼 한 번에 차감, 남은 횟수가 모자라면 전부 거절
+    public boolean authorize(String credential, String email, Long accountId, int operations) {
+        if (operations < 1) {
+            return false;
+        }
+        Claims claims = verify(credential, email, accountId);
+        return claims != null && consume(claims, operations);
+    }
+
+    // 서명/만료, 사용자, 계좌가 모두 맞는 토큰이면 claims, 아니면 null
+    private Claims verify(String credential, String email, Long accountId) {
+        if (!looksLikeToken(credential)) {
+            return null;
+        }
+
+        Claims claims = jwtTokenProvider.parseTransferToken(credential);
+        if (claims == null || !email.equals(claims.getSubject())) {
+            return null;
+        }
+        Number tokenAccountId = claims.get("acc", Number.class);
+        Number tokenUses = claims.get("uses", Number.class);
+        if (tokenAccountId == null || tokenUses == null || tokenAccountId.longValue() != accountId) {
+            return null;
+        }
+        return claims;
+    }
+
+    private boolean consume(Claims claims, int operations) {
+        int tokenUses = claims.get("uses", Number.class).intValue();
+        String key = USES_KEY_PREFIX + claims.getId();
+        try {
+            // INCRBY 는 원자적 -> 동시에 들어온 요청끼리도 횟수를 넘겨 통과하지 않음
+            Long used = redisTemplate.opsForValue().increment(key, operations);
+            if (used == null) {
+                return false;
+            }
+            if (used == operations) {
+                // 첫 사용 -> 토큰 만료 시각에 맞춰 카운터도 만료
+                redisTemplate.expire(key, remainMillis(claims), TimeUnit.MILLISECONDS);
+            }
+            if (used > tokenUses) {
+                redisTemplate.opsForValue().decrement(key, operations); // 거절한 건은 차감 취소
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("이체 인증 토큰 사용 횟수 확인 실패, 비밀번호 검증으로 대체", e);
+            return false;
+        }
+    }
+
+    private static long remainMillis(Claims claims) {
+        return Math.max(claims.getExpiration().getTime() - System.currentTimeMillis(), 1);
+    }
+
+    // JWT 형태(header.payload.signature)가 아니면 서명 검증도 하지 않음
+    private static boolean looksLikeToken(String credential) {
+        if (credential == null) {
+            return false;
+        }
+        int first = credential.indexOf('.');
+        return first > 0 && credential.indexOf('.', first + 1) > first + 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fintech.api.service;
+
+import com.fintech.api.domain.TransactionType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 검증(본인확인, 비밀번호)이 끝난 이체 1건을 계좌 id 기준으로 표현하는 명령 객체
+// 묶음 커밋(TransferGroupCommitter) 처럼 여러 이체를 한 트랜잭션에서 처리하는 경로에서 사용
+// scheduled = true 이면 예약이체 규칙 (예약출금/예약입금, 멱등키 -OUT/-IN) 을 따른다 -> transferForSystem 과 동일
+@Getter
+@Builder
+public class TransferCommand {
+
+    private final Long fromAccountId;
+    private final Long toAccountId;
+    private final Long amount;
+    private final String requestId;
+    private final boolean scheduled;
+
+    public TransactionType withdrawType() {
+        return scheduled ? TransactionType.SCHEDULED_WITHDRAW : TransactionType.WITHDRAW;
+    }
+
+    public TransactionType depositType() {
+        return scheduled ? TransactionType.SCHEDULED_DEPOSIT : TransactionType.DEPOSIT;
+    }
+
+    public String withdrawRequestId() {
+        return scheduled ? requestId + "-OUT" : requestId;
+    }
+
+    public String depositRequestId() {
+        return scheduled ? requestId + "-IN" : requestId;
+    }
+
+    // 거래내역 설명 (기존 이체 로직의 문구와 동일하게)
+    public String withdrawDescription(String toAccountNumber) {
+        return scheduled ? "예약이체: " + toAccountNumber : toAccountNumber + "으로 이체됨";
+    }
+
+    public String depositDescription(String fromAccountNumber) {
+        return scheduled ? "예약이체: " + fromAccountNumber : fromAccountNumber + "에서 입금됨";
+    }
+}
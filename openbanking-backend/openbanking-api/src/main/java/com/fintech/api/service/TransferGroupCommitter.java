@@ -0,0 +1,311 @@
+package com.fintech.api.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionJdbcRepository.LockedAccount;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 이체 묶음 커밋(group commit) 단계
+// 짧은 시간(window) 동안 들어온 이체들을 최대 maxBatch 건까지 모아서 하나의 db 트랜잭션으로 커밋한다
+// 트랜잭션마다 발생하는 커밋(fsync) 비용을 여러 이체가 나눠 내도록 하는 것이 목적
+
+// 1. 묶음에 포함된 모든 계좌를 id 오름차순으로 베타락
+//    stripe 출금 계좌는 자기 id 자리에서 stripe 를 비워 본 잔액에 합침 (AccountStripeService 락 순서 규칙, BatchTransferService 와 같은 방식)
+// 2. 잔액 검증/차감은 메모리에서 순서대로 (잔액 부족 등 업무 오류는 해당 건만 실패, 나머지는 계속)
+// 3. 잔액 update, 거래내역 insert 를 각각 하나의 JDBC batch 로 실행
+// 4. 커밋이 끝난 뒤에야 각 호출자의 future 를 완료 -> 응답을 받은 이체는 반드시 db 에 반영된 상태
+
+// transfer.group-commit.enabled = false (기본값) 이면 호출 스레드에서 1건짜리 묶음으로 바로 커밋
+
+// 적용 범위: 예약이체(ScheduledTransferService) 와 비동기 이체(/transfer-async, TransferIntentService) 만 이 경로를 탄다
+// 동기 /transfer, /transfer-pessimistic, /transfer-atomic 은 AccountService 의 기존 건별 트랜잭션 그대로
+// -> 응답 대기 중인 요청 스레드를 window 만큼 붙잡지 않기 위함, 묶음 커밋 효과가 필요하면 /transfer-async 사용
+@Slf4j
+@Service
+public class TransferGroupCommitter {
+
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final AccountStripeService accountStripeService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long windowNanos;
+
+    private final BlockingQueue<PendingTransfer> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public TransferGroupCommitter(TransactionJdbcRepository transactionJdbcRepository,
+                                  AccountStripeService accountStripeService,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${transfer.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${transfer.group-commit.max-batch:64}") int maxBatch,
+                                  @Value("${transfer.group-commit.window-ms:2}") long windowMillis) {
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.accountStripeService = accountStripeService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 0));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "transfer-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("이체 묶음 커밋 활성화: 최대 {}건 / {}ms", maxBatch, TimeUnit.NANOSECONDS.toMillis(windowNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 이체를 묶음 대기열에 넣는다. 반환된 future 는 커밋 이후에 완료됨
+    // 업무 오류(잔액 부족 등)는 IllegalArgumentException 으로 future 가 실패한다
+    public CompletableFuture<Void> submit(TransferCommand command) {
+        PendingTransfer pending = new PendingTransfer(command);
+        if (!enabled) {
+            commit(List.of(pending));
+        } else {
+            queue.add(pending);
+        }
+        return pending.result;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingTransfer first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingTransfer> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long remain = deadline - System.nanoTime();
+                    PendingTransfer next = remain > 0 ? queue.poll(remain, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("이체 묶음 커밋 루프 오류", e);
+            }
+        }
+    }
+
+    private void commit(List<PendingTransfer> batch) {
+        Map<PendingTransfer, RuntimeException> rejected;
+        try {
+            rejected = transactionTemplate.execute(status -> apply(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            // 데드락, 유니크 충돌 등으로 묶음 전체가 롤백된 경우 -> 한 건 때문에 다른 이체가 실패하지 않도록 개별 커밋으로 재시도
+            log.warn("이체 묶음 커밋 실패, 개별 커밋으로 재시도: {}건", batch.size(), e);
+            for (PendingTransfer pending : batch) {
+                commit(List.of(pending));
+            }
+            return;
+        }
+
+        // 커밋 이후에 호출자에게 결과 전달
+        for (PendingTransfer pending : batch) {
+            RuntimeException error = rejected.get(pending);
+            if (error != null) {
+                pending.result.completeExceptionally(error);
+            } else {
+                pending.result.complete(null);
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 실행, 업무 오류로 거절된 이체 목록을 반환
+    private Map<PendingTransfer, RuntimeException> apply(List<PendingTransfer> batch) {
+        Map<PendingTransfer, RuntimeException> rejected = new HashMap<>();
+
+        TreeSet<Long> accountIds = new TreeSet<>();
+        Set<Long> debitIds = new HashSet<>();
+        List<String> requestIds = new ArrayList<>();
+        for (PendingTransfer pending : batch) {
+            TransferCommand command = pending.command;
+            accountIds.add(command.getFromAccountId());
+            accountIds.add(command.getToAccountId());
+            debitIds.add(command.getFromAccountId());
+            requestIds.add(command.withdrawRequestId());
+            requestIds.add(command.depositRequestId());
+        }
+
+        Map<Long, Long> balances = new HashMap<>();
+        Map<Long, Long> changed = new HashMap<>();
+        Map<Long, LockedAccount> locked = lockAndDrain(accountIds, debitIds, balances, changed);
+        Set<String> processed = new HashSet<>(transactionJdbcRepository.findExistingRequestKeys(requestIds));
+
+        List<Transaction> ledger = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PendingTransfer pending : batch) {
+            TransferCommand command = pending.command;
+            Long amount = command.getAmount();
+            LockedAccount from = locked.get(command.getFromAccountId());
+            LockedAccount to = locked.get(command.getToAccountId());
+
+            if (from == null || to == null) {
+                rejected.put(pending, new IllegalArgumentException("계좌 오류"));
+                continue;
+            }
+            if (from.getId().equals(to.getId())) {
+                rejected.put(pending, new IllegalArgumentException("동일한 계좌로는 이체가 불가능합니다."));
+                continue;
+            }
+            if (amount == null || amount <= 0) {
+                rejected.put(pending, new IllegalArgumentException("이체 금액이 올바르지 않습니다."));
+                continue;
+            }
+
+            // 이미 처리된 요청 (이전 커밋 또는 같은 묶음 안의 중복) -> 기존 이체 로직처럼 조용히 성공 처리
+            String withdrawKey = TransactionJdbcRepository.requestKey(command.withdrawRequestId(), command.withdrawType());
+            String depositKey = TransactionJdbcRepository.requestKey(command.depositRequestId(), command.depositType());
+            if (processed.contains(withdrawKey) || processed.contains(depositKey)) {
+                continue;
+            }
+
+            long fromBalance = balances.get(from.getId());
+            if (fromBalance < amount) {
+                rejected.put(pending, new InsufficientBalanceException("잔액 부족"));
+                continue;
+            }
+
+            long fromAfter = fromBalance - amount;
+            long toAfter = balances.get(to.getId()) + amount;
+            balances.put(from.getId(), fromAfter);
+            balances.put(to.getId(), toAfter);
+            changed.put(from.getId(), fromAfter);
+            changed.put(to.getId(), toAfter);
+            processed.add(withdrawKey);
+            processed.add(depositKey);
+
+            ledger.add(Transaction.builder()
+                .account(Account.builder().id(from.getId()).build())
+                .amount(-amount)
+                .type(command.withdrawType())
+                .balanceAfter(fromAfter)
+                .description(command.withdrawDescription(to.getAccountNumber()))
+                .requestId(command.withdrawRequestId())
+                .transactionDate(now)
+                .build());
+
+            ledger.add(Transaction.builder()
+                .account(Account.builder().id(to.getId()).build())
+                .amount(amount)
+                .type(command.depositType())
+                .balanceAfter(toAfter)
+                .description(command.depositDescription(from.getAccountNumber()))
+                .requestId(command.depositRequestId())
+                .transactionDate(now)
+                .build());
+        }
+
+        if (!changed.isEmpty()) {
+            transactionJdbcRepository.batchUpdateBalances(changed);
+            transactionJdbcRepository.batchInsert(ledger);
+        }
+        return rejected;
+    }
+
+    // 계좌를 id 오름차순으로 잠그면서 stripe 출금 계좌는 잠근 직후 stripe 를 비워 본 잔액에 합친다
+    // stripe 여부는 락 없이 먼저 읽어서 잠금 구간을 나눔 (그 사이 stripe 가 켜진 계좌는 마지막에 비움 -> 순서가 어긋나 데드락이면 개별 커밋으로 재시도)
+    // 비운 금액은 이체가 모두 거절되어도 본 잔액에 반영해야 하므로 changed 에 넣는다
+    private Map<Long, LockedAccount> lockAndDrain(TreeSet<Long> accountIds, Set<Long> debitIds,
+                                                  Map<Long, Long> balances, Map<Long, Long> changed) {
+        Map<Long, LockedAccount> locked = new HashMap<>();
+        Set<Long> drained = new HashSet<>();
+        Long lockedUpTo = null;
+        for (Long stripedId : new TreeSet<>(transactionJdbcRepository.findStripedAccountIds(debitIds))) {
+            Set<Long> segment = lockedUpTo == null ? accountIds.headSet(stripedId, true) : accountIds.subSet(lockedUpTo, false, stripedId, true);
+            lockSegment(segment, locked, balances);
+            drain(stripedId, locked, balances, changed, drained);
+            lockedUpTo = stripedId;
+        }
+        lockSegment(lockedUpTo == null ? accountIds : accountIds.tailSet(lockedUpTo, false), locked, balances);
+
+        for (Long debitId : debitIds) {
+            drain(debitId, locked, balances, changed, drained);
+        }
+        return locked;
+    }
+
+    private void lockSegment(Set<Long> segment, Map<Long, LockedAccount> locked, Map<Long, Long> balances) {
+        Map<Long, LockedAccount> segmentLocked = transactionJdbcRepository.lockAccounts(segment);
+        locked.putAll(segmentLocked);
+        segmentLocked.values().forEach(a -> balances.put(a.getId(), a.getBalance()));
+    }
+
+    private void drain(Long accountId, Map<Long, LockedAccount> locked, Map<Long, Long> balances,
+                       Map<Long, Long> changed, Set<Long> drained) {
+        LockedAccount account = locked.get(accountId);
+        if (account == null || !account.isStriped() || !drained.add(accountId)) {
+            return;
+        }
+        long amount = accountStripeService.drainStripes(accountId);
+        if (amount != 0L) {
+            long balance = balances.get(accountId) + amount;
+            balances.put(accountId, balance);
+            changed.put(accountId, balance);
+        }
+    }
+
+    private static class PendingTransfer {
+        private final TransferCommand command;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingTransfer(TransferCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.fintech.api.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.TransferIntent;
+import com.fintech.api.domain.TransferIntentStatus;
+import com.fintech.api.dto.AccountTransferView;
+import com.fintech.api.dto.TransferRequestDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransferIntentRepository;
+import com.fintech.api.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+// 비동기 이체 (접수 -> 202 -> 워커 실행 -> 상태 조회)
+// 요청 스레드는 계좌 조회 + 본인확인 + 비밀번호 검증 + PENDING 저장까지만 하고 바로 반환
+// 락 대기, 잔액 반영, 거래내역/알림 insert, 커밋은 워커 스레드에서 -> 트래픽이 몰려도 Tomcat 스레드가 db 경합에 묶이지 않음
+
+// 워커는 TransferGroupCommitter 로 이체를 넘김 (묶음 커밋을 켜면 여러 요청이 한 트랜잭션으로 커밋됨)
+// 멱등키는 동기 /transfer 와 같은 규칙 (request_id + 출금/입금) -> 같은 키로 동기/비동기 중복 반영 X
+// 접수 후 디스패치가 유실되어도 (재시작 등) 스위퍼가 PENDING / 멈춘 PROCESSING 요청을 다시 실행
+@Slf4j
+@Service
+public class TransferIntentService {
+
+    private final TransferIntentRepository transferIntentRepository;
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final TransferGroupCommitter transferGroupCommitter;
+    private final AccountService accountService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransferAuthService transferAuthService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService workers;
+    private final int maxAttempts;
+    private final long staleMillis;
+
+    public TransferIntentService(TransferIntentRepository transferIntentRepository,
+                                 AccountRepository accountRepository,
+                                 UserRepository userRepository,
+                                 TransferGroupCommitter transferGroupCommitter,
+                                 AccountService accountService,
+                                 PasswordEncoder passwordEncoder,
+                                 TransferAuthService transferAuthService,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${transfer.async.workers:4}") int workerCount,
+                                 @Value("${transfer.async.max-attempts:5}") int maxAttempts,
+                                 @Value("${transfer.async.stale-ms:30000}") long staleMillis) {
+        this.transferIntentRepository = transferIntentRepository;
+        this.accountRepository = accountRepository;
+        this.userRepository = userRepository;
+        this.transferGroupCommitter = transferGroupCommitter;
+        this.accountService = accountService;
+        this.passwordEncoder = passwordEncoder;
+        this.transferAuthService = transferAuthService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.staleMillis = staleMillis;
+        this.workers = Executors.newFixedThreadPool(Math.max(workerCount, 1), r -> {
+            Thread t = new Thread(r, "transfer-intent-worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 이체 접수 (검증 실패는 동기 이체와 같은 예외로 바로 응답)
+    @Transactional
+    public TransferIntent submit(String email, TransferRequestDto dto, String requestId) {
+
+        // 같은 멱등키로 재요청 -> 기존 요청 그대로 반환
+        TransferIntent existing = transferIntentRepository.findByRequestId(requestId).orElse(null);
+        if (existing != null) {
+            checkOwner(existing, email);
+            return existing;
+        }
+
+        Long amount = dto.getAmount();
+        if (amount == null || amount <= 0) {throw new IllegalArgumentException("이체 금액이 올바르지 않습니다.");}
+
+        AccountTransferView from = accountRepository.findTransferViewByAccountNumberAndBankId(dto.getFromAccountNumber(), dto.getFromBankId()).orElseThrow(
+            () -> new IllegalArgumentException("출금 계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        AccountTransferView to = accountRepository.findTransferViewByAccountNumberAndBankId(dto.getToAccountNumber(), dto.getToBankId()).orElseThrow(
+            () -> new IllegalArgumentException("입금 계좌 또는 은행 정보가 유효하지 않습니다.")
+        );
+
+        if (!from.getUserEmail().equals(email)) {
+            throw new SecurityException("본인의 계좌에서만 이체가 가능합니다.");
+        }
+
+        if (from.getId().equals(to.getId())) {
+            throw new IllegalArgumentException("동일한 계좌로는 이체가 불가능합니다.");
+        }
+
+        // 이체 인증 토큰이면 BCrypt 생략
+        if (!transferAuthService.authorize(dto.credential(), email, from.getId())) {
+            if (from.getAccountPassword() == null) {
+                throw new SecurityException("비밀번호가 설정되지 않은 계좌에서는 이체가 불가능합니다.");
+            }
+
+            if (!passwordEncoder.matches(dto.getPassword(), from.getAccountPassword())) {
+                throw new SecurityException("계좌 비밀번호가 일치하지 않습니다.");
+            }
+        }
+
+        TransferIntent intent;
+        try {
+            intent = transferIntentRepository.saveAndFlush(TransferIntent.builder()
+                .requestId(requestId)
+                .userId(from.getUserId())
+                .fromAccountId(from.getId())
+                .fromAccountNumber(from.getAccountNumber())
+                .toAccountId(to.getId())
+                .toAccountNumber(to.getAccountNumber())
+                .toUserId(to.getUserId())
+                .amount(amount)
+                .status(TransferIntentStatus.PENDING)
+                .build());
+        } catch (DataIntegrityViolationException dup) {
+            // 같은 멱등키 동시 접수 -> 먼저 저장된 요청이 처리됨
+            throw new IllegalStateException("이미 접수된 이체 요청입니다.");
+        }
+
+        // 커밋 이후에 워커로 넘김 (커밋 전에 워커가 조회하면 요청이 안 보임)
+        Long intentId = intent.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(intentId);
+            }
+        });
+        return intent;
+    }
+
+    // 상태 조회 (본인 요청만)
+    public TransferIntent getIntent(String email, String requestId) {
+        TransferIntent intent = transferIntentRepository.findByRequestId(requestId).orElseThrow(
+            () -> new IllegalArgumentException("이체 요청을 찾을 수 없습니다.")
+        );
+        checkOwner(intent, email);
+        return intent;
+    }
+
+    private void checkOwner(TransferIntent intent, String email) {
+        boolean owner = userRepository.findByEmail(email)
+            .map(user -> user.getId().equals(intent.getUserId()))
+            .orElse(false);
+        if (!owner) {
+            throw new SecurityException("본인의 이체 요청만 조회할 수 있습니다.");
+        }
+    }
+
+    private void dispatch(Long intentId) {
+        try {
+            workers.execute(() -> process(intentId));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 -> 다음 기동 후 스위퍼가 처리
+            log.warn("비동기 이체 디스패치 실패, 스위퍼가 처리 예정: {}", intentId);
+        }
+    }
+
+    // 워커: 선점 -> 이체 실행 -> 상태 반영
+    void process(Long intentId) {
+        Boolean claimed = transactionTemplate.execute(status ->
+            transferIntentRepository.claim(intentId, LocalDateTime.now()) == 1);
+        if (!Boolean.TRUE.equals(claimed)) {
+            return; // 다른 워커가 이미 처리 중이거나 완료됨
+        }
+
+        TransferIntent intent = transferIntentRepository.findById(intentId).orElseThrow();
+        TransferCommand command = TransferCommand.builder()
+            .fromAccountId(intent.getFromAccountId())
+            .toAccountId(intent.getToAccountId())
+            .amount(intent.getAmount())
+            .requestId(intent.getRequestId())
+            .build();
+
+        try {
+            transferGroupCommitter.submit(command).join();
+            finish(intentId, TransferIntentStatus.COMPLETED, null);
+            accountService.notifyTransferCompleted(intent.getUserId(), intent.getToUserId(),
+                intent.getFromAccountNumber(), intent.getToAccountNumber(), intent.getAmount());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IllegalArgumentException) {
+                // 잔액 부족 등 업무 오류 -> 재시도 X
+                finish(intentId, TransferIntentStatus.FAILED, cause.getMessage());
+                if (cause instanceof InsufficientBalanceException) {
+                    accountService.notifyInsufficientBalance(intent.getUserId());
+                }
+            } else {
+                retryOrFail(intent, cause);
+            }
+        } catch (RuntimeException e) {
+            retryOrFail(intent, e);
+        }
+    }
+
+    // db 오류(데드락, 커넥션 등) -> 한도까지는 PENDING 으로 돌려 스위퍼가 다시 실행
+    private void retryOrFail(TransferIntent intent, Throwable cause) {
+        log.warn("비동기 이체 처리 실패 ({}회): {}", intent.getAttempts(), intent.getRequestId(), cause);
+        if (intent.getAttempts() >= maxAttempts) {
+            finish(intent.getId(), TransferIntentStatus.FAILED, "이체 처리 중 오류가 발생하였습니다.");
+        } else {
+            finish(intent.getId(), TransferIntentStatus.PENDING, null);
+        }
+    }
+
+    private void finish(Long intentId, TransferIntentStatus status, String reason) {
+        transactionTemplate.executeWithoutResult(s ->
+            transferIntentRepository.finish(intentId, status, reason, LocalDateTime.now()));
+    }
+
+    // 스위퍼: 디스패치가 유실된 PENDING, 워커가 멈춘 PROCESSING 요청을 다시 실행
+    @Scheduled(fixedDelayString = "${transfer.async.sweep-interval-ms:10000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleMillis));
+        transactionTemplate.executeWithoutResult(s -> transferIntentRepository.requeueStuck(before, LocalDateTime.now()));
+
+        for (Long intentId : transferIntentRepository.findIdsByStatusAndUpdatedAtBefore(
+                TransferIntentStatus.PENDING, before, PageRequest.of(0, 500))) {
+            dispatch(intentId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
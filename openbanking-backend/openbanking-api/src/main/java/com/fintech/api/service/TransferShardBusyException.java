@@ -0,0 +1,9 @@
+package com.fintech.api.service;
+
+// 샤드 큐가 가득 찼거나 정해진 시간 안에 이체 결과를 받지 못함 (잠시 후 같은 멱등키로 재요청 가능 -> 503)
+public class TransferShardBusyException extends IllegalStateException {
+
+    public TransferShardBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+-- 멱등키(request_id) 보존 기간 이후 보관 테이블로 이동
+-- transaction.request_id 는 보존 기간이 지나면 NULL 로 비움 -> uk_tx_reqid_type 인덱스가 최근 키만 유지
+-- (MySQL 유니크 인덱스는 NULL 을 중복으로 보지 않으므로 NULL 여러 건 허용)
+ALTER TABLE `transaction`
+  MODIFY request_id VARCHAR(64) NULL;
+
+-- 보관 테이블은 조회용 (감사/문의 대응), 유니크 제약 X
+-- PK 가 transaction_id 라서 max(transaction_id) 로 다음 보관 시작 위치를 바로 찾을 수 있음
+CREATE TABLE `transaction_request_archive` (
+  `transaction_id` BIGINT NOT NULL,
+  `request_id` VARCHAR(64) NOT NULL,
+  `type` TINYINT NOT NULL,
+  `transaction_date` DATETIME(6) NULL,
+  `archived_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`transaction_id`),
+  KEY `idx_tx_request_archive_request_id` (`request_id`)
+);
@@ -0,0 +1,11 @@
+-- 알림 outbox
+-- 이체 트랜잭션 안에서는 알림을 이 테이블에 한 번의 batch insert 로만 기록하고
+-- 릴레이(NotificationOutboxRelay)가 커밋된 행을 notification 테이블로 옮긴 뒤 삭제함
+CREATE TABLE `notification_outbox` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `user_id` BIGINT NOT NULL,
+  `type` VARCHAR(32) NOT NULL,
+  `message` VARCHAR(255) NULL,
+  `created_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`id`)
+);
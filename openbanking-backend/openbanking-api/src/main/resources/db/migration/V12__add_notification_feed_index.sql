@@ -0,0 +1,5 @@
+-- 알림 목록 keyset 페이지 조회용 인덱스
+-- where user_id = ? and (created_at, id) < (?, ?) order by created_at desc, id desc
+-- 정렬 방향과 같은 내림차순 인덱스 -> filesort 없이 인덱스 순서대로 size 건만 읽고 멈춤
+CREATE INDEX `idx_notification_user_created_id`
+  ON `notification` (`user_id`, `created_at` DESC, `id` DESC);
@@ -0,0 +1,10 @@
+-- 시스템 알림은 완성된 문구 대신 template code + 파라미터로 저장 (NotificationTemplate 과 번호 일치)
+-- 기존 행과 관리자 알림은 message 를 그대로 사용 (template_code = NULL)
+ALTER TABLE `notification`
+  ADD COLUMN `template_code` TINYINT NULL,
+  ADD COLUMN `params` VARCHAR(255) NULL,
+  MODIFY `message` VARCHAR(255) NULL;
+
+ALTER TABLE `notification_outbox`
+  ADD COLUMN `template_code` TINYINT NULL,
+  ADD COLUMN `params` VARCHAR(255) NULL;
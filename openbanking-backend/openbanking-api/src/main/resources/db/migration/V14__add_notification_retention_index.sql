@@ -0,0 +1,4 @@
+-- 알림 보관 작업용 인덱스
+-- where is_read = ? and created_at < ? order by created_at, id -> 오래된 알림부터 인덱스 범위로 조금씩 읽고 PK 로 삭제
+CREATE INDEX `idx_notification_read_created`
+  ON `notification` (`is_read`, `created_at`);
@@ -0,0 +1,5 @@
+-- 계좌 거래내역 keyset 페이지 조회용 인덱스
+-- where account_id = ? and transaction_date between ? and ? and (transaction_date, id) < (?, ?) order by transaction_date desc, id desc
+-- 정렬 방향과 같은 내림차순 인덱스 -> 기간 조건도 같은 인덱스 범위 안에서 처리, filesort 없이 size 건만 읽고 멈춤
+CREATE INDEX `idx_tx_account_date_id`
+  ON `transaction` (`account_id`, `transaction_date` DESC, `id` DESC);
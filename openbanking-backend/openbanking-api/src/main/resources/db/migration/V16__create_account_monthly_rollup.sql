@@ -0,0 +1,26 @@
+-- 계좌별 월간 집계 (월간 명세서 / 리포트용)
+-- 명세서 조회는 transaction 전체를 훑지 않고 계좌당 월 1행씩만 읽는다
+-- month 는 해당 월 1일, 입금/출금 합계는 양수 금액 기준
+CREATE TABLE `account_monthly_rollup` (
+  `account_id` BIGINT NOT NULL,
+  `month` DATE NOT NULL,
+  `deposit_total` BIGINT NOT NULL DEFAULT 0,
+  `deposit_count` INT NOT NULL DEFAULT 0,
+  `withdraw_total` BIGINT NOT NULL DEFAULT 0,
+  `withdraw_count` INT NOT NULL DEFAULT 0,
+  `opening_balance` BIGINT NULL,
+  `closing_balance` BIGINT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`account_id`, `month`)
+);
+
+-- 집계 작업이 반영한 마지막 거래 id (집계 반영과 같은 트랜잭션에서 갱신 -> 중복/누락 없이 이어서 처리)
+CREATE TABLE `rollup_watermark` (
+  `name` VARCHAR(64) NOT NULL,
+  `last_transaction_id` BIGINT NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`name`)
+);
+
+INSERT INTO `rollup_watermark` (`name`, `last_transaction_id`, `updated_at`)
+VALUES ('account_monthly', 0, NOW(6));
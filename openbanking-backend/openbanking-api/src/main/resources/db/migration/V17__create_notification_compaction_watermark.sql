@@ -0,0 +1,12 @@
+-- 알림 요약(compaction) 작업이 처리한 마지막 위치 (created_at, id)
+-- 요약 반영과 같은 트랜잭션에서 행 락을 잡고 갱신 -> 서버 여러 대 / 재시작에도 같은 구간을 두 번 요약하지 않음
+CREATE TABLE `notification_compaction_watermark` (
+  `name` VARCHAR(64) NOT NULL,
+  `last_created_at` DATETIME(6) NOT NULL,
+  `last_id` BIGINT NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`name`)
+);
+
+INSERT INTO `notification_compaction_watermark` (`name`, `last_created_at`, `last_id`, `updated_at`)
+VALUES ('notification_burst', '1970-01-01 00:00:00', 0, NOW(6));
@@ -0,0 +1,4 @@
+-- stripe 계좌의 입금 거래는 거래 후 잔액(balance_after)을 락 없이 읽은 근사값으로 기록한다
+-- 그런 거래가 섞인 달은 표시만 해두고 명세 조회에서 기초/기말 잔액을 내려주지 않는다 (합계/건수는 정확)
+ALTER TABLE `account_monthly_rollup`
+  ADD COLUMN `balance_approximate` BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,16 @@
+-- 핫 계좌(가맹점, 급여 계좌) 입금 분산을 위한 잔액 stripe
+-- stripe_count = 0 이면 일반 계좌, K(>0) 이면 입금이 K개의 stripe 행으로 분산됨
+ALTER TABLE `account`
+  ADD COLUMN `stripe_count` INT NOT NULL DEFAULT 0
+  COMMENT '입금 분산 stripe 수 (0 = 사용 안함)';
+
+-- 실제 잔액 = account.balance + SUM(account_balance_stripe.balance)
+CREATE TABLE `account_balance_stripe` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `account_id` BIGINT NOT NULL,
+  `stripe_no` INT NOT NULL,
+  `balance` BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_stripe_account_no` (`account_id`, `stripe_no`),
+  CONSTRAINT `fk_stripe_account` FOREIGN KEY (`account_id`) REFERENCES `account` (`id`) ON DELETE CASCADE
+);
@@ -0,0 +1,21 @@
+-- 비동기 이체 요청 (202 Accepted 후 워커가 처리)
+-- request_id = Idempotency-Key, 같은 키로 다시 요청하면 기존 요청의 상태를 돌려줌
+CREATE TABLE `transfer_intent` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `request_id` VARCHAR(64) NOT NULL,
+  `user_id` BIGINT NOT NULL,
+  `from_account_id` BIGINT NOT NULL,
+  `from_account_number` VARCHAR(255) NOT NULL,
+  `to_account_id` BIGINT NOT NULL,
+  `to_account_number` VARCHAR(255) NOT NULL,
+  `to_user_id` BIGINT NOT NULL,
+  `amount` BIGINT NOT NULL,
+  `status` VARCHAR(16) NOT NULL,
+  `failure_reason` VARCHAR(255) NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `created_at` DATETIME(6) NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_transfer_intent_request_id` (`request_id`),
+  KEY `idx_transfer_intent_status_updated` (`status`, `updated_at`)
+);
@@ -0,0 +1,24 @@
+-- 거래 종류를 한글 VARCHAR(32) -> TINYINT code 로 전환 (TransactionType 과 번호 일치)
+-- 1 = 출금, 2 = 입금, 3 = 예약출금, 4 = 예약입금
+-- 알 수 없는 값이 남아 있으면 NOT NULL 변경에서 마이그레이션이 실패함 -> 임의 값으로 덮어쓰지 않도록 의도적으로 둠
+ALTER TABLE `transaction`
+  ADD COLUMN `type_code` TINYINT NULL;
+
+UPDATE `transaction`
+SET `type_code` = CASE `type`
+  WHEN '출금' THEN 1
+  WHEN '입금' THEN 2
+  WHEN '예약출금' THEN 3
+  WHEN '예약입금' THEN 4
+END;
+
+ALTER TABLE `transaction` DROP INDEX `uk_tx_reqid_type`;
+
+ALTER TABLE `transaction` DROP COLUMN `type`;
+
+ALTER TABLE `transaction`
+  CHANGE COLUMN `type_code` `type` TINYINT NOT NULL;
+
+-- (request_id, type) 유니크 인덱스 재생성
+ALTER TABLE `transaction`
+  ADD UNIQUE KEY `uk_tx_reqid_type` (`request_id`,`type`);
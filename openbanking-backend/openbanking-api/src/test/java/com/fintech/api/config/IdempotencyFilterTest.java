@@ -0,0 +1,136 @@
+package com.fintech.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyFilterTest {
+
+    private static final String KEY = "idem:a@test.com:/api/accounts/transfer:key-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules(); // 스프링 ObjectMapper 처럼 LocalDateTime 지원
+    private IdempotencyFilter filter;
+    private int controllerCalls;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(redisTemplate, objectMapper, true, 60, 24);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            "a@test.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 첫 요청: 키 선점 -> 컨트롤러 실행 -> 성공 응답 저장
+    @Test
+    void 첫요청_성공응답_저장() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).thenReturn(true);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain(200, "{\"message\":\"이체 완료\"}"));
+
+        assertEquals(1, controllerCalls);
+        assertEquals("{\"message\":\"이체 완료\"}", response.getContentAsString());
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofHours(24)));
+    }
+
+    // 재요청: 저장된 응답을 컨트롤러 실행 없이 재전송
+    @Test
+    void 재요청_저장된응답_재전송() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(
+            new IdempotencyFilter.StoredResponse(200, "application/json", "{\"message\":\"이체 완료\"}")));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain(200, "unused"));
+
+        assertEquals(0, controllerCalls);
+        assertEquals(200, response.getStatus());
+        assertEquals("true", response.getHeader("Idempotent-Replayed"));
+        assertEquals("{\"message\":\"이체 완료\"}", response.getContentAsString(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    // 처리 중인 키 -> 409
+    @Test
+    void 처리중_요청_409() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn("PROCESSING");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain(200, "unused"));
+
+        assertEquals(0, controllerCalls);
+        assertEquals(409, response.getStatus());
+    }
+
+    // 실패 응답은 저장하지 않고 키를 풀어 같은 키로 재시도 가능
+    @Test
+    void 실패응답_키해제() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PROCESSING"), any(Duration.class))).thenReturn(true);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain(400, "{\"message\":\"잔액 부족\"}"));
+
+        assertEquals(400, response.getStatus());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate).delete(KEY);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/accounts/transfer");
+        request.setServletPath("/api/accounts/transfer");
+        request.addHeader("Idempotency-Key", "key-1");
+        return request;
+    }
+
+    private MockFilterChain chain(int status, String body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws java.io.IOException {
+                controllerCalls++;
+                res.setStatus(status);
+                res.setContentType("application/json");
+                res.getOutputStream().write(body.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
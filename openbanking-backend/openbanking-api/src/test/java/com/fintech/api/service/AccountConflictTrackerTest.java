@@ -0,0 +1,51 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class AccountConflictTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    // 윈도우 10초, 충돌 3번 이상이면 핫 계좌
+    private final AccountConflictTracker tracker = new AccountConflictTracker(10_000, 3, now::get);
+
+    @Test
+    void 임계값_이상_충돌시_핫계좌() {
+        String key = AccountConflictTracker.key(1L, "1234");
+
+        tracker.recordConflict(key);
+        tracker.recordConflict(key);
+        assertFalse(tracker.isHot(key));
+
+        tracker.recordConflict(key);
+        assertTrue(tracker.isHot(key));
+
+        // 다른 계좌는 영향 없음
+        assertFalse(tracker.isHot(AccountConflictTracker.key(1L, "9999")));
+    }
+
+    // 충돌이 멈추면 윈도우가 지나면서 다시 콜드 계좌로 돌아옴
+    @Test
+    void 시간이_지나면_콜드계좌로_복귀() {
+        String key = AccountConflictTracker.key(1L, "1234");
+        for (int i = 0; i < 4; i++) {
+            tracker.recordConflict(key);
+        }
+        assertTrue(tracker.isHot(key));
+
+        now.addAndGet(15_000); // 직전 구간이 절반만 걸쳐있음 -> 4 * 0.5 = 2
+        assertFalse(tracker.isHot(key));
+
+        now.addAndGet(20_000);
+        assertEquals(0.0, tracker.conflictRate(key));
+
+        tracker.evictCold();
+        assertEquals(0, tracker.trackedAccounts());
+    }
+}
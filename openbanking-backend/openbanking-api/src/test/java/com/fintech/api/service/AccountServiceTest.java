@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,6 +21,7 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +33,7 @@ import com.fintech.api.domain.Bank;
 import com.fintech.api.domain.Transaction;
 import com.fintech.api.domain.User;
 import com.fintech.api.dto.AccountRequestDto;
+import com.fintech.api.dto.AccountTransferView;
 import com.fintech.api.repository.AccountRepository;
 import com.fintech.api.repository.BankRepository;
 import com.fintech.api.repository.TransactionRepository;
@@ -71,6 +77,12 @@ public class AccountServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private AccountStripeService accountStripeService;
+
+    @Mock
+    private TransferAuthService transferAuthService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -153,14 +165,14 @@ public class AccountServiceTest {
         
         when (passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
 
-        accountService.transfer(email,1L,2L,"1234","456", 500L,"1234", "req-001");
+        accountService.transfer(email,1L,2L,"1234","456", 500L,"1234", null, "req-001");
         assertEquals(500L, fromAccount.getBalance());
         assertEquals(1500L, toAccount.getBalance());
 
 
         verify(transactionRepository,times(2)).save(any(Transaction.class));
 
-        verify(notificationService,atLeast(2)).createNotification(any());
+        verify(notificationService,atLeast(2)).publish(any());
     }
 
     // 잔액이 부족한 경우 이체가 불가능
@@ -180,7 +192,7 @@ public class AccountServiceTest {
         when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, () -> {
-            accountService.transfer(email, 1L, 2L, "1234", "5678", 1000L, "1234", "req-002");  // 1000원 이체 시도
+            accountService.transfer(email, 1L, 2L, "1234", "5678", 1000L, "1234", null, "req-002");  // 1000원 이체 시도
         });
 
     }
@@ -201,7 +213,7 @@ public class AccountServiceTest {
         when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, ()-> {
-            accountService.transfer(email, 1L, 99L, "1234", "9999", 1000L, "1234", "req-003");
+            accountService.transfer(email, 1L, 99L, "1234", "9999", 1000L, "1234", null, "req-003");
         });
     }
 
@@ -218,12 +230,121 @@ public class AccountServiceTest {
         when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
 
        Exception exception= assertThrows(IllegalArgumentException.class, () -> {
-            accountService.transfer(email, 1L, 1L, "1234", "1234", 1000L,"1234","req-004");
+            accountService.transfer(email, 1L, 1L, "1234", "1234", 1000L,"1234",null, "req-004");
         });
 
         assertEquals("동일한 계좌로는 이체가 불가능합니다.", exception.getMessage());
     }
 
+    // 조건부 UPDATE 이체: 차감 UPDATE 가 1건 반영되면 입금 UPDATE + 거래내역 2건 저장
+    @Test
+    void 조건부UPDATE_이체() {
+        String email = "test@example.com";
+        AccountTransferView from = transferView(1L, "1234", "encodedPw", 1L, email);
+        AccountTransferView to = transferView(2L, "456", "encodedPw", 2L, "other@example.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("1234", 1L)).thenReturn(Optional.of(from));
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("456", 2L)).thenReturn(Optional.of(to));
+        when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
+        when(accountRepository.debitIfSufficient(1L, 500L)).thenReturn(1);
+
+        accountService.transferWithConditionalUpdate(email, 1L, 2L, "1234", "456", 500L, "1234", null, "req-005");
+
+        verify(accountRepository).credit(2L, 500L);
+        verify(transactionRepository, times(2)).save(any(Transaction.class));
+        verify(notificationService, atLeast(2)).publish(any());
+    }
+
+    // 조건부 UPDATE 이체: 영향받은 row 가 0 이면 잔액 부족으로 실패, 입금/거래내역 없음
+    @Test
+    void 조건부UPDATE_잔액부족_이체실패() {
+        String email = "test@example.com";
+        AccountTransferView from = transferView(1L, "1234", "encodedPw", 1L, email);
+        AccountTransferView to = transferView(2L, "456", "encodedPw", 2L, "other@example.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("1234", 1L)).thenReturn(Optional.of(from));
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("456", 2L)).thenReturn(Optional.of(to));
+        when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
+        when(accountRepository.debitIfSufficient(1L, 1000L)).thenReturn(0);
+
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> {
+            accountService.transferWithConditionalUpdate(email, 1L, 2L, "1234", "456", 1000L, "1234", null, "req-006");
+        });
+
+        assertEquals("잔액이 부족하여 이체가 실패하였습니다.", ex.getMessage());
+        verify(accountRepository, never()).credit(any(), any());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    // 이체 인증 토큰이 거절되면 (만료, 횟수 초과 등) 같이 온 계좌 비밀번호로 검증 -> 토큰 문자열을 비밀번호로 비교하지 않음
+    @Test
+    void 토큰거절시_계좌비밀번호로_검증() {
+        String email = "test@example.com";
+        AccountTransferView from = transferView(1L, "1234", "encodedPw", 1L, email);
+        AccountTransferView to = transferView(2L, "456", "encodedPw", 2L, "other@example.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("1234", 1L)).thenReturn(Optional.of(from));
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("456", 2L)).thenReturn(Optional.of(to));
+        when(transferAuthService.authorize("expired.transfer.token", email, 1L, "req-008")).thenReturn(false);
+        when(passwordEncoder.matches("1234", "encodedPw")).thenReturn(true);
+        when(accountRepository.debitIfSufficient(1L, 500L)).thenReturn(1);
+
+        accountService.transferWithConditionalUpdate(email, 1L, 2L, "1234", "456", 500L, "1234", "expired.transfer.token", "req-008");
+
+        verify(passwordEncoder, never()).matches("expired.transfer.token", "encodedPw");
+        verify(accountRepository).credit(2L, 500L);
+    }
+
+    // 유효한 이체 인증 토큰이면 BCrypt 검증 생략
+    @Test
+    void 유효토큰_비밀번호검증_생략() {
+        String email = "test@example.com";
+        AccountTransferView from = transferView(1L, "1234", "encodedPw", 1L, email);
+        AccountTransferView to = transferView(2L, "456", "encodedPw", 2L, "other@example.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("1234", 1L)).thenReturn(Optional.of(from));
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("456", 2L)).thenReturn(Optional.of(to));
+        when(transferAuthService.authorize("valid.transfer.token", email, 1L, "req-009")).thenReturn(true);
+        when(accountRepository.debitIfSufficient(1L, 500L)).thenReturn(1);
+
+        accountService.transferWithConditionalUpdate(email, 1L, 2L, "1234", "456", 500L, null, "valid.transfer.token", "req-009");
+
+        verify(passwordEncoder, never()).matches(any(), any());
+        verify(accountRepository).credit(2L, 500L);
+    }
+
+    // stripe 입금 계좌의 id 가 더 작으면 입금 stripe 를 먼저, 출금 계좌를 나중에 잠금 (id 오름차순 락 순서)
+    @Test
+    void 예약이체_stripe입금계좌_id순서로_잠금() {
+        Account from = Account.builder().id(5L).accountNumber("555").balance(1000L).build();
+        Account to = Account.builder().id(2L).accountNumber("222").balance(0L).stripeCount(4).build();
+
+        when(accountRepository.findStripeCountById(2L)).thenReturn(Optional.of(4));
+        when(accountStripeService.lockCreditStripe(2L, 4, "req-007-IN")).thenReturn(true);
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(to));
+        when(accountRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(from));
+
+        accountService.transferForSystem(5L, 2L, 300L, "req-007");
+
+        InOrder order = inOrder(accountStripeService, accountRepository);
+        order.verify(accountStripeService).lockCreditStripe(2L, 4, "req-007-IN");
+        order.verify(accountRepository).findByIdForUpdate(5L);
+        verify(accountRepository, never()).findByIdForUpdate(2L);
+        verify(accountStripeService).credit(2L, 4, "req-007-IN", 300L);
+        assertEquals(700L, from.getBalance());
+    }
+
+    private AccountTransferView transferView(Long id, String accountNumber, String password, Long userId, String email) {
+        // projection 은 경로마다 읽는 컬럼이 달라서 lenient 로 세팅
+        AccountTransferView view = mock(AccountTransferView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        lenient().when(view.getAccountNumber()).thenReturn(accountNumber);
+        lenient().when(view.getAccountPassword()).thenReturn(password);
+        lenient().when(view.getUserId()).thenReturn(userId);
+        lenient().when(view.getUserEmail()).thenReturn(email);
+        return view;
+    }
+
     // 타인 계좌는 삭제하면 안됨
     
     @Test
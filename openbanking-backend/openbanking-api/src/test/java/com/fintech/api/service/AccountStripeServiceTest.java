@@ -0,0 +1,115 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountBalanceStripe;
+import com.fintech.api.repository.AccountBalanceStripeRepository;
+import com.fintech.api.repository.AccountRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountStripeServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountBalanceStripeRepository accountBalanceStripeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AccountStripeService accountStripeService;
+
+    // stripe 잔액을 본 잔액으로 합치고 stripe 는 0 으로 초기화
+    @Test
+    void consolidate_stripe잔액_본잔액으로_합침() {
+        Account account = Account.builder().id(1L).balance(1000L).stripeCount(2).build();
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(accountBalanceStripeRepository.findAllByAccountIdForUpdate(1L)).thenReturn(List.of(
+            AccountBalanceStripe.builder().stripeNo(0).balance(300L).build(),
+            AccountBalanceStripe.builder().stripeNo(1).balance(200L).build()
+        ));
+
+        Account result = accountStripeService.consolidate(1L);
+
+        assertEquals(1500L, result.getBalance());
+        verify(accountBalanceStripeRepository).resetBalances(1L);
+    }
+
+    // 일반 계좌는 stripe 조회 없이 락만 잡고 반환
+    @Test
+    void consolidate_일반계좌_stripe조회X() {
+        Account account = Account.builder().id(1L).balance(1000L).build();
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+
+        accountStripeService.consolidate(1L);
+
+        verify(accountBalanceStripeRepository, never()).findAllByAccountIdForUpdate(1L);
+    }
+
+    // 같은 멱등키는 항상 같은 stripe 로
+    @Test
+    void 입금_멱등키로_stripe_선택() {
+        int expected = Math.floorMod("req-1".hashCode(), 4);
+        when(accountBalanceStripeRepository.addToStripe(1L, expected, 500L)).thenReturn(1);
+
+        accountStripeService.credit(1L, 4, "req-1", 500L);
+
+        verify(accountBalanceStripeRepository).addToStripe(1L, expected, 500L);
+        verify(accountRepository, never()).credit(anyLong(), anyLong());
+    }
+
+    // stripe 가 해제되어 update 대상이 없으면 본 잔액에 직접 입금
+    @Test
+    void 입금_stripe_해제된경우_본잔액에_입금() {
+        when(accountBalanceStripeRepository.addToStripe(anyLong(), anyInt(), anyLong())).thenReturn(0);
+
+        accountStripeService.credit(1L, 4, "req-1", 500L);
+
+        verify(accountRepository).credit(1L, 500L);
+    }
+
+    // stripe 계좌 잔액은 본 잔액 + stripe 합계를 한 문장으로 읽음
+    @Test
+    void 실제잔액_한문장으로_조회() {
+        Account account = Account.builder().id(1L).balance(1000L).stripeCount(2).build();
+        when(accountRepository.findTotalBalanceById(1L)).thenReturn(Optional.of(1500L));
+
+        assertEquals(1500L, accountStripeService.totalBalance(account));
+        verify(accountRepository, never()).findBalanceById(anyLong());
+    }
+
+    // 입금 전 잠그는 stripe 와 입금하는 stripe 는 같은 번호
+    @Test
+    void 입금_stripe_미리잠금() {
+        int expected = Math.floorMod("req-1".hashCode(), 4);
+        when(accountBalanceStripeRepository.findByAccountIdAndStripeNoForUpdate(1L, expected))
+            .thenReturn(Optional.of(AccountBalanceStripe.builder().stripeNo(expected).balance(0L).build()));
+
+        assertTrue(accountStripeService.lockCreditStripe(1L, 4, "req-1"));
+    }
+
+    @Test
+    void stripe수_범위_벗어나면_예외() {
+        assertThrows(IllegalArgumentException.class, () -> accountStripeService.enableStriping(1L, 0));
+    }
+}
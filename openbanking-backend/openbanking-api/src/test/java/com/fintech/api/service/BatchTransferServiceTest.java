@@ -0,0 +1,154 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.AccountTransferView;
+import com.fintech.api.dto.BatchTransferRequestDto;
+import com.fintech.api.dto.BatchTransferResponseDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionJdbcRepository.AccountRef;
+import com.fintech.api.repository.TransactionJdbcRepository.LockedAccount;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchTransferServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private AccountStripeService accountStripeService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TransferAuthService transferAuthService;
+
+    private BatchTransferService batchTransferService;
+
+    @BeforeEach
+    void setUp() {
+        batchTransferService = new BatchTransferService(accountRepository, transactionJdbcRepository,
+            accountStripeService, notificationService, passwordEncoder, transferAuthService, 100);
+    }
+
+    // 잔액이 부족한 건과 이미 처리된 건만 제외하고 나머지는 한 번의 batch 로 처리
+    @Test
+    void 대량이체_건별결과() {
+        AccountTransferView from = mock(AccountTransferView.class);
+        lenient().when(from.getId()).thenReturn(1L);
+        lenient().when(from.getAccountNumber()).thenReturn("111");
+        lenient().when(from.getAccountPassword()).thenReturn("encoded");
+        lenient().when(from.getUserId()).thenReturn(10L);
+        lenient().when(from.getUserEmail()).thenReturn("a@test.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("111", 1L)).thenReturn(Optional.of(from));
+        when(passwordEncoder.matches("1234", "encoded")).thenReturn(true);
+        when(transactionJdbcRepository.findAccountRefs(any())).thenReturn(List.of(
+            new AccountRef(2L, 1L, "222", 20L),
+            new AccountRef(3L, 1L, "333", 30L)
+        ));
+        when(transactionJdbcRepository.lockAccounts(any())).thenReturn(Map.of(
+            1L, new LockedAccount(1L, "111", 1000L, 0),
+            2L, new LockedAccount(2L, "222", 0L, 0),
+            3L, new LockedAccount(3L, "333", 0L, 0)
+        ));
+        when(transactionJdbcRepository.findExistingRequestKeys(any()))
+            .thenReturn(Set.of(TransactionJdbcRepository.requestKey("r3", TransactionType.WITHDRAW)));
+
+        BatchTransferRequestDto request = new BatchTransferRequestDto();
+        request.setFromBankId(1L);
+        request.setFromAccountNumber("111");
+        request.setPassword("1234");
+        request.setLegs(List.of(
+            leg("222", 600L, "r1"),
+            leg("333", 600L, "r2"),   // 잔액 부족
+            leg("333", 100L, "r3"),   // 이미 처리됨
+            leg("999", 100L, "r4"),   // 없는 계좌
+            leg("333", 400L, "r5")
+        ));
+
+        BatchTransferResponseDto result = batchTransferService.transferBatch("a@test.com", request);
+
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(2, result.getFailedCount());
+        assertEquals(1000L, result.getTotalAmount());
+        assertEquals(List.of("SUCCESS", "FAILED", "DUPLICATE", "FAILED", "SUCCESS"),
+            result.getResults().stream().map(BatchTransferResponseDto.LegResult::getStatus).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> balances = ArgumentCaptor.forClass(Map.class);
+        verify(transactionJdbcRepository).batchUpdateBalances(balances.capture());
+        assertEquals(Map.of(1L, 0L, 2L, 600L, 3L, 400L), balances.getValue());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> ledger = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchInsert(ledger.capture());
+        assertEquals(4, ledger.getValue().size());
+
+        // 이체 인증 토큰 사용 횟수는 묶음 안의 건수만큼
+        verify(transferAuthService).authorize(any(), eq("a@test.com"), eq(1L), eq(5));
+    }
+
+    @Test
+    void 대량이체_비밀번호_불일치() {
+        AccountTransferView from = mock(AccountTransferView.class);
+        lenient().when(from.getAccountPassword()).thenReturn("encoded");
+        lenient().when(from.getUserEmail()).thenReturn("a@test.com");
+
+        when(accountRepository.findTransferViewByAccountNumberAndBankId("111", 1L)).thenReturn(Optional.of(from));
+        when(passwordEncoder.matches("wrong", "encoded")).thenReturn(false);
+
+        BatchTransferRequestDto request = new BatchTransferRequestDto();
+        request.setFromBankId(1L);
+        request.setFromAccountNumber("111");
+        request.setPassword("wrong");
+        request.setLegs(List.of(leg("222", 100L, "r1")));
+
+        assertThrows(SecurityException.class, () -> batchTransferService.transferBatch("a@test.com", request));
+        verify(transactionJdbcRepository, never()).lockAccounts(any());
+        verify(transactionJdbcRepository, never()).batchUpdateBalances(anyMap());
+        verify(transactionJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    private static BatchTransferRequestDto.Leg leg(String toAccountNumber, Long amount, String requestId) {
+        BatchTransferRequestDto.Leg leg = new BatchTransferRequestDto.Leg();
+        leg.setToBankId(1L);
+        leg.setToAccountNumber(toAccountNumber);
+        leg.setAmount(amount);
+        leg.setRequestId(requestId);
+        return leg;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.repository.TransactionRequestArchiveRepository;
+import com.fintech.api.repository.TransactionRequestArchiveRepository.RequestKeyRow;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyKeyRetentionServiceTest {
+
+    @Mock
+    private TransactionRequestArchiveRepository archiveRepository;
+
+    private IdempotencyKeyRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service = new IdempotencyKeyRetentionService(archiveRepository, transactionTemplate, 7, 24, 2, 10);
+    }
+
+    private RequestKeyRow row(long id, LocalDateTime date) {
+        return new RequestKeyRow(id, "req-" + id, TransactionType.WITHDRAW, date);
+    }
+
+    // 보존 기간 안의 거래를 만나면 그 앞까지만 보관하고 멈춤
+    @Test
+    @SuppressWarnings("unchecked")
+    void 보존기간_지난키만_보관() {
+        LocalDateTime old = LocalDateTime.now().minusDays(10);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        when(archiveRepository.findLastArchivedTransactionId()).thenReturn(0L);
+        when(archiveRepository.findRequestKeysAfter(0L, 2)).thenReturn(List.of(row(1, old), row(2, old)));
+        when(archiveRepository.findRequestKeysAfter(2L, 2)).thenReturn(List.of(row(3, old), row(4, recent)));
+
+        int archived = service.archiveExpired();
+
+        assertEquals(3, archived);
+        ArgumentCaptor<List<RequestKeyRow>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(archiveRepository, times(2)).archive(chunks.capture(), any());
+        assertEquals(2, chunks.getAllValues().get(0).size());
+        assertEquals(3L, chunks.getAllValues().get(1).get(0).getTransactionId());
+        assertEquals(1, chunks.getAllValues().get(1).size());
+        verify(archiveRepository, never()).findRequestKeysAfter(3L, 2);
+    }
+
+    // 보관할 키가 없으면 트랜잭션 없이 종료
+    @Test
+    void 보관대상_없음() {
+        when(archiveRepository.findLastArchivedTransactionId()).thenReturn(5L);
+        when(archiveRepository.findRequestKeysAfter(5L, 2)).thenReturn(List.of(row(6, LocalDateTime.now())));
+
+        assertEquals(0, service.archiveExpired());
+        verify(archiveRepository, never()).archive(anyList(), any());
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fintech.api.controller.AccountController;
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.domain.User;
+import com.fintech.api.dto.MonthlyStatementDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.MonthlyRollupRepository;
+import com.fintech.api.repository.MonthlyRollupRepository.MonthlyDelta;
+import com.fintech.api.repository.MonthlyRollupRepository.RollupRow;
+import com.fintech.api.repository.TransactionRepository;
+import com.fintech.api.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 월간 집계 JDBC 쿼리 (H2 MySQL 모드, 집계 테이블은 flyway 스크립트 그대로, 나머지는 엔티티 기준 스키마)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rollup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE,MONTH",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MonthlyRollupRepository.class)
+public class MonthlyRollupRepositoryTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 4, 1, 12, 0);
+
+    @Autowired private MonthlyRollupRepository rollupRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+    @Autowired private EntityManager em;
+
+    @MockitoBean private AccountController accountController;
+    @MockitoBean private RequestIdBloomFilter requestIdBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("drop table if exists account_monthly_rollup");
+        jdbcTemplate.execute("drop table if exists rollup_watermark");
+        new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V16__create_account_monthly_rollup.sql"),
+            new ClassPathResource("db/migration/V18__add_rollup_balance_approximate.sql")).execute(dataSource);
+    }
+
+    private MonthlyDelta delta(Long accountId, RollupRow... rows) {
+        MonthlyDelta delta = new MonthlyDelta(accountId, MARCH);
+        for (RollupRow row : rows) {
+            delta.add(row);
+        }
+        return delta;
+    }
+
+    private RollupRow row(long id, TransactionType type, long amount, Long balanceAfter, boolean striped) {
+        return new RollupRow(id, 1L, type, amount, balanceAfter, MARCH.atTime(9, 0), striped);
+    }
+
+    // 같은 (계좌, 월) 은 합계/건수 누적, 기초 잔액은 처음 값 유지, 기말 잔액은 잔액이 있는 더 뒤의 값으로
+    @Test
+    void upsert_누적() {
+        rollupRepository.upsertAll(List.of(delta(1L,
+            row(1L, TransactionType.DEPOSIT, 10_000L, 10_000L, false),
+            row(2L, TransactionType.WITHDRAW, -3_000L, 7_000L, false))), AT);
+        rollupRepository.upsertAll(List.of(delta(1L,
+            row(3L, TransactionType.DEPOSIT, 1_000L, 8_000L, false))), AT);
+        rollupRepository.upsertAll(List.of(delta(1L,
+            row(4L, TransactionType.WITHDRAW, 500L, 7_500L, false))), AT.plusMinutes(1));
+
+        List<MonthlyStatementDto> statements = rollupRepository.findStatements(1L, YearMonth.of(2025, 1), YearMonth.of(2025, 12));
+        assertEquals(1, statements.size());
+        MonthlyStatementDto march = statements.get(0);
+        assertEquals(YearMonth.of(2025, 3), march.getMonth());
+        assertEquals(11_000L, march.getDepositTotal());
+        assertEquals(2, march.getDepositCount());
+        assertEquals(3_500L, march.getWithdrawTotal());
+        assertEquals(2, march.getWithdrawCount());
+        assertEquals(0L, march.getOpeningBalance());
+        assertEquals(7_500L, march.getClosingBalance());
+    }
+
+    // stripe 계좌의 거래가 한 번 섞이면 그 달은 잔액 없이 합계/건수만
+    @Test
+    void 근사잔액_표시_유지() {
+        rollupRepository.upsertAll(List.of(delta(1L, row(1L, TransactionType.DEPOSIT, 10_000L, 10_000L, false))), AT);
+        rollupRepository.upsertAll(List.of(delta(1L, row(2L, TransactionType.DEPOSIT, 5_000L, 15_000L, true))), AT);
+        rollupRepository.upsertAll(List.of(delta(1L, row(3L, TransactionType.WITHDRAW, 1_000L, 14_000L, false))), AT);
+
+        MonthlyStatementDto march = rollupRepository.findStatements(1L, YearMonth.of(2025, 3), YearMonth.of(2025, 3)).get(0);
+        assertEquals(15_000L, march.getDepositTotal());
+        assertEquals(1_000L, march.getWithdrawTotal());
+        assertNull(march.getOpeningBalance());
+        assertNull(march.getClosingBalance());
+    }
+
+    // 거래 후 잔액이 없는 거래가 섞이면 그 달의 잔액은 알 수 없음 -> 근사 표시
+    @Test
+    void 거래후잔액_없으면_근사표시() {
+        rollupRepository.upsertAll(List.of(delta(1L,
+            row(1L, TransactionType.DEPOSIT, 10_000L, 10_000L, false),
+            row(2L, TransactionType.WITHDRAW, 500L, null, false))), AT);
+
+        MonthlyStatementDto march = rollupRepository.findStatements(1L, YearMonth.of(2025, 3), YearMonth.of(2025, 3)).get(0);
+        assertEquals(500L, march.getWithdrawTotal());
+        assertNull(march.getOpeningBalance());
+        assertNull(march.getClosingBalance());
+    }
+
+    // 워터마크 이후 거래를 id 순서로, 계좌의 stripe 여부와 함께
+    @Test
+    void 워터마크_이후_거래_조회() {
+        User user = userRepository.save(User.builder().name("rollup").email("rollup@test.com").password("x").phone("010-0000-0000").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("995").bankName("테스트은행").build());
+        Account plain = accountRepository.save(Account.builder().accountNumber("995-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(0L).user(user).bank(bank).build());
+        Account striped = accountRepository.save(Account.builder().accountNumber("995-20000000").accountPassword("x")
+            .accountType(AccountType.SAVINGS).balance(0L).stripeCount(4).user(user).bank(bank).build());
+        Transaction first = transactionRepository.save(Transaction.builder().account(plain).amount(1_000L)
+            .type(TransactionType.DEPOSIT).balanceAfter(1_000L).build());
+        transactionRepository.save(Transaction.builder().account(striped).amount(2_000L)
+            .type(TransactionType.DEPOSIT).balanceAfter(2_000L).build());
+        transactionRepository.save(Transaction.builder().account(plain).amount(-500L)
+            .type(TransactionType.WITHDRAW).balanceAfter(500L).build());
+        em.flush();
+
+        List<RollupRow> rows = rollupRepository.findTransactionsAfter(first.getId(), 10);
+
+        assertEquals(2, rows.size());
+        assertEquals(striped.getId(), rows.get(0).getAccountId());
+        assertTrue(rows.get(0).isStriped());
+        assertEquals(TransactionType.WITHDRAW, rows.get(1).getType());
+        assertFalse(rows.get(1).isStriped());
+        assertEquals(500L, rows.get(1).getBalanceAfter());
+    }
+
+    @Test
+    void 워터마크_저장() {
+        assertEquals(0L, rollupRepository.lockWatermark());
+
+        rollupRepository.saveWatermark(42L, AT);
+
+        assertEquals(42L, rollupRepository.lockWatermark());
+    }
+}
@@ -0,0 +1,155 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.MonthlyRollupRepository;
+import com.fintech.api.repository.MonthlyRollupRepository.MonthlyDelta;
+import com.fintech.api.repository.MonthlyRollupRepository.RollupRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class MonthlyRollupServiceTest {
+
+    @Mock
+    private MonthlyRollupRepository rollupRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private MonthlyRollupService service;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service = new MonthlyRollupService(rollupRepository, accountRepository, transactionTemplate, new SimpleMeterRegistry(), 300, 1800, 10, 5);
+    }
+
+    // 계좌/월 별로 합계, 건수, 기초/기말 잔액 누적 (출금 금액 부호와 무관), settle 시간이 안 지난 거래에서 멈춤
+    @Test
+    @SuppressWarnings("unchecked")
+    void 월별_집계_반영() {
+        when(rollupRepository.lockWatermark()).thenReturn(100L);
+        when(rollupRepository.findTransactionsAfter(100L, 10)).thenReturn(List.of(
+            new RollupRow(101L, 1L, TransactionType.DEPOSIT, 10_000L, 10_000L, LocalDateTime.of(2025, 2, 28, 23, 0), false),
+            new RollupRow(102L, 1L, TransactionType.WITHDRAW, -3_000L, 7_000L, LocalDateTime.of(2025, 3, 1, 9, 0), false),
+            new RollupRow(103L, 1L, TransactionType.SCHEDULED_DEPOSIT, 1_000L, 8_000L, LocalDateTime.of(2025, 3, 2, 9, 0), false),
+            new RollupRow(104L, 2L, TransactionType.WITHDRAW, 500L, null, LocalDateTime.of(2025, 3, 2, 9, 0), false),
+            new RollupRow(105L, 1L, TransactionType.DEPOSIT, 1L, 8_001L, NOW.minusMinutes(1), false))); // settle 전
+
+        assertEquals(4, service.catchUp(NOW));
+
+        ArgumentCaptor<Collection<MonthlyDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(rollupRepository).upsertAll(captor.capture(), eq(NOW));
+        List<MonthlyDelta> deltas = new ArrayList<>(captor.getValue());
+        assertEquals(3, deltas.size());
+
+        MonthlyDelta march = deltas.get(1);
+        assertEquals(LocalDate.of(2025, 3, 1), march.getMonth());
+        assertEquals(1_000L, march.getDepositTotal());
+        assertEquals(3_000L, march.getWithdrawTotal());
+        assertEquals(2, march.getDepositCount() + march.getWithdrawCount());
+        assertEquals(10_000L, march.getOpeningBalance());
+        assertEquals(8_000L, march.getClosingBalance());
+
+        assertNull(deltas.get(2).getOpeningBalance()); // 거래 후 잔액이 없는 거래만 있는 달
+        verify(rollupRepository).saveWatermark(104L, NOW);
+    }
+
+    // stripe 계좌의 거래가 있는 달은 합계/건수만 정확, 잔액은 근사 표시 (기초/기말 잔액에 쓰지 않음)
+    @Test
+    @SuppressWarnings("unchecked")
+    void stripe계좌_잔액_근사표시() {
+        when(rollupRepository.lockWatermark()).thenReturn(100L);
+        when(rollupRepository.findTransactionsAfter(100L, 10)).thenReturn(List.of(
+            new RollupRow(101L, 1L, TransactionType.DEPOSIT, 10_000L, 10_000L, LocalDateTime.of(2025, 3, 1, 9, 0), true),
+            new RollupRow(102L, 1L, TransactionType.DEPOSIT, 5_000L, 14_000L, LocalDateTime.of(2025, 3, 1, 9, 1), true)));
+
+        service.catchUp(NOW);
+
+        ArgumentCaptor<Collection<MonthlyDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(rollupRepository).upsertAll(captor.capture(), eq(NOW));
+        MonthlyDelta march = captor.getValue().iterator().next();
+        assertEquals(15_000L, march.getDepositTotal());
+        assertEquals(2, march.getDepositCount());
+        assertTrue(march.isBalanceApproximate());
+        assertNull(march.getOpeningBalance());
+        assertNull(march.getClosingBalance());
+    }
+
+    // 빈 번호 바로 뒤의 거래는 gap-settle 시간(30분)이 지나야 반영 (앞 번호 거래가 늦게 커밋될 수 있으므로)
+    @Test
+    void 빈번호_뒤_거래는_gapSettle_후_반영() {
+        when(rollupRepository.lockWatermark()).thenReturn(100L);
+        when(rollupRepository.findTransactionsAfter(100L, 10)).thenReturn(List.of(
+            new RollupRow(101L, 1L, TransactionType.DEPOSIT, 1_000L, 1_000L, NOW.minusHours(1), false),
+            new RollupRow(103L, 1L, TransactionType.DEPOSIT, 1_000L, 2_000L, NOW.minusMinutes(10), false)));
+
+        assertEquals(1, service.catchUp(NOW));
+        verify(rollupRepository).saveWatermark(101L, NOW);
+
+        when(rollupRepository.lockWatermark()).thenReturn(101L);
+        when(rollupRepository.findTransactionsAfter(101L, 10)).thenReturn(List.of(
+            new RollupRow(103L, 1L, TransactionType.DEPOSIT, 1_000L, 2_000L, NOW.minusMinutes(10), false)));
+
+        assertEquals(1, service.catchUp(NOW.plusMinutes(25)));
+        verify(rollupRepository).saveWatermark(103L, NOW.plusMinutes(25));
+    }
+
+    // 반영할 거래가 없으면 워터마크 그대로
+    @Test
+    void 반영할_거래_없음() {
+        when(rollupRepository.lockWatermark()).thenReturn(100L);
+        when(rollupRepository.findTransactionsAfter(100L, 10)).thenReturn(List.of());
+
+        assertEquals(0, service.catchUp(NOW));
+        verify(rollupRepository, never()).saveWatermark(anyLong(), any());
+    }
+
+    @Test
+    void 명세_조회_기간_검증() {
+        when(accountRepository.existsByIdAndUserEmail(1L, "me@test.com")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getStatements("me@test.com", 1L, YearMonth.of(2025, 5), YearMonth.of(2025, 1)));
+
+        service.getStatements("me@test.com", 1L, null, YearMonth.of(2025, 3));
+        verify(rollupRepository).findStatements(1L, YearMonth.of(2024, 4), YearMonth.of(2025, 3));
+    }
+
+    @Test
+    void 다른사람_계좌_거절() {
+        when(accountRepository.existsByIdAndUserEmail(1L, "other@test.com")).thenReturn(false);
+        assertThrows(IllegalArgumentException.class, () -> service.getStatements("other@test.com", 1L, null, null));
+    }
+}
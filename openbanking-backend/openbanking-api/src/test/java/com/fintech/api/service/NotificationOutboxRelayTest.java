@@ -0,0 +1,105 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.NotificationOutbox;
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.repository.NotificationOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        relay = new NotificationOutboxRelay(outboxRepository, transactionTemplate, notificationUnreadCounter, notificationStreamHub, 10, 5);
+    }
+
+    private NotificationOutbox row(long id, long userId) {
+        return NotificationOutbox.builder().id(id).userId(userId).type(NotificationType.TRANSFER)
+            .template(NotificationTemplate.TRANSFER_SENT).params(NotificationTemplate.params(5000L, "110-" + id))
+            .createdAt(LocalDateTime.now()).build();
+    }
+
+    // outbox 행을 notification 으로 옮기고 삭제, 없는 사용자의 알림은 삭제만
+    @Test
+    void outbox_알림으로_이동() {
+        NotificationOutbox a = row(1L, 10L);
+        NotificationOutbox b = row(2L, 20L);
+        when(outboxRepository.lockBatch(10)).thenReturn(List.of(a, b));
+        when(outboxRepository.findExistingUserIds(List.of(10L, 20L))).thenReturn(Set.of(10L));
+        when(outboxRepository.insertNotifications(List.of(a))).thenReturn(List.of(100L));
+
+        int relayed = relay.relay();
+
+        assertEquals(2, relayed);
+        // push 되는 알림은 템플릿으로 만든 문구
+        verify(notificationStreamHub).publish(eq(10L), argThat(n -> n.getId().equals(100L)
+            && n.getMessage().equals("5000원이 110-1 계좌로 이체 완료되었습니다.")));
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+        verify(notificationUnreadCounter).addAll(Map.of(10L, 1L));
+    }
+
+    // 카운터 증가와 push 는 묶음 트랜잭션 커밋 이후
+    @Test
+    void 카운터_push는_커밋이후() {
+        NotificationOutbox a = row(1L, 10L);
+        when(outboxRepository.lockBatch(10)).thenReturn(List.of(a));
+        when(outboxRepository.findExistingUserIds(List.of(10L))).thenReturn(Set.of(10L));
+        when(outboxRepository.insertNotifications(List.of(a))).thenReturn(List.of(100L));
+
+        relay.relay();
+
+        InOrder order = inOrder(transactionManager, notificationUnreadCounter, notificationStreamHub);
+        order.verify(transactionManager).commit(any());
+        order.verify(notificationUnreadCounter).addAll(anyMap());
+        order.verify(notificationStreamHub).publish(eq(10L), any());
+    }
+
+    // 옮길 행이 없으면 아무것도 하지 않음
+    @Test
+    void outbox_비어있음() {
+        when(outboxRepository.lockBatch(10)).thenReturn(List.of());
+
+        assertEquals(0, relay.relay());
+        verify(outboxRepository, never()).insertNotifications(anyList());
+    }
+}
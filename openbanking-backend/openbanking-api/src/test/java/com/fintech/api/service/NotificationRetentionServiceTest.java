@@ -0,0 +1,152 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.NotificationTemplate;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.repository.NotificationRetentionRepository;
+import com.fintech.api.repository.NotificationRetentionRepository.CompactionWatermark;
+import com.fintech.api.repository.NotificationRetentionRepository.NotificationRow;
+import com.fintech.api.repository.NotificationRetentionRepository.NotificationSummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationRetentionServiceTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private NotificationRetentionRepository retentionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service = new NotificationRetentionService(retentionRepository, transactionTemplate, meterRegistry, 90, 365, 24, 3, 10, 5);
+    }
+
+    // 읽은 알림 / 안 읽은 알림 각각 보관 기간이 지난 것만 삭제
+    @Test
+    void 보관기간_지난알림_삭제() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 4, 0);
+        when(retentionRepository.findIdsCreatedBefore(true, now.minusDays(90), 10)).thenReturn(List.of(1L, 2L));
+        when(retentionRepository.findIdsCreatedBefore(false, now.minusDays(365), 10)).thenReturn(List.of(3L));
+        when(retentionRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+        when(retentionRepository.deleteByIds(List.of(3L))).thenReturn(1);
+
+        assertEquals(3, service.purge(now));
+        assertEquals(2.0, meterRegistry.get("notification.retention.deleted").tag("state", "read").counter().count());
+    }
+
+    // 같은 사용자 / 같은 종류가 1분 안에 3건 이상이면 요약 1건으로, 나머지는 그대로
+    @Test
+    @SuppressWarnings("unchecked")
+    void 몰린알림_요약() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 4, 0);
+        LocalDateTime at = LocalDateTime.of(2025, 5, 1, 12, 0, 5);
+        List<NotificationRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            rows.add(new NotificationRow(id, 10L, NotificationType.TRANSFER, NotificationTemplate.TRANSFER_RECEIVED, at.plusSeconds(id)));
+        }
+        rows.add(new NotificationRow(4L, 10L, NotificationType.SYSTEM_NOTICE, null, at.plusSeconds(4)));
+        rows.add(new NotificationRow(5L, 20L, NotificationType.TRANSFER, NotificationTemplate.TRANSFER_RECEIVED, at.plusSeconds(5)));
+        when(retentionRepository.lockCompactionWatermark()).thenReturn(new CompactionWatermark(EPOCH, 0L));
+        when(retentionRepository.findReadAfter(eq(now.minusDays(90)), eq(0L), eq(now.minusHours(24)), eq(10))).thenReturn(rows);
+
+        assertEquals(3, service.compact(now));
+
+        ArgumentCaptor<List<NotificationSummary>> summaries = ArgumentCaptor.forClass(List.class);
+        verify(retentionRepository).insertSummaries(summaries.capture());
+        assertEquals(1, summaries.getValue().size());
+        assertEquals(3, summaries.getValue().get(0).getCount());
+        assertEquals("2025-05-01 12:00", summaries.getValue().get(0).getMinute());
+        verify(retentionRepository).deleteByIds(List.of(1L, 2L, 3L));
+        verify(retentionRepository).saveCompactionWatermark(at.plusSeconds(5), 5L, now);
+    }
+
+    // 이미 요약된 알림은 다시 합치지 않음
+    @Test
+    void 요약알림_제외() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 4, 0);
+        LocalDateTime at = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<NotificationRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            rows.add(new NotificationRow(id, 10L, NotificationType.TRANSFER, NotificationTemplate.BURST_SUMMARY, at));
+        }
+        when(retentionRepository.lockCompactionWatermark()).thenReturn(new CompactionWatermark(EPOCH, 0L));
+        when(retentionRepository.findReadAfter(any(), anyLong(), any(), eq(10))).thenReturn(rows);
+
+        assertEquals(0, service.compact(now));
+        verify(retentionRepository, never()).insertSummaries(anyList());
+    }
+
+    // 재시작 / 다른 서버에서 실행해도 db 워터마크 위치부터 이어서 읽음
+    @Test
+    void 저장된_워터마크부터_이어서() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 4, 0);
+        LocalDateTime at = LocalDateTime.of(2025, 5, 20, 9, 30);
+        when(retentionRepository.lockCompactionWatermark()).thenReturn(new CompactionWatermark(at, 42L));
+        when(retentionRepository.findReadAfter(at, 42L, now.minusHours(24), 10)).thenReturn(List.of());
+
+        assertEquals(0, service.compact(now));
+        verify(retentionRepository, never()).saveCompactionWatermark(any(), anyLong(), any());
+    }
+
+    // chunk 경계에 걸린 1분은 나누지 않고 다음 chunk 에서 한 번에 요약
+    @Test
+    @SuppressWarnings("unchecked")
+    void chunk경계_묶음_나누지않음() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 4, 0);
+        LocalDateTime minute = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<NotificationRow> first = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            first.add(new NotificationRow(id, 100L + id, NotificationType.TRANSFER, NotificationTemplate.TRANSFER_RECEIVED, minute.plusSeconds(id)));
+        }
+        List<NotificationRow> second = new ArrayList<>();
+        for (long id = 8; id <= 12; id++) {
+            NotificationRow row = new NotificationRow(id, 10L, NotificationType.TRANSFER, NotificationTemplate.TRANSFER_RECEIVED, minute.plusMinutes(1).plusSeconds(id));
+            if (id <= 10) {
+                first.add(row);
+            }
+            second.add(row);
+        }
+        LocalDateTime afterFirst = minute.plusSeconds(7);
+        when(retentionRepository.lockCompactionWatermark()).thenReturn(
+            new CompactionWatermark(EPOCH, 0L), new CompactionWatermark(afterFirst, 7L));
+        when(retentionRepository.findReadAfter(now.minusDays(90), 0L, now.minusHours(24), 10)).thenReturn(first);
+        when(retentionRepository.findReadAfter(afterFirst, 7L, now.minusHours(24), 10)).thenReturn(second);
+
+        assertEquals(5, service.compact(now));
+
+        verify(retentionRepository).saveCompactionWatermark(afterFirst, 7L, now); // 첫 chunk 는 열린 1분 앞까지만
+        ArgumentCaptor<List<NotificationSummary>> summaries = ArgumentCaptor.forClass(List.class);
+        verify(retentionRepository).insertSummaries(summaries.capture());
+        assertEquals(5, summaries.getValue().get(0).getCount());
+        verify(retentionRepository).deleteByIds(List.of(8L, 9L, 10L, 11L, 12L));
+    }
+}
@@ -0,0 +1,113 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.dto.NotificationPageResponseDto;
+import com.fintech.api.dto.NotificationResponseDto;
+import com.fintech.api.repository.NotificationOutboxRepository;
+import com.fintech.api.repository.NotificationRepository;
+import com.fintech.api.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private NotificationResponseDto dto(long id, LocalDateTime createdAt) {
+        return new NotificationResponseDto(id, "msg-" + id, NotificationType.TRANSFER, false, createdAt);
+    }
+
+    // size + 1 건이 조회되면 size 건만 반환하고 마지막 건 기준으로 다음 cursor 생성
+    @Test
+    void 알림목록_다음페이지_cursor() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(notificationRepository.findFeedFirstPage(1L, PageRequest.of(0, 3))).thenReturn(List.of(
+            dto(30L, now), dto(20L, now), dto(10L, now.minusMinutes(1))));
+
+        NotificationPageResponseDto page = notificationService.getMyNotifications(1L, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+
+        when(notificationRepository.findFeedAfter(1L, now, 20L, PageRequest.of(0, 3))).thenReturn(List.of(dto(10L, now.minusMinutes(1))));
+
+        NotificationPageResponseDto next = notificationService.getMyNotifications(1L, page.getNextCursor(), 2);
+
+        assertEquals(1, next.getItems().size());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+    }
+
+    // 잘못된 cursor 는 400
+    @Test
+    void 알림목록_잘못된cursor() {
+        assertThrows(IllegalArgumentException.class, () -> notificationService.getMyNotifications(1L, "not-a-cursor", 20));
+    }
+
+    // size 는 최대 100 으로 제한
+    @Test
+    void 알림목록_최대크기_제한() {
+        when(notificationRepository.findFeedFirstPage(any(), any())).thenReturn(List.of());
+
+        NotificationPageResponseDto page = notificationService.getMyNotifications(1L, null, 10_000);
+
+        assertTrue(page.getItems().isEmpty());
+        verify(notificationRepository).findFeedFirstPage(1L, PageRequest.of(0, 101));
+    }
+
+    // 전체 읽음 처리: update 1번, 바뀐 건수만큼 카운터 차감
+    @Test
+    void 전체읽음_카운터차감() {
+        when(notificationRepository.markAllRead(1L)).thenReturn(5);
+
+        assertEquals(5, notificationService.markAllRead(1L, null));
+        verify(notificationUnreadCounter).add(1L, -5);
+    }
+
+    // cursor 까지만 읽음 처리
+    @Test
+    void cursor까지_읽음처리() {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(at, 20L).encode();
+        when(notificationRepository.markReadUpTo(1L, at, 20L)).thenReturn(0);
+
+        assertEquals(0, notificationService.markAllRead(1L, cursor));
+        verify(notificationUnreadCounter, never()).add(any(), anyLong());
+    }
+}
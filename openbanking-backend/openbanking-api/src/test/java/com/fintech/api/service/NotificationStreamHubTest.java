@@ -0,0 +1,134 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.dto.NotificationResponseDto;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationStreamHubTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ObjectMapper objectMapper;
+    private NotificationStreamHub hub;
+    private final List<RecordingEmitter> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        hub = new NotificationStreamHub(redisTemplate, objectMapper, 60000, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                created.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private NotificationResponseDto notification() {
+        return new NotificationResponseDto(1L, "msg", NotificationType.TRANSFER, false, LocalDateTime.now());
+    }
+
+    // 알림은 redis 채널로 발행
+    @Test
+    void 발행_redis채널() {
+        hub.publish(1L, notification());
+
+        verify(redisTemplate).convertAndSend(eq(NotificationStreamHub.CHANNEL), anyString());
+    }
+
+    // 트랜잭션 안에서 발행하면 커밋 이후에 redis 채널로
+    @Test
+    void 트랜잭션안_발행은_커밋이후() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hub.publish(1L, notification());
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate).convertAndSend(eq(NotificationStreamHub.CHANNEL), anyString());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 채널로 받은 알림은 이 서버에 연결된 사용자에게만 전달
+    @Test
+    void 수신_연결된사용자에게_전달() throws Exception {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+        String body = objectMapper.writeValueAsString(new NotificationStreamHub.StreamMessage(1L, notification()));
+
+        hub.onMessage(new DefaultMessage(NotificationStreamHub.CHANNEL.getBytes(), body.getBytes()), null);
+
+        List<NotificationResponseDto> received = created.get(0).notifications();
+        assertEquals(1, received.size());
+        assertEquals(1L, received.get(0).getId());
+        assertEquals("msg", received.get(0).getMessage());
+        assertEquals(0, created.get(1).notifications().size());
+    }
+
+    // 사용자당 연결 수 제한
+    @Test
+    void 사용자당_연결수_제한() {
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+
+        assertEquals(2, hub.connectionCount(1L));
+    }
+
+    // redis 발행 실패시 이 서버 연결에 직접 전달 (예외 전파 X)
+    @Test
+    void redis장애_로컬전달() {
+        hub.subscribe(1L);
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(eq(NotificationStreamHub.CHANNEL), anyString());
+
+        hub.publish(1L, notification());
+
+        assertEquals(1, created.get(0).notifications().size());
+    }
+
+    // 보낸 이벤트를 기록만 하는 연결 (실제 응답 스트림 X)
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Object> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().forEach(data -> sent.add(data.getData()));
+        }
+
+        List<NotificationResponseDto> notifications() {
+            return sent.stream()
+                .filter(NotificationResponseDto.class::isInstance)
+                .map(NotificationResponseDto.class::cast)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fintech.api.dto.UnreadCountView;
+import com.fintech.api.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationUnreadCounterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new NotificationUnreadCounter(redisTemplate, notificationRepository, 60, 100);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations); // 보정은 스크립트만 사용
+    }
+
+    // 카운터가 있으면 db 조회 없이 반환
+    @Test
+    void 카운터_있으면_redis값() {
+        when(valueOperations.get("notif:unread:1")).thenReturn("7");
+
+        assertEquals(7L, counter.get(1L));
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(any());
+    }
+
+    // 카운터가 없으면 db 에서 세어서 채움
+    @Test
+    void 카운터_없으면_db로_채움() {
+        when(valueOperations.get("notif:unread:1")).thenReturn(null);
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(3L);
+
+        assertEquals(3L, counter.get(1L));
+        verify(valueOperations).setIfAbsent(eq("notif:unread:1"), eq("3"), any(Duration.class));
+    }
+
+    // 트랜잭션 안에서의 증감은 커밋 이후에 반영, 롤백되면 반영 X
+    @Test
+    void 트랜잭션안_증감은_커밋이후() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.add(1L, 1);
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("notif:unread:1")), eq("1"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 보정: 안 읽은 알림이 없는 사용자는 0 으로
+    @Test
+    void 보정_db값으로_덮어씀() {
+        UnreadCountView view = new UnreadCountView() {
+            public Long getUserId() { return 1L; }
+            public Long getUnread() { return 4L; }
+        };
+        when(notificationRepository.countUnreadByUserIds(List.of(1L, 2L))).thenReturn(List.of(view));
+
+        counter.reconcile(List.of(1L, 2L));
+
+        // 값만 덮어쓰고 TTL 은 연장하지 않음 (SET XX KEEPTTL 스크립트)
+        verify(redisTemplate).execute(any(), eq(List.of("notif:unread:1")), eq("4"));
+        verify(redisTemplate).execute(any(), eq(List.of("notif:unread:2")), eq("0"));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+}
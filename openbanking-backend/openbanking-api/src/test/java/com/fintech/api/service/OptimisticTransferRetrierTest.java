@@ -0,0 +1,97 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.fintech.api.domain.Account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OptimisticTransferRetrierTest {
+
+    @Mock
+    private AccountService accountService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountConflictTracker tracker;
+    private OptimisticTransferRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new AccountConflictTracker(10000, 2);
+        // 테스트가 느려지지 않도록 대기시간 1ms
+        retrier = new OptimisticTransferRetrier(accountService, tracker, meterRegistry, 3, 1, 1);
+    }
+
+    // 두번 충돌 후 세번째에 성공 -> 같은 멱등키로 3번 호출되고 예외는 밖으로 나가지 않음
+    @Test
+    void 충돌후_재시도로_성공() {
+        doThrow(conflict()).doThrow(conflict()).doNothing()
+            .when(accountService).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-001");
+
+        retrier.transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-001");
+
+        verify(accountService, times(3)).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-001");
+        assertEquals(2.0, meterRegistry.counter("transfer.optimistic.conflicts").count());
+        assertEquals(2.0, meterRegistry.counter("transfer.optimistic.retries").count());
+        assertEquals(0.0, meterRegistry.counter("transfer.optimistic.exhausted").count());
+
+        // 충돌은 출금/입금 계좌 양쪽에 기록되어 전략 선택에 사용됨
+        assertTrue(tracker.isHot(AccountConflictTracker.key(1L, "1234")));
+        assertTrue(tracker.isHot(AccountConflictTracker.key(2L, "456")));
+    }
+
+    // 재시도 한도를 넘기면 마지막 충돌 예외를 그대로 던짐
+    @Test
+    void 재시도_한도초과시_실패() {
+        doThrow(conflict())
+            .when(accountService).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-002");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            retrier.transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-002");
+        });
+
+        verify(accountService, times(3)).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-002");
+        assertEquals(3.0, meterRegistry.counter("transfer.optimistic.conflicts").count());
+        assertEquals(1.0, meterRegistry.counter("transfer.optimistic.exhausted").count());
+    }
+
+    // 업무 오류(잔액 부족 등)는 재시도하지 않음
+    @Test
+    void 업무오류는_재시도하지않음() {
+        doThrow(new IllegalArgumentException("잔액이 부족하여 이체가 실패하였습니다."))
+            .when(accountService).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-003");
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            retrier.transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-003");
+        });
+
+        verify(accountService, times(1)).transfer("a@b.com", 1L, 2L, "1234", "456", 500L, "pw", null, "req-003");
+    }
+
+    @Test
+    void 백오프는_상한을_넘지않음() {
+        OptimisticTransferRetrier wide = new OptimisticTransferRetrier(accountService, tracker, meterRegistry, 5, 10, 200);
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            long delay = wide.backoffMillis(attempt);
+            assertTrue(delay >= 0 && delay <= 200);
+        }
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Account.class, 1L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.api.controller.AccountController;
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.User;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.TransactionRepository;
+import com.fintech.api.repository.UserRepository;
+
+// 비관락 이체 동시성 (H2, 엔티티 기준 스키마)
+// 핫 계좌로 몰린 요청이 행 락 대기열에서 순서대로 처리되고 버전 충돌로 실패하지 않는지 확인
+// 각 스레드가 직접 커밋해야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pessimistic;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE;LOCK_TIMEOUT=10000",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AccountService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PessimisticTransferConcurrencyTest {
+
+    private static final String EMAIL = "hot@test.com";
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 10;
+
+    @Autowired private AccountService accountService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+
+    @MockitoBean private AccountController accountController;
+    @MockitoBean private RequestIdBloomFilter requestIdBloomFilter;
+    @MockitoBean private NotificationService notificationService;
+    @MockitoBean private AccountStripeService accountStripeService;
+    @MockitoBean private TransferAuthService transferAuthService; // authorize = false -> 계좌 비밀번호 확인
+    @MockitoBean private PasswordEncoder passwordEncoder;
+
+    private Bank bank;
+    private Account hot;
+    private final List<Account> others = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        bankRepository.deleteAll();
+        userRepository.deleteAll();
+        others.clear();
+
+        User user = userRepository.save(User.builder().name("hot").email(EMAIL).password("x").phone("010-0000-0000").role(Role.USER).build());
+        bank = bankRepository.save(Bank.builder().code("994").bankName("테스트은행").build());
+        hot = accountRepository.save(Account.builder().accountNumber("994-00000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(1_000_000L).user(user).bank(bank).build());
+        for (int i = 1; i <= THREADS; i++) {
+            others.add(accountRepository.save(Account.builder().accountNumber("994-0000000" + i).accountPassword("x")
+                .accountType(AccountType.CHECKING).balance(100_000L).user(user).bank(bank).build()));
+        }
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    // 스레드마다 서로 다른 계좌 <-> 같은 핫 계좌, 출금/입금 방향을 섞어서 동시에 이체
+    @Test
+    void 핫계좌_동시이체_충돌없음() throws Exception {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            Account other = others.get(t);
+            boolean toHot = t % 2 == 0;
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = 0; n < TRANSFERS_PER_THREAD; n++) {
+                        String requestId = other.getAccountNumber() + "-" + n;
+                        if (toHot) {
+                            accountService.transferWithPessimisticlock(EMAIL, bank.getId(), bank.getId(), other.getAccountNumber(), hot.getAccountNumber(), 1_000L, "pw", null, requestId);
+                        } else {
+                            accountService.transferWithPessimisticlock(EMAIL, bank.getId(), bank.getId(), hot.getAccountNumber(), other.getAccountNumber(), 1_000L, "pw", null, requestId);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        assertTrue(failures.isEmpty(), () -> "이체 실패: " + failures);
+        // 입금 4스레드, 출금 4스레드가 같은 건수/금액 -> 핫 계좌 잔액은 그대로
+        assertEquals(1_000_000L, accountRepository.findBalanceById(hot.getId()));
+        assertEquals(110_000L, accountRepository.findBalanceById(others.get(1).getId()));
+        assertEquals(90_000L, accountRepository.findBalanceById(others.get(0).getId()));
+        assertEquals(2L * THREADS * TRANSFERS_PER_THREAD, transactionRepository.count());
+    }
+}
@@ -0,0 +1,128 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fintech.api.controller.AccountController;
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.NotificationType;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.User;
+import com.fintech.api.dto.CreateNotificationRequestDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.NotificationOutboxRepository;
+import com.fintech.api.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 쓰기 경로가 연관관계 연결만을 위해 엔티티를 조회하지 않는지 실행된 SQL 수로 확인 (H2, 엔티티 기준 스키마)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionService.class, NotificationService.class, AccountService.class})
+public class ReferenceWriteQueryCountTest {
+
+    private static final String EMAIL = "count@test.com";
+
+    @Autowired private TransactionService transactionService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private AccountService accountService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private EntityManager em;
+    @Autowired private EntityManagerFactory emf;
+
+    @MockitoBean private AccountController accountController;
+    @MockitoBean private RequestIdBloomFilter requestIdBloomFilter; // mightContain = false -> 멱등키 조회 생략
+    @MockitoBean private NotificationOutboxRepository notificationOutboxRepository;
+    @MockitoBean private NotificationUnreadCounter notificationUnreadCounter;
+    @MockitoBean private NotificationStreamHub notificationStreamHub;
+    @MockitoBean private AccountStripeService accountStripeService;
+    @MockitoBean private TransferAuthService transferAuthService; // authorize = false -> 계좌 비밀번호 확인
+    @MockitoBean private PasswordEncoder passwordEncoder;
+
+    private User user;
+    private Account account;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().name("count").email(EMAIL).password("x").phone("010-0000-0000").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("998").bankName("테스트은행").build());
+        account = accountRepository.save(Account.builder().accountNumber("998-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(10_000L).user(user).bank(bank).build());
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // 입출금 경로는 계좌(+소유자, 은행) 한 번만 조회 (이메일로 사용자를 따로 조회하지 않음)
+    @Test
+    void 입출금_계좌조회_한번() {
+        transactionService.createTransaction(EMAIL, account.getId(), 1_000L, "입금", "req-count-1");
+        em.flush();
+
+        // select 계좌 1 + insert 거래내역 1 + update 잔액 1
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    // 이체는 출금/입금 계좌를 소유자와 함께 조회 -> 소유자 확인/알림에서 사용자를 따로 조회하지 않음
+    @Test
+    void 이체_계좌조회_두번() {
+        User other = userRepository.save(User.builder().name("other").email("other@test.com").password("x").phone("010-0000-0001").role(Role.USER).build());
+        Bank otherBank = bankRepository.save(Bank.builder().code("997").bankName("다른은행").build());
+        accountRepository.save(Account.builder().accountNumber("997-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(0L).user(other).bank(otherBank).build());
+        em.flush();
+        em.clear();
+        statistics.clear();
+        when(passwordEncoder.matches("pw", "x")).thenReturn(true);
+
+        accountService.transfer(EMAIL, account.getBank().getId(), otherBank.getId(), "998-10000000", "997-10000000", 1_000L, "pw", null, "req-count-3");
+        em.flush();
+
+        // select 출금계좌 1 + select 입금계좌 1 + insert 거래내역 2 + update 잔액 2
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+        assertEquals(9_000L, accountRepository.findBalanceById(account.getId()));
+    }
+
+    // 알림 생성은 사용자 조회 없이 insert 1번
+    @Test
+    void 알림생성_insert_한번() {
+        notificationService.createNotification(CreateNotificationRequestDto.builder()
+            .userId(user.getId()).message("테스트").type(NotificationType.SYSTEM_NOTICE).build());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 다른사람_계좌_입출금_거절() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.createTransaction("other@test.com", account.getId(), 1_000L, "입금", "req-count-2"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionRequestArchiveRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestIdBloomFilterTest {
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private TransactionRequestArchiveRepository archiveRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestIdBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestIdBloomFilter(transactionJdbcRepository, archiveRepository, meterRegistry, true, 1000, 0.01);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWith(String... keys) {
+        when(archiveRepository.findLastArchivedTransactionId()).thenReturn(0L);
+        doAnswer(inv -> {
+            Consumer<String> consumer = inv.getArgument(1);
+            for (String key : keys) {
+                consumer.accept(key);
+            }
+            return null;
+        }).when(transactionJdbcRepository).forEachActiveRequestKey(eq(0L), any(Consumer.class));
+        filter.rebuild();
+    }
+
+    // 첫 재생성 전에는 항상 조회하도록
+    @Test
+    void 재생성전_항상_조회() {
+        assertTrue(filter.mightContain("req-1", TransactionType.WITHDRAW));
+    }
+
+    // db 에 있던 키와 이후 put 한 키는 양성, 처음 보는 키는 음성
+    @Test
+    void 재생성후_없는키_조회생략() {
+        rebuildWith(TransactionJdbcRepository.requestKey("req-1", TransactionType.WITHDRAW));
+        filter.put("req-2", TransactionType.DEPOSIT);
+
+        assertTrue(filter.mightContain("req-1", TransactionType.WITHDRAW));
+        assertTrue(filter.mightContain("req-2", TransactionType.DEPOSIT));
+        assertFalse(filter.mightContain("req-3", TransactionType.WITHDRAW));
+        assertEquals(1.0, meterRegistry.get("transaction.idempotency.bloom.checks").tag("result", "negative").counter().count());
+    }
+
+    // 같은 멱등키라도 거래 종류가 다르면 다른 키
+    @Test
+    void 거래종류별_구분() {
+        rebuildWith(TransactionJdbcRepository.requestKey("req-1", TransactionType.WITHDRAW));
+
+        assertFalse(filter.mightContain("req-1", TransactionType.DEPOSIT));
+    }
+}
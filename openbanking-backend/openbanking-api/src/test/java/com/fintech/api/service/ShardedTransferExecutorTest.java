@@ -0,0 +1,159 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ShardedTransferExecutorTest {
+
+    private ShardedTransferExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    // 샤드 수 0 (기본값) 이면 호출 스레드에서 그대로 실행
+    @Test
+    void 비활성화시_호출스레드_실행() {
+        executor = new ShardedTransferExecutor(0, 1000, 10_000);
+
+        String thread = executor.execute(1L, "001-1", () -> Thread.currentThread().getName());
+
+        assertFalse(executor.isEnabled());
+        assertEquals(Thread.currentThread().getName(), thread);
+    }
+
+    // 같은 출금 계좌의 이체는 항상 같은 샤드 스레드에서 하나씩 실행 (동시에 2개 이상 실행되지 않음)
+    @Test
+    void 같은계좌_같은샤드_순차실행() throws Exception {
+        executor = new ShardedTransferExecutor(4, 1000, 10_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(callers.submit(() -> {
+                start.await();
+                executor.execute(1L, "001-1", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    threads.add(Thread.currentThread().getName());
+                    running.decrementAndGet();
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(10, TimeUnit.SECONDS);
+        }
+        callers.shutdown();
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(1, threads.stream().distinct().count());
+        assertTrue(threads.get(0).startsWith("transfer-shard-"));
+    }
+
+    // 서비스에서 던진 업무 예외는 그대로 호출자에게
+    @Test
+    void 업무예외_그대로_전달() {
+        executor = new ShardedTransferExecutor(2, 1000, 10_000);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> executor.execute(1L, "001-1", () -> { throw new IllegalArgumentException("잔액 부족"); }));
+        assertEquals("잔액 부족", e.getMessage());
+    }
+
+    // 샤드 대기열이 가득 차면 바로 거절 (503)
+    @Test
+    void 대기열_가득차면_거절() throws Exception {
+        executor = new ShardedTransferExecutor(1, 1, 10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> running = callers.submit(() -> executor.execute(1L, "001-1", () -> {
+                started.countDown();
+                await(release);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<?> queued = callers.submit(() -> executor.execute(1L, "001-1", () -> {}));
+            waitUntil(() -> executor.queued(1L, "001-1") == 1);
+
+            assertThrows(TransferShardBusyException.class, () -> executor.execute(1L, "001-1", () -> {}));
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    // 정해진 시간 안에 결과가 없으면 503, 아직 시작하지 않은 이체는 취소
+    @Test
+    void 응답대기_시간초과() throws Exception {
+        executor = new ShardedTransferExecutor(1, 10, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> running = callers.submit(() -> executor.execute(1L, "001-1", () -> {
+                started.countDown();
+                await(release);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TransferShardBusyException.class, () -> executor.execute(1L, "001-1", executed::incrementAndGet));
+
+            release.countDown();
+            // 먼저 들어간 이체도 시간 초과로 응답, 실행은 끝까지
+            ExecutionException e = assertThrows(ExecutionException.class, () -> running.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TransferShardBusyException.class, e.getCause());
+            executor.execute(1L, "001-1", () -> {});
+            assertEquals(0, executed.get());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
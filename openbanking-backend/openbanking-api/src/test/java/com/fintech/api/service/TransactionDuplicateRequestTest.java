@@ -0,0 +1,88 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.api.controller.AccountController;
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.domain.User;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.TransactionRepository;
+import com.fintech.api.repository.UserRepository;
+
+// 다른 노드가 먼저 처리한 멱등키 (H2, 엔티티 기준 스키마)
+// 서비스가 직접 트랜잭션을 커밋/롤백해야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:txduplicate;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TransactionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransactionDuplicateRequestTest {
+
+    private static final String EMAIL = "duplicate@test.com";
+
+    @Autowired private TransactionService transactionService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+
+    @MockitoBean private AccountController accountController;
+    @MockitoBean private RequestIdBloomFilter requestIdBloomFilter; // mightContain = false -> 이 노드는 처음 보는 키로 판단
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+    }
+
+    // Bloom filter 가 조회를 생략해도 유니크 충돌 후 잔액 변경은 롤백되고 기존 거래를 반환 (500 X)
+    @Test
+    void 다른노드가_먼저_처리한_멱등키_기존거래반환() {
+        User user = userRepository.save(User.builder().name("duplicate").email(EMAIL).password("x").phone("010-0000-0000").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("996").bankName("테스트은행").build());
+        Account account = accountRepository.save(Account.builder().accountNumber("996-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(1_000L).user(user).bank(bank).build());
+        Transaction existing = transactionRepository.save(Transaction.builder().account(account).amount(500L)
+            .type(TransactionType.DEPOSIT).requestId("dup-1").balanceAfter(1_500L).build());
+
+        Transaction result = transactionService.createTransaction(EMAIL, account.getId(), 500L, "입금", "dup-1");
+
+        assertEquals(existing.getId(), result.getId());
+        assertEquals(1_000L, accountRepository.findBalanceById(account.getId()));
+        assertEquals(1L, transactionRepository.count());
+    }
+
+    // 입출금 거래내역에도 거래 후 잔액 저장 (월간 집계의 기초/기말 잔액에 사용)
+    @Test
+    void 입출금_거래후잔액_저장() {
+        String email = "balance-after@test.com";
+        User user = userRepository.save(User.builder().name("balance").email(email).password("x").phone("010-0000-0001").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("993").bankName("테스트은행").build());
+        Account account = accountRepository.save(Account.builder().accountNumber("993-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(1_000L).user(user).bank(bank).build());
+
+        Transaction deposit = transactionService.createTransaction(email, account.getId(), 500L, "입금", "after-1");
+        Transaction withdraw = transactionService.createTransaction(email, account.getId(), 300L, "출금", "after-2");
+
+        assertEquals(1_500L, transactionRepository.findById(deposit.getId()).orElseThrow().getBalanceAfter());
+        assertEquals(1_200L, transactionRepository.findById(withdraw.getId()).orElseThrow().getBalanceAfter());
+    }
+}
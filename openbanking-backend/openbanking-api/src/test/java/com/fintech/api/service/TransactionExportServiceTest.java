@@ -0,0 +1,130 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.dto.TransactionWithAccountDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransactionJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionExportServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    private TransactionExportService service;
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 1, 9, 30, 15);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new TransactionExportService(accountRepository, transactionJdbcRepository, objectMapper, 500, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(TransactionWithAccountDto... rows) {
+        doAnswer(inv -> {
+            Consumer<TransactionWithAccountDto> consumer = inv.getArgument(4);
+            for (TransactionWithAccountDto row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(transactionJdbcRepository).forEachHistoryRow(eq(1L), any(), any(), anyInt(), any(Consumer.class));
+    }
+
+    // 헤더 + 행, 쉼표 / 따옴표가 들어간 설명은 따옴표로 감쌈
+    @Test
+    void CSV_내보내기() throws Exception {
+        givenRows(
+            new TransactionWithAccountDto(10L, 5_000L, TransactionType.DEPOSIT, "월급, 3월", AT, 15_000L, "001-1"),
+            new TransactionWithAccountDto(11L, -2_000L, TransactionType.WITHDRAW, "=SUM(A1)", AT, 13_000L, "001-1"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = service.export(1L, null, null, TransactionExportService.Format.CSV, false, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, count);
+        assertEquals("﻿id,transaction_date,type,amount,balance_after,description,account_number", lines.get(0));
+        assertEquals("10,2025-03-01 09:30:15,입금,5000,15000,\"월급, 3월\",001-1", lines.get(1));
+        assertEquals("11,2025-03-01 09:30:15,출금,-2000,13000,'=SUM(A1),001-1", lines.get(2));
+    }
+
+    // NDJSON + gzip -> 풀었을 때 한 줄에 JSON 하나
+    @Test
+    void NDJSON_gzip_내보내기() throws Exception {
+        givenRows(new TransactionWithAccountDto(10L, 5_000L, TransactionType.DEPOSIT, "입금", AT, 15_000L, "001-1"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(1L, null, null, TransactionExportService.Format.NDJSON, true, out);
+
+        String text;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = text.lines().toList();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":10,"));
+        assertTrue(lines.get(0).contains("\"transactionDate\":\"2025-03-01T09:30:15\""));
+    }
+
+    @Test
+    void 지원하지_않는_형식() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionExportService.Format.from("xml"));
+        assertEquals(TransactionExportService.Format.NDJSON, TransactionExportService.Format.from("ndjson"));
+    }
+
+    @Test
+    void 다른사람_계좌_거절() {
+        when(accountRepository.existsByIdAndUserEmail(1L, "other@test.com")).thenReturn(false);
+        assertThrows(IllegalArgumentException.class, () -> service.checkOwner("other@test.com", 1L));
+    }
+
+    // 동시 내보내기는 max-concurrent 까지만, 끝난 자리는 다시 사용
+    @Test
+    void 동시_내보내기_제한() {
+        service.acquireSlot();
+        service.acquireSlot();
+        assertThrows(ExportLimitExceededException.class, () -> service.acquireSlot());
+
+        service.releaseSlot();
+        service.acquireSlot();
+    }
+
+    // MySQL 은 useCursorFetch 가 없으면 행 단위 스트리밍, 있으면 서버 커서로 fetchSize 씩
+    @Test
+    void MySQL_스트리밍_fetchSize() {
+        assertEquals(Integer.MIN_VALUE, TransactionJdbcRepository.streamingFetchSize("MySQL", "jdbc:mysql://db:3306/openbanking", 500));
+        assertEquals(500, TransactionJdbcRepository.streamingFetchSize("MySQL", "jdbc:mysql://db:3306/openbanking?useCursorFetch=true", 500));
+        assertEquals(500, TransactionJdbcRepository.streamingFetchSize("H2", "jdbc:h2:mem:test", 500));
+    }
+}
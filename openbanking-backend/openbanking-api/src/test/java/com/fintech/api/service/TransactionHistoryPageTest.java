@@ -0,0 +1,153 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fintech.api.controller.AccountController;
+import com.fintech.api.domain.Account;
+import com.fintech.api.domain.AccountType;
+import com.fintech.api.domain.Bank;
+import com.fintech.api.domain.Role;
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.domain.User;
+import com.fintech.api.dto.TransactionPageResponseDto;
+import com.fintech.api.dto.TransactionWithAccountDto;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.BankRepository;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionJdbcRepository.AccountRef;
+import com.fintech.api.repository.TransactionRepository;
+import com.fintech.api.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 계좌 거래내역 keyset 페이지 (H2, 엔티티 기준 스키마)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:txhistory;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TransactionService.class, TransactionJdbcRepository.class})
+public class TransactionHistoryPageTest {
+
+    private static final String EMAIL = "history@test.com";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired private TransactionService transactionService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private TransactionJdbcRepository transactionJdbcRepository;
+    @Autowired private EntityManager em;
+
+    @MockitoBean private AccountController accountController;
+    @MockitoBean private RequestIdBloomFilter requestIdBloomFilter;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().name("history").email(EMAIL).password("x").phone("010-0000-0000").role(Role.USER).build());
+        Bank bank = bankRepository.save(Bank.builder().code("997").bankName("테스트은행").build());
+        account = accountRepository.save(Account.builder().accountNumber("997-10000000").accountPassword("x")
+            .accountType(AccountType.CHECKING).balance(0L).user(user).bank(bank).build());
+
+        // 하루에 1건씩 5건 + 마지막 날 같은 시각 1건 더 (정렬 키 동률 확인용)
+        for (int day = 0; day < 5; day++) {
+            save(BASE.plusDays(day), "req-" + day);
+        }
+        save(BASE.plusDays(4), "req-tie");
+        em.flush();
+        em.clear();
+    }
+
+    // transaction_date 는 @PrePersist 에서 현재 시각으로 채워지므로 저장 후 원하는 시각으로 변경
+    private void save(LocalDateTime at, String requestId) {
+        Transaction saved = transactionRepository.save(Transaction.builder().account(account).amount(1_000L).type(TransactionType.DEPOSIT)
+            .requestId(requestId).balanceAfter(0L).build());
+        em.createQuery("update Transaction t set t.transactionDate = :at where t.id = :id")
+            .setParameter("at", at).setParameter("id", saved.getId()).executeUpdate();
+    }
+
+    // cursor 로 이어서 읽으면 중복 / 누락 없이 최신순으로 전부 조회
+    @Test
+    void 커서로_전체_순회() {
+        TransactionPageResponseDto first = transactionService.getTransactionsByAccountId(EMAIL, account.getId(), null, null, null, 4);
+        assertEquals(4, first.getItems().size());
+        assertTrue(first.isHasNext());
+        assertEquals("입금", first.getItems().get(0).getType());
+        assertEquals("997-10000000", first.getItems().get(0).getAccountNumber());
+
+        TransactionPageResponseDto second = transactionService.getTransactionsByAccountId(EMAIL, account.getId(), null, null, first.getNextCursor(), 4);
+        assertEquals(2, second.getItems().size());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+
+        List<TransactionWithAccountDto> all = new ArrayList<>(first.getItems());
+        all.addAll(second.getItems());
+        assertEquals(6, all.stream().map(TransactionWithAccountDto::getId).distinct().count());
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).getTransactionDate().isAfter(all.get(i - 1).getTransactionDate()));
+        }
+    }
+
+    // 기간 필터 [from, to)
+    @Test
+    void 기간_필터() {
+        TransactionPageResponseDto page = transactionService.getTransactionsByAccountId(EMAIL, account.getId(),
+            BASE.plusDays(1), BASE.plusDays(3), null, 20);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(BASE.plusDays(2), page.getItems().get(0).getTransactionDate());
+    }
+
+    // 내보내기용 커서 조회는 오래된 순서로 기간 안의 행만
+    @Test
+    void 내보내기_행_순회() {
+        List<TransactionWithAccountDto> rows = new ArrayList<>();
+        transactionJdbcRepository.forEachHistoryRow(account.getId(), BASE.plusDays(3), BASE.plusDays(10), 2, rows::add);
+
+        assertEquals(3, rows.size());
+        assertEquals(BASE.plusDays(3), rows.get(0).getTransactionDate());
+        assertTrue(rows.get(1).getId() < rows.get(2).getId());
+        assertEquals("입금", rows.get(0).getType());
+    }
+
+    // 대량 이체 입금 계좌 식별은 (은행 id, 계좌번호) 쌍이 모두 맞는 계좌만
+    @Test
+    void 입금계좌_은행과_계좌번호_쌍으로_식별() {
+        Long bankId = account.getBank().getId();
+
+        List<AccountRef> refs = transactionJdbcRepository.findAccountRefs(Map.of(bankId, Set.of("997-10000000", "997-99999999")));
+        assertEquals(1, refs.size());
+        assertEquals(account.getId(), refs.get(0).getId());
+
+        assertTrue(transactionJdbcRepository.findAccountRefs(Map.of(bankId + 1, Set.of("997-10000000"))).isEmpty());
+    }
+
+    @Test
+    void 다른사람_계좌_거절() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.getTransactionsByAccountId("other@test.com", account.getId(), null, null, null, 20));
+    }
+}
@@ -0,0 +1,62 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.domain.TransactionTypeConverter;
+
+public class TransactionTypeConverterTest {
+
+    private final TransactionTypeConverter converter = new TransactionTypeConverter();
+
+    // 모든 거래 종류가 code 로 저장됐다가 같은 값으로 읽힘
+    @Test
+    void 모든_거래종류_왕복변환() {
+        for (TransactionType type : TransactionType.values()) {
+            Byte code = converter.convertToDatabaseColumn(type);
+            assertEquals(type.getCode(), code);
+            assertEquals(type, converter.convertToEntityAttribute(code));
+        }
+    }
+
+    @Test
+    void null_그대로() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    // 정의되지 않은 code 가 db 에 있으면 조용히 다른 값으로 읽지 않고 실패
+    @Test
+    void 알수없는_code_실패() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> converter.convertToEntityAttribute((byte) 99));
+        assertEquals("알 수 없는 거래 종류 코드: 99", e.getMessage());
+    }
+
+    // V9 마이그레이션이 기존 한글 값을 옮긴 번호와 enum 의 code 가 일치하고, 빠진 종류가 없음
+    @Test
+    void V9_마이그레이션_번호와_일치() throws IOException {
+        String sql = new ClassPathResource("db/migration/V9__compact_transaction_type.sql").getContentAsString(StandardCharsets.UTF_8);
+        Matcher when = Pattern.compile("WHEN '([^']+)' THEN (\\d+)").matcher(sql);
+
+        Set<TransactionType> mapped = EnumSet.noneOf(TransactionType.class);
+        while (when.find()) {
+            TransactionType type = TransactionType.fromLabel(when.group(1));
+            assertEquals(Byte.parseByte(when.group(2)), type.getCode(), when.group(1));
+            mapped.add(type);
+        }
+        assertEquals(EnumSet.allOf(TransactionType.class), mapped);
+    }
+}
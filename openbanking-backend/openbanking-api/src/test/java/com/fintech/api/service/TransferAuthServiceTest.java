@@ -0,0 +1,144 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fintech.api.config.JwtTokenProvider;
+import com.fintech.api.repository.AccountRepository;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferAuthServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private TransferAuthService transferAuthService;
+
+    @BeforeEach
+    void setUp() {
+        transferAuthService = new TransferAuthService(jwtTokenProvider, redisTemplate, accountRepository, passwordEncoder, 300, 2);
+    }
+
+    // 토큰 형태가 아니면 (계좌 비밀번호) 서명 검증 없이 false -> 기존 비밀번호 검증으로
+    @Test
+    void 비밀번호는_토큰검증X() {
+        assertFalse(transferAuthService.authorize("1234", "a@test.com", 1L));
+        verify(jwtTokenProvider, never()).parseTransferToken(anyString());
+    }
+
+    // 첫 사용이면 토큰 만료 시각에 맞춰 카운터 만료 설정
+    @Test
+    void 토큰_사용횟수_이내면_통과() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("transfer-auth:jti-1", 1L)).thenReturn(1L);
+
+        assertTrue(transferAuthService.authorize(TOKEN, "a@test.com", 1L));
+        verify(redisTemplate).expire(anyString(), anyLong(), any());
+    }
+
+    // 사용 횟수 초과 -> 이번 차감은 되돌리고 거절
+    @Test
+    void 토큰_사용횟수_초과시_거절() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("transfer-auth:jti-1", 1L)).thenReturn(3L);
+
+        assertFalse(transferAuthService.authorize(TOKEN, "a@test.com", 1L));
+        verify(valueOperations).decrement("transfer-auth:jti-1", 1L);
+        verify(redisTemplate, never()).expire(anyString(), anyLong(), any());
+    }
+
+    // 대량 이체는 건수만큼 한 번에 차감 -> 남은 횟수가 모자라면 묶음 전체 거절
+    @Test
+    void 여러건_한번에_차감() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("transfer-auth:jti-1", 3L)).thenReturn(3L);
+
+        assertFalse(transferAuthService.authorize(TOKEN, "a@test.com", 1L, 3));
+        verify(valueOperations).decrement("transfer-auth:jti-1", 3L);
+    }
+
+    // 같은 멱등키로 다시 인증 (낙관락 재시도 등) -> 처음 한 번만 차감
+    @Test
+    void 같은_멱등키_재인증은_차감X() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("transfer-auth:jti-1:req-1"), eq("1"), anyLong(), any()))
+            .thenReturn(true, false);
+        when(valueOperations.increment("transfer-auth:jti-1", 1L)).thenReturn(1L);
+
+        assertTrue(transferAuthService.authorize(TOKEN, "a@test.com", 1L, "req-1"));
+        assertTrue(transferAuthService.authorize(TOKEN, "a@test.com", 1L, "req-1"));
+        verify(valueOperations, times(1)).increment("transfer-auth:jti-1", 1L);
+    }
+
+    // 횟수 초과로 거절되면 멱등키 표시를 지움 -> 같은 멱등키로 다시 와도 무료 통과 X
+    @Test
+    void 멱등키_인증_거절시_표시삭제() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("transfer-auth:jti-1:req-2"), eq("1"), anyLong(), any())).thenReturn(true);
+        when(valueOperations.increment("transfer-auth:jti-1", 1L)).thenReturn(3L);
+
+        assertFalse(transferAuthService.authorize(TOKEN, "a@test.com", 1L, "req-2"));
+        verify(redisTemplate).delete("transfer-auth:jti-1:req-2");
+    }
+
+    // 다른 계좌 / 다른 사용자의 토큰은 거절
+    @Test
+    void 다른계좌_토큰_거절() {
+        when(jwtTokenProvider.parseTransferToken(TOKEN)).thenReturn(claims("a@test.com", 1L, 2));
+
+        assertFalse(transferAuthService.authorize(TOKEN, "a@test.com", 2L));
+        assertFalse(transferAuthService.authorize(TOKEN, "b@test.com", 1L));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    private static Claims claims(String email, Long accountId, int uses) {
+        Claims claims = Jwts.claims();
+        claims.setSubject(email);
+        claims.setId("jti-1");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60000));
+        claims.put("acc", accountId);
+        claims.put("uses", uses);
+        return claims;
+    }
+}
@@ -0,0 +1,203 @@
+package com.fintech.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.Transaction;
+import com.fintech.api.domain.TransactionType;
+import com.fintech.api.repository.TransactionJdbcRepository;
+import com.fintech.api.repository.TransactionJdbcRepository.LockedAccount;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferGroupCommitterTest {
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private AccountStripeService accountStripeService;
+
+    private TransferGroupCommitter committer;
+    private final Map<Long, LockedAccount> accounts = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        accounts.put(1L, new LockedAccount(1L, "001", 100L, 0));
+        accounts.put(2L, new LockedAccount(2L, "002", 0L, 0));
+        accounts.put(3L, new LockedAccount(3L, "003", 0L, 0));
+
+        // 잠그는 계좌 id 구간만 돌려줌
+        lenient().when(transactionJdbcRepository.lockAccounts(anyCollection())).thenAnswer(inv -> {
+            Map<Long, LockedAccount> locked = new HashMap<>();
+            for (Object id : inv.getArgument(0, Collection.class)) {
+                if (accounts.containsKey(id)) {
+                    locked.put((Long) id, accounts.get(id));
+                }
+            }
+            return locked;
+        });
+        lenient().when(transactionJdbcRepository.findStripedAccountIds(anyCollection())).thenReturn(Set.of());
+        lenient().when(transactionJdbcRepository.findExistingRequestKeys(anyCollection())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    // 묶음 크기만큼 모일 때까지 기다렸다가 한 트랜잭션으로 커밋
+    private List<CompletableFuture<Void>> submitBatch(TransferCommand... commands) {
+        committer = new TransferGroupCommitter(transactionJdbcRepository, accountStripeService,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), true, commands.length, 5_000);
+        committer.start();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (TransferCommand command : commands) {
+            results.add(committer.submit(command));
+        }
+        results.forEach(f -> f.exceptionally(e -> null).join());
+        return results;
+    }
+
+    private static TransferCommand transfer(long from, long to, long amount, String requestId) {
+        return TransferCommand.builder().fromAccountId(from).toAccountId(to).amount(amount).requestId(requestId).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> savedBalances() {
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(transactionJdbcRepository).batchUpdateBalances(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Transaction> savedLedger() {
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchInsert(captor.capture());
+        return captor.getValue();
+    }
+
+    // 묶음 안에서는 제출 순서대로 잔액 반영 -> 앞 건이 쓴 잔액 때문에 뒤 건만 잔액 부족, 나머지는 커밋
+    @Test
+    void 제출순서대로_반영_건별_거절() {
+        List<CompletableFuture<Void>> results = submitBatch(
+            transfer(1L, 2L, 80L, "r1"),
+            transfer(1L, 3L, 50L, "r2"),   // 남은 20 < 50 -> 잔액 부족
+            transfer(2L, 3L, 30L, "r3"));  // r1 입금분으로 출금 가능
+
+        assertEquals(null, results.get(0).join());
+        CompletionException rejected = assertThrows(CompletionException.class, () -> results.get(1).join());
+        assertInstanceOf(InsufficientBalanceException.class, rejected.getCause());
+        assertEquals(null, results.get(2).join());
+
+        assertEquals(Map.of(1L, 20L, 2L, 50L, 3L, 30L), savedBalances());
+        List<Transaction> ledger = savedLedger();
+        assertEquals(List.of("r1", "r1", "r3", "r3"), ledger.stream().map(Transaction::getRequestId).toList());
+        assertEquals(20L, ledger.get(0).getBalanceAfter());
+        assertEquals(50L, ledger.get(2).getBalanceAfter());
+    }
+
+    // 업무 오류(같은 계좌, 없는 계좌, 잘못된 금액)는 해당 건만 실패
+    @Test
+    void 업무오류_해당건만_실패() {
+        List<CompletableFuture<Void>> results = submitBatch(
+            transfer(1L, 1L, 10L, "same"),
+            transfer(1L, 9L, 10L, "missing"),
+            transfer(1L, 2L, 0L, "zero"),
+            transfer(1L, 2L, 10L, "ok"));
+
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            CompletionException e = assertThrows(CompletionException.class, () -> results.get(index).join());
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+        assertEquals(null, results.get(3).join());
+        assertEquals(Map.of(1L, 90L, 2L, 10L), savedBalances());
+    }
+
+    // 같은 묶음 안의 중복 멱등키 -> 처음 한 건만 반영, 나머지는 조용히 성공 (이미 처리된 요청과 같은 규칙)
+    @Test
+    void 묶음안_중복멱등키_한번만_반영() {
+        List<CompletableFuture<Void>> results = submitBatch(
+            transfer(1L, 2L, 10L, "dup"),
+            transfer(1L, 2L, 10L, "dup"));
+
+        results.forEach(f -> assertEquals(null, f.join()));
+        assertEquals(Map.of(1L, 90L, 2L, 10L), savedBalances());
+        assertEquals(2, savedLedger().size());
+    }
+
+    // 이전에 커밋된 멱등키는 반영하지 않음
+    @Test
+    void 이미_처리된_요청_반영X() {
+        when(transactionJdbcRepository.findExistingRequestKeys(anyCollection()))
+            .thenReturn(Set.of(TransactionJdbcRepository.requestKey("done", TransactionType.WITHDRAW)));
+
+        List<CompletableFuture<Void>> results = submitBatch(transfer(1L, 2L, 10L, "done"));
+
+        assertEquals(null, results.get(0).join());
+        verify(transactionJdbcRepository, never()).batchUpdateBalances(any());
+    }
+
+    // stripe 출금 계좌는 자기 id 자리에서 잠근 직후 stripe 를 비워 본 잔액에 합친 뒤 잔액 검사
+    @Test
+    void stripe출금계좌_합친뒤_잔액검사() {
+        accounts.put(2L, new LockedAccount(2L, "002", 10L, 4));
+        when(transactionJdbcRepository.findStripedAccountIds(anyCollection())).thenReturn(Set.of(2L));
+        when(accountStripeService.drainStripes(2L)).thenReturn(90L);
+
+        List<CompletableFuture<Void>> results = submitBatch(transfer(2L, 3L, 70L, "s1"), transfer(1L, 3L, 10L, "s2"));
+
+        results.forEach(f -> assertEquals(null, f.join()));
+        assertEquals(Map.of(1L, 90L, 2L, 30L, 3L, 80L), savedBalances());
+
+        // 1, 2 잠금 -> 2 의 stripe 비움 -> 3 잠금 (id 오름차순 락 순서)
+        InOrder order = inOrder(transactionJdbcRepository, accountStripeService);
+        order.verify(transactionJdbcRepository).lockAccounts(Set.of(1L, 2L));
+        order.verify(accountStripeService).drainStripes(2L);
+        order.verify(transactionJdbcRepository).lockAccounts(Set.of(3L));
+    }
+
+    // 이체가 모두 거절되어도 비운 stripe 금액은 본 잔액에 반영
+    @Test
+    void stripe_비운금액_거절되어도_반영() {
+        accounts.put(2L, new LockedAccount(2L, "002", 10L, 4));
+        when(transactionJdbcRepository.findStripedAccountIds(anyCollection())).thenReturn(Set.of(2L));
+        when(accountStripeService.drainStripes(2L)).thenReturn(5L);
+
+        List<CompletableFuture<Void>> results = submitBatch(transfer(2L, 3L, 100L, "s3"));
+
+        assertThrows(CompletionException.class, () -> results.get(0).join());
+        assertEquals(Map.of(2L, 15L), savedBalances());
+    }
+}
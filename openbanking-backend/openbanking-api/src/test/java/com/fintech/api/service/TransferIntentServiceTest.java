@@ -0,0 +1,160 @@
+package com.fintech.api.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.api.domain.TransferIntent;
+import com.fintech.api.domain.TransferIntentStatus;
+import com.fintech.api.repository.AccountRepository;
+import com.fintech.api.repository.TransferIntentRepository;
+import com.fintech.api.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferIntentServiceTest {
+
+    @Mock
+    private TransferIntentRepository transferIntentRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransferGroupCommitter transferGroupCommitter;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TransferAuthService transferAuthService;
+
+    private TransferIntentService transferIntentService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        transferIntentService = new TransferIntentService(transferIntentRepository, accountRepository, userRepository,
+            transferGroupCommitter, accountService, passwordEncoder, transferAuthService, transactionTemplate, 1, 2, 30000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        transferIntentService.shutdown();
+    }
+
+    @Test
+    void 워커_이체완료() {
+        TransferIntent intent = intent(1);
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(1);
+        when(transferIntentRepository.findById(1L)).thenReturn(Optional.of(intent));
+        when(transferGroupCommitter.submit(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        transferIntentService.process(1L);
+
+        verify(transferIntentRepository).finish(eq(1L), eq(TransferIntentStatus.COMPLETED), isNull(), any());
+        verify(accountService).notifyTransferCompleted(10L, 20L, "111", "222", 500L);
+    }
+
+    // 잔액 부족은 재시도 없이 FAILED
+    @Test
+    void 워커_잔액부족_실패() {
+        TransferIntent intent = intent(1);
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(1);
+        when(transferIntentRepository.findById(1L)).thenReturn(Optional.of(intent));
+        when(transferGroupCommitter.submit(any())).thenReturn(CompletableFuture.failedFuture(new InsufficientBalanceException("잔액 부족")));
+
+        transferIntentService.process(1L);
+
+        verify(transferIntentRepository).finish(eq(1L), eq(TransferIntentStatus.FAILED), eq("잔액 부족"), any());
+        verify(accountService).notifyInsufficientBalance(10L);
+    }
+
+    // 잔액 부족이 아닌 업무 오류는 FAILED 만, 잔액 부족 알림 X
+    @Test
+    void 워커_업무오류_잔액부족알림X() {
+        TransferIntent intent = intent(1);
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(1);
+        when(transferIntentRepository.findById(1L)).thenReturn(Optional.of(intent));
+        when(transferGroupCommitter.submit(any())).thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("계좌 오류")));
+
+        transferIntentService.process(1L);
+
+        verify(transferIntentRepository).finish(eq(1L), eq(TransferIntentStatus.FAILED), eq("계좌 오류"), any());
+        verify(accountService, never()).notifyInsufficientBalance(any());
+    }
+
+    // db 오류는 시도 한도 전까지 PENDING 으로 돌려 스위퍼가 재실행
+    @Test
+    void 워커_db오류_재시도대기() {
+        TransferIntent intent = intent(1);
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(1);
+        when(transferIntentRepository.findById(1L)).thenReturn(Optional.of(intent));
+        when(transferGroupCommitter.submit(any())).thenReturn(CompletableFuture.failedFuture(new CannotAcquireLockException("lock")));
+
+        transferIntentService.process(1L);
+
+        verify(transferIntentRepository).finish(eq(1L), eq(TransferIntentStatus.PENDING), isNull(), any());
+    }
+
+    @Test
+    void 워커_시도한도_초과시_실패() {
+        TransferIntent intent = intent(2);
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(1);
+        when(transferIntentRepository.findById(1L)).thenReturn(Optional.of(intent));
+        when(transferGroupCommitter.submit(any())).thenReturn(CompletableFuture.failedFuture(new CannotAcquireLockException("lock")));
+
+        transferIntentService.process(1L);
+
+        verify(transferIntentRepository).finish(eq(1L), eq(TransferIntentStatus.FAILED), any(), any());
+    }
+
+    // 다른 워커가 이미 선점한 요청은 실행하지 않음
+    @Test
+    void 워커_선점실패시_실행X() {
+        when(transferIntentRepository.claim(eq(1L), any())).thenReturn(0);
+
+        transferIntentService.process(1L);
+
+        verify(transferGroupCommitter, never()).submit(any());
+    }
+
+    private static TransferIntent intent(int attempts) {
+        return TransferIntent.builder()
+            .id(1L)
+            .requestId("req-1")
+            .userId(10L)
+            .fromAccountId(1L)
+            .fromAccountNumber("111")
+            .toAccountId(2L)
+            .toAccountNumber("222")
+            .toUserId(20L)
+            .amount(500L)
+            .status(TransferIntentStatus.PROCESSING)
+            .attempts(attempts)
+            .build();
+    }
+}
@@ -194,8 +194,10 @@ function Dashboard() {
   const fetchTransactions = async (ids) => {
     const jobs = ids.map(async (id) => {
       try {
-        const res = await axios.get(`/transactions/account/${id}`);
-        const recent = Array.isArray(res.data) ? res.data.slice(0, 20) : [];
+        const res = await axios.get(`/transactions/account/${id}`, {
+          params: { size: 20 },
+        });
+        const recent = Array.isArray(res.data?.items) ? res.data.items : [];
         return { id, list: recent };
       } catch (err) {
         console.warn(
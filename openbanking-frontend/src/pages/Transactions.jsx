@@ -1,10 +1,11 @@
 // src/pages/Transaction.jsx
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useState } from "react";
 import axios from "../api/axiosInstance";
-import { AiOutlineSearch } from "react-icons/ai";
 import { FaArrowDown, FaArrowUp } from "react-icons/fa6";
 import { useLocation } from "react-router-dom";
 
+const PAGE_SIZE = 50;
+
 export default function Transaction() {
   const location = useLocation();
 
@@ -12,15 +13,17 @@ export default function Transaction() {
   const [accounts, setAccounts] = useState([]);
   const [selectedAccountId, setSelectedAccountId] = useState(""); // ✅ 계좌 ID로 전환
   const [transactions, setTransactions] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null); // 다음 페이지 cursor (없으면 마지막 페이지)
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // UI/에러 상태
   const [loading, setLoading] = useState(true);
   const [errMsg, setErrMsg] = useState("");
 
-  // 필터/정렬
-  const [q, setQ] = useState("");
-  const [typeFilter, setTypeFilter] = useState("ALL"); // ALL | DEPOSIT | WITHDRAWAL
-  const [sortBy, setSortBy] = useState("date_desc"); // date_desc | date_asc | amt_desc | amt_asc
+  // 기간 필터 (yyyy-MM-dd, 서버에서 거른 뒤 최신순으로 페이지 단위 응답)
+  // 정렬/검색은 불러온 페이지만 대상으로 하면 결과가 틀리므로 서버 순서(최신순) 그대로 표시
+  const [fromDate, setFromDate] = useState("");
+  const [toDate, setToDate] = useState("");
 
   const krw = new Intl.NumberFormat("ko-KR", {
     style: "currency",
@@ -80,73 +83,70 @@ export default function Transaction() {
     }
   }, [accounts, location.search]);
 
-  // 3) 선택 계좌의 거래내역 로드 (계좌 ID 사용)
+  // 3) 선택 계좌의 거래내역 로드 (계좌 ID + 기간)
   useEffect(() => {
     if (!selectedAccountId) return;
+    if (fromDate && toDate && fromDate > toDate) {
+      setErrMsg("조회 기간이 올바르지 않습니다.");
+      setTransactions([]);
+      setNextCursor(null);
+      setLoading(false);
+      return;
+    }
     setLoading(true);
     setErrMsg("");
+    let stale = false; // 기간/계좌를 바꾼 뒤 늦게 도착한 이전 응답은 무시
 
     axios
-      .get(`/transactions/account/${encodeURIComponent(selectedAccountId)}`)
+      .get(`/transactions/account/${encodeURIComponent(selectedAccountId)}`, {
+        params: { size: PAGE_SIZE, from: fromDate || undefined, to: toDate || undefined },
+      })
       .then((res) => {
-        setTransactions(Array.isArray(res.data) ? res.data : []);
+        if (stale) return;
+        setTransactions(Array.isArray(res.data?.items) ? res.data.items : []);
+        setNextCursor(res.data?.nextCursor || null);
       })
       .catch((err) => {
+        if (stale) return;
         console.error("거래 내역 불러오기 실패:", err);
         const status = err?.response?.status;
-        if (status === 401) setErrMsg("로그인이 필요합니다.");
+        if (status === 400) setErrMsg("조회 조건이 올바르지 않습니다.");
+        else if (status === 401) setErrMsg("로그인이 필요합니다.");
         else if (status === 403) setErrMsg("접근 권한이 없습니다. (계좌 소유 확인)");
         else setErrMsg("거래 내역을 불러올 수 없습니다.");
       })
-      .finally(() => setLoading(false));
-  }, [selectedAccountId]);
-
-  // 4) 필터 & 정렬
-  const viewRows = useMemo(() => {
-    let rows = [...transactions];
-
-    const keyword = q.trim();
-    if (keyword) {
-      const lower = keyword.toLowerCase();
-      rows = rows.filter((t) => {
-        const memo = String(t.memo ?? "").toLowerCase();
-        const other = String(t.targetAccountNumber ?? "").toLowerCase();
-        return memo.includes(lower) || other.includes(lower);
+      .finally(() => {
+        if (!stale) setLoading(false);
       });
-    }
+    return () => {
+      stale = true;
+    };
+  }, [selectedAccountId, fromDate, toDate]);
 
-    if (typeFilter !== "ALL") {
-      rows = rows.filter(
-        (t) => t.type === typeFilter || t.type === mapKoreanType(typeFilter)
-      );
-    }
-
-    rows.sort((a, b) => {
-      const aAmt = Number(a.amount || 0);
-      const bAmt = Number(b.amount || 0);
-      const aDate = new Date(a.timestamp || a.transactionDate || 0).getTime();
-      const bDate = new Date(b.timestamp || b.transactionDate || 0).getTime();
-      switch (sortBy) {
-        case "date_asc":
-          return aDate - bDate;
-        case "amt_desc":
-          return bAmt - aAmt;
-        case "amt_asc":
-          return aAmt - bAmt;
-        case "date_desc":
-        default:
-          return bDate - aDate;
-      }
-    });
-
-    return rows;
-  }, [transactions, q, typeFilter, sortBy]);
-
-  function mapKoreanType(en) {
-    if (en === "DEPOSIT") return "입금";
-    if (en === "WITHDRAWAL") return "출금";
-    return en;
-  }
+  // 3-1) 이전 거래내역 더 불러오기 (keyset 페이지)
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    axios
+      .get(`/transactions/account/${encodeURIComponent(selectedAccountId)}`, {
+        params: {
+          size: PAGE_SIZE,
+          cursor: nextCursor,
+          from: fromDate || undefined,
+          to: toDate || undefined,
+        },
+      })
+      .then((res) => {
+        const items = Array.isArray(res.data?.items) ? res.data.items : [];
+        setTransactions((prev) => [...prev, ...items]);
+        setNextCursor(res.data?.nextCursor || null);
+      })
+      .catch((err) => {
+        console.error("거래 내역 더 불러오기 실패:", err);
+        setErrMsg("거래 내역을 더 불러올 수 없습니다.");
+      })
+      .finally(() => setLoadingMore(false));
+  };
 
   const Badge = ({ type }) => {
     const isIn = type === "입금" || type === "DEPOSIT";
@@ -196,50 +196,31 @@ export default function Transaction() {
               </select>
             </div>
 
-            {/* 검색 + 필터 + 정렬 */}
-            <div className="grid grid-cols-12 gap-2">
-              <div className="col-span-6">
+            {/* 기간 필터 (비우면 전체 기간) */}
+            <div className="grid grid-cols-2 gap-2">
+              <div>
                 <label className="block mb-1 text-sm font-semibold text-slate-800">
-                  검색
+                  시작일
                 </label>
-                <div className="relative">
-                  <AiOutlineSearch className="absolute left-3 top-2.5 text-slate-500" />
-                  <input
-                    value={q}
-                    onChange={(e) => setQ(e.target.value)}
-                    placeholder="메모/상대 계좌 검색"
-                    className="w-full pl-9 pr-3 py-2.5 rounded-lg bg-white border border-slate-200 text-slate-900 placeholder-slate-400 focus:outline-none focus:ring-2 focus:ring-sky-300 focus:border-transparent"
-                  />
-                </div>
-              </div>
-              <div className="col-span-3">
-                <label className="block mb-1 text-sm font-semibold text-slate-800">
-                  유형
-                </label>
-                <select
-                  value={typeFilter}
-                  onChange={(e) => setTypeFilter(e.target.value)}
+                <input
+                  type="date"
+                  value={fromDate}
+                  max={toDate || undefined}
+                  onChange={(e) => setFromDate(e.target.value)}
                   className="w-full py-2.5 px-2 rounded-lg bg-white border border-slate-200 text-slate-900 focus:outline-none focus:ring-2 focus:ring-sky-300 focus:border-transparent"
-                >
-                  <option value="ALL">전체</option>
-                  <option value="DEPOSIT">입금</option>
-                  <option value="WITHDRAWAL">출금</option>
-                </select>
+                />
               </div>
-              <div className="col-span-3">
+              <div>
                 <label className="block mb-1 text-sm font-semibold text-slate-800">
-                  정렬
+                  종료일
                 </label>
-                <select
-                  value={sortBy}
-                  onChange={(e) => setSortBy(e.target.value)}
+                <input
+                  type="date"
+                  value={toDate}
+                  min={fromDate || undefined}
+                  onChange={(e) => setToDate(e.target.value)}
                   className="w-full py-2.5 px-2 rounded-lg bg-white border border-slate-200 text-slate-900 focus:outline-none focus:ring-2 focus:ring-sky-300 focus:border-transparent"
-                >
-                  <option value="date_desc">최신 날짜</option>
-                  <option value="date_asc">오래된 날짜</option>
-                  <option value="amt_desc">금액 높은순</option>
-                  <option value="amt_asc">금액 낮은순</option>
-                </select>
+                />
               </div>
             </div>
           </div>
@@ -282,8 +263,8 @@ export default function Transaction() {
                 </tr>
               </thead>
               <tbody>
-                {viewRows.length > 0 ? (
-                  viewRows.map((tx) => {
+                {transactions.length > 0 ? (
+                  transactions.map((tx) => {
                     const isIn =
                       tx.type === "입금" || tx.type === "DEPOSIT";
                     return (
@@ -327,6 +308,18 @@ export default function Transaction() {
               </tbody>
             </table>
           )}
+          {!loading && nextCursor && (
+            <div className="p-4 text-center border-t border-slate-200">
+              <button
+                type="button"
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="px-4 py-2 rounded-lg border border-slate-300 text-sm text-slate-700 hover:bg-slate-50 disabled:opacity-50"
+              >
+                {loadingMore ? "불러오는 중..." : "이전 거래 더 보기"}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>